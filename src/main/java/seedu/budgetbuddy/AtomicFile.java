@@ -0,0 +1,103 @@
+package seedu.budgetbuddy;
+
+import seedu.budgetbuddy.util.LoggerSetup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.AclFileAttributeView;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.util.logging.Logger;
+
+/**
+ * The AtomicFile class replaces files so that a crash or a full disk never leaves a half written file behind.
+ *
+ * <p>The new contents are written to a temporary file in the same directory and forced to disk, and the
+ * temporary file is then moved over the original in a single step. Readers see either the old or the new
+ * contents, never a mix of both. The temporary file is created with the default permissions of new files, and
+ * takes over the permissions, group and ACL of the file it replaces, so replacing a file keeps its access.</p>
+ */
+public class AtomicFile {
+    private static final Logger LOGGER = LoggerSetup.getLogger();
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    /**
+     * Replaces the contents of the file at the given path, creating it if it does not exist.
+     *
+     * @param path The path of the file to replace.
+     * @param contents The new contents of the file.
+     * @throws IOException If the contents cannot be written. The original file is then left unchanged.
+     */
+    public static void write(Path path, byte[] contents) throws IOException {
+        Path target = path.toAbsolutePath();
+        Path directory = target.getParent();
+        Path temp = directory.resolve(target.getFileName() + "." + System.nanoTime() + TEMP_SUFFIX);
+        FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        try {
+            try (channel) {
+                ByteBuffer buffer = ByteBuffer.wrap(contents);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            copyAccess(target, temp);
+            move(temp, target);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        syncDirectory(directory);
+    }
+
+    /**
+     * Gives the temporary file the permissions, group and ACL of the file it is about to replace, if it exists.
+     * The group is kept only where the process is allowed to set it.
+     */
+    private static void copyAccess(Path target, Path temp) throws IOException {
+        if (!Files.exists(target)) {
+            return;
+        }
+        PosixFileAttributeView targetPosix = Files.getFileAttributeView(target, PosixFileAttributeView.class);
+        if (targetPosix != null) {
+            PosixFileAttributes attributes = targetPosix.readAttributes();
+            PosixFileAttributeView tempPosix = Files.getFileAttributeView(temp, PosixFileAttributeView.class);
+            tempPosix.setPermissions(attributes.permissions());
+            try {
+                tempPosix.setGroup(attributes.group());
+            } catch (IOException e) {
+                LOGGER.fine("Group of " + target + " cannot be kept: " + e.getMessage());
+            }
+        }
+        AclFileAttributeView targetAcl = Files.getFileAttributeView(target, AclFileAttributeView.class);
+        if (targetAcl != null) {
+            Files.getFileAttributeView(temp, AclFileAttributeView.class).setAcl(targetAcl.getAcl());
+        }
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            LOGGER.warning("Atomic move not supported, replacing " + target + " non-atomically");
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the directory entry of the moved file to disk, where the platform allows directories to be opened.
+     */
+    private static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            LOGGER.fine("Directory cannot be synced: " + e.getMessage());
+        }
+    }
+}
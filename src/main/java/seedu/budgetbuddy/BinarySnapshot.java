@@ -0,0 +1,242 @@
+package seedu.budgetbuddy;
+
+import seedu.budgetbuddy.transaction.Category;
+import seedu.budgetbuddy.transaction.budget.Budget;
+import seedu.budgetbuddy.transaction.budget.BudgetManager;
+import seedu.budgetbuddy.transaction.expense.Expense;
+import seedu.budgetbuddy.transaction.expense.ExpenseManager;
+import seedu.budgetbuddy.transaction.income.Income;
+import seedu.budgetbuddy.transaction.income.IncomeManager;
+import seedu.budgetbuddy.util.LoggerSetup;
+import seedu.budgetbuddy.util.Money;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+import java.util.zip.Checksum;
+
+/**
+ * The BinarySnapshot class reads and writes the compact binary form of the data file.
+ *
+ * <p>The file starts with a header of the magic number {@value #MAGIC} and a format version, followed by
+ * the expenses, incomes and budgets, each section prefixed with its number of records.
+ * Descriptions are stored as length-prefixed UTF-8, dates as epoch days, months as the number of months
+ * since year 0, amounts as whole cents and categories as their ordinal. Amounts are therefore rounded to
+ * the nearest cent. Since version 2, every record is followed by the CRC-32 of its bytes, so that a torn or
+ * corrupted record is detected when the file is loaded. Files of version 1 can still be read.</p>
+ */
+public class BinarySnapshot {
+    /** The first four bytes of every binary data file, "BBDS" in ASCII. */
+    public static final int MAGIC = 0x42424453;
+    /** The version of the format written by this class. */
+    public static final short VERSION = 2;
+
+    private static final short FIRST_CHECKSUMMED_VERSION = 2;
+
+    private static final Logger LOGGER = LoggerSetup.getLogger();
+    private static final Category[] CATEGORIES = Category.values();
+
+    /**
+     * Returns whether the given file is a binary data file, judging by its header.
+     *
+     * @param file The data file.
+     * @return true if the file starts with the binary header, false otherwise.
+     * @throws IOException If the file cannot be read.
+     */
+    public static boolean isBinary(File file) throws IOException {
+        if (file.length() < Integer.BYTES) {
+            return false;
+        }
+        try (DataInputStream in = new DataInputStream(new FileInputStream(file))) {
+            return in.readInt() == MAGIC;
+        }
+    }
+
+    /**
+     * Encodes the current expenses, incomes and budgets in the binary format.
+     *
+     * @return The contents of the binary data file.
+     */
+    public static byte[] encode() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        Checksum checksum = new CRC32();
+        try (DataOutputStream out = new DataOutputStream(new CheckedOutputStream(bytes, checksum))) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+
+            out.writeInt(ExpenseManager.getExpenses().size());
+            checksum.reset();
+            for (Expense expense : ExpenseManager.getExpenses()) {
+                writeString(out, expense.getDescription());
+                out.writeLong(expense.getAmountInCents());
+                out.writeLong(expense.getDate().toEpochDay());
+                out.writeByte(expense.getCategory().ordinal());
+                writeChecksum(out, checksum);
+            }
+
+            out.writeInt(IncomeManager.getIncomes().size());
+            checksum.reset();
+            for (Income income : IncomeManager.getIncomes()) {
+                writeString(out, income.getDescription());
+                out.writeLong(income.getAmountInCents());
+                out.writeLong(income.getDate().toEpochDay());
+                writeChecksum(out, checksum);
+            }
+
+            out.writeInt(BudgetManager.getBudgets().size());
+            checksum.reset();
+            for (Budget budget : BudgetManager.getBudgets()) {
+                out.writeInt(budget.getDate().getYear() * 12 + budget.getDate().getMonthValue() - 1);
+                Map<Category, Double> categoryBudgets = budget.getCategoryBudgets();
+                out.writeByte(categoryBudgets.size());
+                for (Category category : categoryBudgets.keySet()) {
+                    out.writeByte(category.ordinal());
+                    out.writeLong(budget.getCategoryBudgetInCents(category));
+                }
+                writeChecksum(out, checksum);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Writing to memory cannot fail", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Loads the expenses, incomes and budgets of a binary data file into the managers.
+     * A budget for a month that already has one is skipped, as when loading the text format.
+     *
+     * @param file The binary data file.
+     * @throws IOException If the file cannot be read, is not a valid binary data file or has a corrupted record.
+     */
+    public static void load(File file) throws IOException {
+        Checksum checksum = new CRC32();
+        try (DataInputStream in = new DataInputStream(new CheckedInputStream(
+                new BufferedInputStream(new FileInputStream(file)), checksum))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a binary data file: " + file.getAbsolutePath());
+            }
+            short version = in.readShort();
+            if (version < 1 || version > VERSION) {
+                throw new IOException("Unsupported binary data file version: " + version);
+            }
+            boolean isChecksummed = version >= FIRST_CHECKSUMMED_VERSION;
+
+            int numberOfExpenses = in.readInt();
+            checksum.reset();
+            for (int i = 0; i < numberOfExpenses; i++) {
+                String description = readString(in);
+                long cents = in.readLong();
+                LocalDate date = LocalDate.ofEpochDay(in.readLong());
+                Category category = readCategory(in);
+                verifyChecksum(in, checksum, isChecksummed, "expense " + (i + 1));
+                if (!Money.isInRange(cents)) {
+                    Ui.showMessage("Invalid Storage Format: expense " + (i + 1));
+                    continue;
+                }
+                ExpenseManager.loadExpense(new Expense(description, Money.toAmount(cents), date, category));
+            }
+
+            int numberOfIncomes = in.readInt();
+            checksum.reset();
+            for (int i = 0; i < numberOfIncomes; i++) {
+                String description = readString(in);
+                long cents = in.readLong();
+                LocalDate date = LocalDate.ofEpochDay(in.readLong());
+                verifyChecksum(in, checksum, isChecksummed, "income " + (i + 1));
+                if (!Money.isInRange(cents)) {
+                    Ui.showMessage("Invalid Storage Format: income " + (i + 1));
+                    continue;
+                }
+                IncomeManager.loadIncome(new Income(description, Money.toAmount(cents), date));
+            }
+
+            int numberOfBudgets = in.readInt();
+            checksum.reset();
+            for (int i = 0; i < numberOfBudgets; i++) {
+                int months = in.readInt();
+                YearMonth date = YearMonth.of(Math.floorDiv(months, 12), Math.floorMod(months, 12) + 1);
+                int numberOfCategories = in.readUnsignedByte();
+                Budget budget = new Budget(date);
+                boolean isInRange = true;
+                for (int j = 0; j < numberOfCategories; j++) {
+                    Category category = readCategory(in);
+                    long cents = in.readLong();
+                    isInRange = isInRange && Money.isInRange(cents);
+                    if (isInRange) {
+                        budget.addAmount(category, Money.toAmount(cents));
+                    }
+                }
+                verifyChecksum(in, checksum, isChecksummed, "budget " + (i + 1));
+                if (!isInRange) {
+                    Ui.showMessage("Invalid Storage Format: budget " + (i + 1));
+                    continue;
+                }
+                if (BudgetManager.getBudget(date) != null) {
+                    Ui.showMessage("Repeated budget entry: " + date);
+                    continue;
+                }
+                BudgetManager.addBudget(budget);
+            }
+        }
+        LOGGER.info("Binary data loaded from " + file.getAbsolutePath());
+    }
+
+    /**
+     * Ends a record with the checksum of the bytes written since the previous record.
+     */
+    private static void writeChecksum(DataOutputStream out, Checksum checksum) throws IOException {
+        out.writeInt((int) checksum.getValue());
+        checksum.reset();
+    }
+
+    /**
+     * Checks the checksum that ends a record against the bytes read since the previous record.
+     */
+    private static void verifyChecksum(DataInputStream in, Checksum checksum, boolean isChecksummed, String record)
+            throws IOException {
+        if (!isChecksummed) {
+            return;
+        }
+        int expected = (int) checksum.getValue();
+        if (in.readInt() != expected) {
+            throw new IOException("Corrupted " + record + " in binary data file");
+        }
+        checksum.reset();
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            throw new IOException("Invalid description length: " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static Category readCategory(DataInputStream in) throws IOException {
+        int ordinal = in.readUnsignedByte();
+        if (ordinal >= CATEGORIES.length) {
+            throw new IOException("Invalid category: " + ordinal);
+        }
+        return CATEGORIES[ordinal];
+    }
+}
@@ -3,6 +3,7 @@ package seedu.budgetbuddy;
 import seedu.budgetbuddy.commands.Command;
 import seedu.budgetbuddy.commands.ExitCommand;
 import seedu.budgetbuddy.exceptions.BudgetBuddyException;
+import seedu.budgetbuddy.graphs.ChartExporter;
 import seedu.budgetbuddy.transaction.budget.BudgetManager;
 import seedu.budgetbuddy.transaction.expense.ExpenseManager;
 import seedu.budgetbuddy.transaction.income.IncomeManager;
@@ -17,6 +18,7 @@ import java.io.IOException;
  * changes to a file. It processes user commands until the exit command is invoked.
  */
 public class BudgetBuddy {
+    private static final String PARTITIONED_PROPERTY = "budgetbuddy.partitioned";
     private Storage storage;
     private ExpenseManager expenseManager;
     private IncomeManager incomeManager;
@@ -25,11 +27,13 @@ public class BudgetBuddy {
     /**
      * Constructs a new BudgetBuddy instance, initializing file storage and loading saved data.
      * It attempts to create a file if it does not exist and loads data from the provided file path.
+     * The data is stored in monthly partitions instead if the {@value #PARTITIONED_PROPERTY} system property is set.
      *
      * @param filepath The path to the file where expenses, incomes, and budgets are stored.
      */
     public BudgetBuddy(String filepath) {
-        storage = new Storage(filepath);
+        storage = new Storage(filepath, true);
+        storage.setPartitioned(Boolean.getBoolean(PARTITIONED_PROPERTY));
 
         expenseManager = new ExpenseManager();
         incomeManager = new IncomeManager();
@@ -72,6 +76,11 @@ public class BudgetBuddy {
                 System.out.println("An error has occurred");
             }
         } while (!(command instanceof ExitCommand));
+        try {
+            storage.close(expenseManager, incomeManager, budgetManager);
+        } catch (IOException e) {
+            Ui.showMessage("Error updating File");
+        }
         System.exit(0);
     }
 
@@ -82,6 +91,7 @@ public class BudgetBuddy {
      * @param args Command-line arguments (not used).
      */
     public static void main(String[] args) {
+        ChartExporter.useHeadlessModeWithoutDisplay();
         new BudgetBuddy("./data/BudgetBuddy.txt").run();
     }
 }
@@ -0,0 +1,399 @@
+package seedu.budgetbuddy;
+
+import seedu.budgetbuddy.transaction.Transaction;
+import seedu.budgetbuddy.transaction.budget.Budget;
+import seedu.budgetbuddy.transaction.budget.BudgetManager;
+import seedu.budgetbuddy.transaction.expense.Expense;
+import seedu.budgetbuddy.transaction.expense.ExpenseManager;
+import seedu.budgetbuddy.transaction.income.Income;
+import seedu.budgetbuddy.transaction.income.IncomeManager;
+import seedu.budgetbuddy.util.DateCodec;
+import seedu.budgetbuddy.util.LoggerSetup;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+/**
+ * The Journal class records every mutation of the expense, income and budget data as a small
+ * append-only entry, so that a command only costs the size of its change to persist.
+ * Entries are replayed on top of the last snapshot when the application starts, and the journal
+ * is emptied whenever {@link Storage} compacts it into a new snapshot. Entries are written to disk by a
+ * {@link StorageWriter} in the background.
+ *
+ * <p>Each entry is a snapshot line prefixed with an operation marker:
+ * {@code +} adds a transaction, {@code -} deletes the transaction or budget given after the type,
+ * {@code ~} replaces the transaction at the given index and {@code =} replaces a whole budget.
+ * Every entry ends with {@value #CHECKSUM_SEPARATOR} and the CRC-32 of the rest of the entry in hexadecimal,
+ * so that an entry torn by a crash is detected when the journal is replayed.</p>
+ *
+ * <p>Before a snapshot replaces the data file, a {@code !} entry holding the CRC-32 of the snapshot is appended,
+ * and the journal is only emptied after the data file was replaced. If the application stops in between, the data
+ * file on disk matches the marker, so the entries before the marker are already part of it and are skipped.</p>
+ */
+public class Journal {
+    private static final Logger LOGGER = LoggerSetup.getLogger();
+    private static final String ADD = "+ ";
+    private static final String DELETE = "- ";
+    private static final String EDIT = "~ ";
+    private static final String REPLACE = "= ";
+    private static final String SNAPSHOT = "! ";
+    private static final String DELIMITER = " | ";
+    private static final String CHECKSUM_SEPARATOR = " #";
+    private static final int CHECKSUM_LENGTH = 8;
+
+    private static StorageWriter writer;
+    private static int numberOfEntries = 0;
+
+    /**
+     * Starts recording entries through the given writer. Until this is called, every record method is a
+     * no-op, which keeps loading and unit tests from writing entries. Entries counted by a preceding
+     * {@link #replay(String)} are kept, as they are still in the file.
+     *
+     * @param storageWriter The writer that appends entries to the journal file.
+     * @throws IOException If the previous writer failed to write its entries.
+     */
+    public static void open(StorageWriter storageWriter) throws IOException {
+        StorageWriter previous = writer;
+        writer = storageWriter;
+        if (previous != null) {
+            previous.close();
+        }
+        LOGGER.info("Journal opened");
+    }
+
+    /**
+     * Returns whether the journal is currently accepting entries.
+     *
+     * @return true if the journal is open, false otherwise.
+     */
+    public static boolean isOpen() {
+        return writer != null;
+    }
+
+    /**
+     * Returns the number of entries written since the journal was last truncated.
+     *
+     * @return The number of entries in the journal.
+     */
+    public static int getNumberOfEntries() {
+        return numberOfEntries;
+    }
+
+    /**
+     * Records an added expense or income.
+     *
+     * @param transaction The transaction that was added.
+     */
+    public static void recordAddition(Transaction transaction) {
+        write(ADD + Storage.getString(transaction));
+    }
+
+    /**
+     * Records the deletion of the expense at the given index.
+     *
+     * @param index The index the expense had before it was deleted.
+     */
+    public static void recordExpenseDeletion(int index) {
+        write(DELETE + "expense" + DELIMITER + index);
+    }
+
+    /**
+     * Records the deletion of the income at the given index.
+     *
+     * @param index The index the income had before it was deleted.
+     */
+    public static void recordIncomeDeletion(int index) {
+        write(DELETE + "income" + DELIMITER + index);
+    }
+
+    /**
+     * Records the new state of an edited expense or income.
+     *
+     * @param transaction The transaction after the edit.
+     * @param index The index of the transaction in its manager.
+     */
+    public static void recordEdit(Transaction transaction, int index) {
+        write(EDIT + Storage.getString(transaction).replaceFirst(" \\| ", DELIMITER + index + DELIMITER));
+    }
+
+    /**
+     * Records the full state of a budget that was created or changed.
+     *
+     * @param budget The budget after the change.
+     */
+    public static void recordBudget(Budget budget) {
+        write(REPLACE + Storage.getString(budget.getTotalMonthlyBudget(), budget.getDate(),
+                budget.getCategoryBudgets()));
+    }
+
+    /**
+     * Records the deletion of the budget for the given month.
+     *
+     * @param date The month of the deleted budget.
+     */
+    public static void recordBudgetDeletion(YearMonth date) {
+        write(DELETE + "budget" + DELIMITER + DateCodec.formatStorageMonth(date));
+    }
+
+    /**
+     * Queues an entry to be written to the journal if it is open.
+     *
+     * @param entry The journal entry.
+     */
+    private static void write(String entry) {
+        if (writer == null) {
+            return;
+        }
+        writer.append(entry + CHECKSUM_SEPARATOR + checksum(entry));
+        numberOfEntries++;
+    }
+
+    private static String checksum(String entry) {
+        return checksum(entry.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String checksum(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return String.format("%08x", crc.getValue());
+    }
+
+    /**
+     * Returns the journal line that marks the snapshot with the given contents, which is appended to the journal
+     * before the snapshot replaces the data file.
+     *
+     * @param contents The contents of the snapshot.
+     * @return The marker line, with its checksum.
+     */
+    static String getSnapshotMarker(byte[] contents) {
+        String entry = SNAPSHOT + checksum(contents);
+        return entry + CHECKSUM_SEPARATOR + checksum(entry);
+    }
+
+    /**
+     * Returns the CRC-32 of the file in hexadecimal, or {@code null} if it does not exist.
+     */
+    private static String checksumOfFile(File file) throws IOException {
+        if (!file.exists()) {
+            return null;
+        }
+        CRC32 crc = new CRC32();
+        try (CheckedInputStream in = new CheckedInputStream(new FileInputStream(file), crc)) {
+            byte[] buffer = new byte[1 << 16];
+            while (in.read(buffer) >= 0) {
+                // Read to the end of the file to update the checksum
+            }
+        }
+        return String.format("%08x", crc.getValue());
+    }
+
+    /**
+     * Returns the entry without its checksum, or {@code null} if the checksum is missing or does not match.
+     */
+    private static String verify(String line) {
+        int separator = line.length() - CHECKSUM_LENGTH - CHECKSUM_SEPARATOR.length();
+        if (separator < 0 || !line.startsWith(CHECKSUM_SEPARATOR, separator)) {
+            return null;
+        }
+        String entry = line.substring(0, separator);
+        return checksum(entry).equals(line.substring(separator + CHECKSUM_SEPARATOR.length())) ? entry : null;
+    }
+
+    /**
+     * Queues a snapshot of all data to replace the data file, after which the journal is emptied.
+     * The snapshot is queued behind the entries recorded so far, so none of them are lost.
+     *
+     * @param contents The contents of the data file.
+     */
+    public static void recordSnapshot(byte[] contents) {
+        if (writer == null) {
+            return;
+        }
+        writer.writeSnapshot(contents);
+        numberOfEntries = 0;
+    }
+
+    /**
+     * Reports the failure of an earlier background write, if any, without waiting for queued entries.
+     *
+     * @throws IOException If a background write has failed.
+     */
+    public static void checkError() throws IOException {
+        if (writer != null) {
+            writer.checkError();
+        }
+    }
+
+    /**
+     * Waits until every recorded entry has been written to the journal file.
+     *
+     * @throws IOException If the entries cannot be written.
+     */
+    public static void flush() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    /**
+     * Writes the remaining entries and closes the journal. Subsequent record calls are ignored
+     * until it is opened again.
+     *
+     * @throws IOException If queued entries cannot be written.
+     */
+    public static void close() throws IOException {
+        StorageWriter previous = writer;
+        writer = null;
+        numberOfEntries = 0;
+        if (previous != null) {
+            previous.close();
+        }
+    }
+
+    /**
+     * Replays every entry of the journal file on top of the data already loaded.
+     * Must be called before the journal is opened so that replayed changes are not recorded again.
+     * Replaying stops at the first entry whose checksum does not match, as later entries may depend on it,
+     * and the journal is cut back to the entries before it so that new entries are not appended after it.
+     * Entries before a snapshot marker that matches the data file are skipped and cut from the journal, as the
+     * snapshot already contains them.
+     *
+     * @param path The path of the journal file.
+     * @param dataPath The path of the data file the journal was recorded on top of.
+     * @return The number of entries replayed.
+     * @throws IOException If the journal file cannot be read.
+     */
+    public static int replay(String path, String dataPath) throws IOException {
+        assert writer == null : "Journal must be closed while replaying";
+        File file = new File(path);
+        if (!file.exists()) {
+            return 0;
+        }
+        List<String> lines = Files.readAllLines(file.toPath(), Charset.defaultCharset());
+        List<String> entries = new ArrayList<>();
+        String dataChecksum = null;
+        int start = 0;
+        int end = lines.size();
+        for (int i = 0; i < lines.size(); i++) {
+            if (lines.get(i).isBlank()) {
+                continue;
+            }
+            String entry = verify(lines.get(i));
+            if (entry == null) {
+                LOGGER.warning("Journal entry " + (i + 1) + " is torn or corrupted, dropping it and "
+                        + (lines.size() - i - 1) + " later entries");
+                Ui.showMessage("Corrupted Journal Entry: " + lines.get(i));
+                end = i;
+                break;
+            }
+            if (!entry.startsWith(SNAPSHOT)) {
+                entries.add(entry);
+                continue;
+            }
+            if (dataChecksum == null) {
+                dataChecksum = checksumOfFile(new File(dataPath));
+            }
+            if (entry.substring(SNAPSHOT.length()).equals(dataChecksum)) {
+                LOGGER.warning("Snapshot was written without emptying the journal, skipping " + entries.size()
+                        + " entries it already contains");
+                entries.clear();
+                start = i + 1;
+            }
+        }
+        if (start > 0 || end < lines.size()) {
+            rewrite(file, lines.subList(start, end));
+        }
+
+        int replayed = 0;
+        for (String entry : entries) {
+            try {
+                apply(entry);
+                replayed++;
+            } catch (RuntimeException e) {
+                Ui.showMessage("Invalid Journal Entry: " + entry);
+            }
+        }
+        numberOfEntries = replayed;
+        LOGGER.info("Replayed " + replayed + " journal entries from " + path);
+        return replayed;
+    }
+
+    private static void rewrite(File file, List<String> validLines) throws IOException {
+        StringBuilder contents = new StringBuilder();
+        for (String line : validLines) {
+            contents.append(line).append(System.lineSeparator());
+        }
+        AtomicFile.write(file.toPath(), contents.toString().getBytes(Charset.defaultCharset()));
+    }
+
+    /**
+     * Applies a single journal entry to the managers.
+     *
+     * @param entry The journal entry.
+     */
+    private static void apply(String entry) {
+        String operation = entry.substring(0, 2);
+        String record = entry.substring(2);
+        String[] parts = record.split(" \\| ");
+        switch (operation) {
+        case ADD:
+            Parser.parseFile(record);
+            break;
+        case REPLACE:
+            BudgetManager.removeBudget(DateCodec.parseStorageMonth(parts[2]));
+            Parser.parseFile(record);
+            break;
+        case DELETE:
+            applyDeletion(parts);
+            break;
+        case EDIT:
+            applyEdit(parts);
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown journal operation: " + operation);
+        }
+    }
+
+    private static void applyDeletion(String[] parts) {
+        switch (parts[0]) {
+        case "expense":
+            ExpenseManager.removeExpense(Integer.parseInt(parts[1]));
+            break;
+        case "income":
+            IncomeManager.removeIncome(Integer.parseInt(parts[1]));
+            break;
+        case "budget":
+            BudgetManager.removeBudget(DateCodec.parseStorageMonth(parts[1]));
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown journal type: " + parts[0]);
+        }
+    }
+
+    private static void applyEdit(String[] parts) {
+        int index = Integer.parseInt(parts[1]);
+        StringBuilder record = new StringBuilder(parts[0]);
+        for (int i = 2; i < parts.length; i++) {
+            record.append(DELIMITER).append(parts[i]);
+        }
+        Transaction edited = Parser.parseTransaction(record.toString());
+        if (edited instanceof Expense expense) {
+            ExpenseManager.editExpense(ExpenseManager.getExpenseByIndex(index), expense.getCategory(),
+                    expense.getDate(), expense.getAmount());
+        } else if (edited instanceof Income income) {
+            IncomeManager.editIncome(IncomeManager.getIncomeByIndex(index), income.getDate(), income.getAmount());
+        } else {
+            throw new IllegalArgumentException("Invalid edited record: " + record);
+        }
+    }
+}
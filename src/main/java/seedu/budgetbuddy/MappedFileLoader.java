@@ -0,0 +1,437 @@
+package seedu.budgetbuddy;
+
+import seedu.budgetbuddy.transaction.Category;
+import seedu.budgetbuddy.transaction.expense.Expense;
+import seedu.budgetbuddy.transaction.expense.ExpenseManager;
+import seedu.budgetbuddy.transaction.income.Income;
+import seedu.budgetbuddy.transaction.income.IncomeManager;
+import seedu.budgetbuddy.util.LoggerSetup;
+import seedu.budgetbuddy.util.Money;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.logging.Logger;
+
+/**
+ * The MappedFileLoader class loads a data file in the text format by mapping it into memory and
+ * decoding the fields of each record straight from the mapped bytes, instead of reading it line by line
+ * with a {@link java.util.Scanner} and splitting every line with a regex.
+ *
+ * <p>Well-formed expense and income records are decoded without building a string for the line.
+ * Any other line, such as a budget or a malformed record, is handed to {@link Parser#parseFile(String)},
+ * so the result and the error messages are the same as those of the line-by-line loader.</p>
+ *
+ * <p>In parallel mode, the mapped file is split into line-aligned chunks that are decoded on the
+ * fork-join pool. Each chunk keeps its records in a buffer, and the buffers are added to the managers
+ * in file order on the calling thread, so indices, duplicate budget detection and error messages are
+ * the same as when loading on one thread.</p>
+ */
+public class MappedFileLoader {
+    private static final Logger LOGGER = LoggerSetup.getLogger();
+    private static final long MAX_WINDOW_SIZE = Integer.MAX_VALUE;
+    private static final byte[] EXPENSE = "expense".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] INCOME = "income".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[][] CATEGORY_NAMES = getCategoryNames();
+    private static final Category[] CATEGORIES = Category.values();
+    private static final int MAX_MANTISSA_DIGITS = 15;
+    private static final double[] POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+        1e11, 1e12, 1e13, 1e14, 1e15};
+    private static final int MAX_FIELDS = 5;
+    private static final int MIN_CHUNK_SIZE = 1 << 20;
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private final MappedByteBuffer buffer;
+    private final Charset charset;
+    private final int start;
+    private final int end;
+    private final int[] fieldStarts = new int[MAX_FIELDS + 1];
+    private final int[] fieldEnds = new int[MAX_FIELDS + 1];
+    /** The decoded expenses and incomes of the chunk, and the lines left to the parser, in file order. */
+    private final ArrayList<Object> records = new ArrayList<>();
+    private long numberOfLines = 0;
+
+    private MappedFileLoader(MappedByteBuffer buffer, Charset charset, int start, int end) {
+        this.buffer = buffer;
+        this.charset = charset;
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Returns whether files in the given charset can be loaded by this class. Record delimiters are
+     * searched for as single bytes, so the charset must encode ASCII characters as themselves.
+     *
+     * @param charset The charset of the data file.
+     * @return true if the charset is supported, false otherwise.
+     */
+    public static boolean isSupported(Charset charset) {
+        return charset.equals(StandardCharsets.UTF_8) || charset.equals(StandardCharsets.US_ASCII)
+                || charset.equals(StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Loads every record of a text data file into the managers on the calling thread.
+     *
+     * @param file The data file, in the platform's default charset.
+     * @return The number of lines read.
+     * @throws IOException If the file cannot be mapped.
+     */
+    public static long load(File file) throws IOException {
+        return load(file, false);
+    }
+
+    /**
+     * Loads every record of a text data file into the managers.
+     *
+     * @param file The data file, in the platform's default charset.
+     * @param isParallel true to decode the file in chunks on the fork-join pool.
+     * @return The number of lines read.
+     * @throws IOException If the file cannot be mapped.
+     */
+    public static long load(File file, boolean isParallel) throws IOException {
+        assert isSupported(Charset.defaultCharset()) : "Charset must be ASCII compatible";
+        long numberOfLines = 0;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+            // Map the file in windows, starting each window at the first line not loaded by the previous one
+            while (position < size) {
+                long windowSize = Math.min(size - position, MAX_WINDOW_SIZE);
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, windowSize);
+                boolean isLastWindow = position + windowSize == size;
+                int limit = isLastWindow ? (int) windowSize : getEndOfLastLine(buffer, (int) windowSize);
+                if (limit == 0) {
+                    throw new IOException("Line too long at offset " + position);
+                }
+                numberOfLines += loadWindow(buffer, limit, isParallel);
+                position += limit;
+            }
+        }
+        LOGGER.info("Mapped " + numberOfLines + " lines from " + file.getAbsolutePath()
+                + (isParallel ? " in parallel" : ""));
+        return numberOfLines;
+    }
+
+    /**
+     * Returns the end of the last complete line in the buffer, or 0 if there is none.
+     */
+    private static int getEndOfLastLine(MappedByteBuffer buffer, int limit) {
+        for (int i = limit - 1; i >= 0; i--) {
+            byte b = buffer.get(i);
+            // A '\r' at the very end may be followed by a '\n' in the next window
+            if (b == '\n' || (b == '\r' && i < limit - 1)) {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Decodes the lines of a window, in line-aligned chunks on the fork-join pool if requested,
+     * and adds their records to the managers in file order.
+     *
+     * @return The number of lines loaded.
+     */
+    private static long loadWindow(MappedByteBuffer buffer, int limit, boolean isParallel) {
+        Charset charset = Charset.defaultCharset();
+        ArrayList<MappedFileLoader> chunks = new ArrayList<>();
+        int numberOfChunks = 1;
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        if (isParallel && parallelism > 1) {
+            int maxChunks = parallelism * CHUNKS_PER_THREAD;
+            numberOfChunks = Math.max(1, Math.min(maxChunks, limit / MIN_CHUNK_SIZE));
+        }
+        int chunkStart = 0;
+        for (int i = 1; i <= numberOfChunks && chunkStart < limit; i++) {
+            int target = (int) ((long) limit * i / numberOfChunks);
+            int chunkEnd = i == numberOfChunks ? limit : getStartOfNextLine(buffer, target, limit);
+            if (chunkEnd > chunkStart) {
+                chunks.add(new MappedFileLoader(buffer, charset, chunkStart, chunkEnd));
+            }
+            chunkStart = chunkEnd;
+        }
+
+        if (chunks.size() > 1) {
+            ArrayList<RecursiveAction> tasks = new ArrayList<>();
+            for (MappedFileLoader chunk : chunks) {
+                tasks.add(new RecursiveAction() {
+                    @Override
+                    protected void compute() {
+                        chunk.decodeLines();
+                    }
+                });
+            }
+            ForkJoinTask.invokeAll(tasks);
+        } else {
+            for (MappedFileLoader chunk : chunks) {
+                chunk.decodeLines();
+            }
+        }
+
+        long numberOfLines = 0;
+        for (MappedFileLoader chunk : chunks) {
+            chunk.addRecords();
+            numberOfLines += chunk.numberOfLines;
+        }
+        return numberOfLines;
+    }
+
+    /**
+     * Returns the position just after the first '\n' at or after the given position, or the limit if there
+     * is none.
+     */
+    private static int getStartOfNextLine(MappedByteBuffer buffer, int position, int limit) {
+        for (int i = position; i < limit; i++) {
+            if (buffer.get(i) == '\n') {
+                return i + 1;
+            }
+        }
+        return limit;
+    }
+
+    /**
+     * Decodes every line of the chunk into its buffer of records.
+     */
+    private void decodeLines() {
+        int lineStart = start;
+        int index = start;
+        while (index < end) {
+            byte b = buffer.get(index);
+            if (b != '\n' && b != '\r') {
+                index++;
+                continue;
+            }
+            decodeLine(lineStart, index);
+            index++;
+            if (b == '\r' && index < end && buffer.get(index) == '\n') {
+                index++;
+            }
+            lineStart = index;
+        }
+        if (lineStart < end) {
+            decodeLine(lineStart, end);
+        }
+    }
+
+    private void decodeLine(int lineStart, int lineEnd) {
+        numberOfLines++;
+        if (!decodeRecord(lineStart, lineEnd)) {
+            records.add(decode(lineStart, lineEnd));
+        }
+    }
+
+    /**
+     * Adds the decoded records of the chunk to the managers, and parses the remaining lines.
+     */
+    private void addRecords() {
+        for (Object record : records) {
+            if (record instanceof Expense expense) {
+                ExpenseManager.loadExpense(expense);
+            } else if (record instanceof Income income) {
+                IncomeManager.loadIncome(income);
+            } else {
+                Parser.parseFile((String) record);
+            }
+        }
+        records.clear();
+    }
+
+    /**
+     * Decodes a well-formed expense or income record straight from the buffer. A record with an amount above
+     * {@link Money#MAX_CENTS} is left to the parser, which reports it as an invalid record.
+     *
+     * @return true if the record was decoded, false if it must be parsed by {@link Parser}.
+     */
+    private boolean decodeRecord(int start, int end) {
+        int numberOfFields = splitFields(start, end);
+        if (numberOfFields == 5 && matches(fieldStarts[0], fieldEnds[0], EXPENSE)) {
+            double amount = parseAmount(fieldStarts[2], fieldEnds[2]);
+            LocalDate date = parseDate(fieldStarts[3], fieldEnds[3]);
+            Category category = parseCategory(fieldStarts[4], fieldEnds[4]);
+            if (!isValidAmount(amount) || date == null || category == null) {
+                return false;
+            }
+            records.add(new Expense(decode(fieldStarts[1], fieldEnds[1]), amount, date, category));
+            return true;
+        }
+        if (numberOfFields == 4 && matches(fieldStarts[0], fieldEnds[0], INCOME)) {
+            double amount = parseAmount(fieldStarts[2], fieldEnds[2]);
+            LocalDate date = parseDate(fieldStarts[3], fieldEnds[3]);
+            if (!isValidAmount(amount) || date == null) {
+                return false;
+            }
+            records.add(new Income(decode(fieldStarts[1], fieldEnds[1]), amount, date));
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean isValidAmount(double amount) {
+        return amount >= 0 && Money.isInRange(Math.round(amount * 100));
+    }
+
+    /**
+     * Splits the line on the " | " delimiter.
+     *
+     * @return The number of fields, or -1 if the line has more fields than any record or an empty last field.
+     */
+    private int splitFields(int start, int end) {
+        int numberOfFields = 0;
+        int fieldStart = start;
+        for (int i = start; i + 2 < end; i++) {
+            if (buffer.get(i) == ' ' && buffer.get(i + 1) == '|' && buffer.get(i + 2) == ' ') {
+                if (numberOfFields == MAX_FIELDS) {
+                    return -1;
+                }
+                fieldStarts[numberOfFields] = fieldStart;
+                fieldEnds[numberOfFields] = i;
+                numberOfFields++;
+                fieldStart = i + 3;
+                i += 2;
+            }
+        }
+        if (numberOfFields == MAX_FIELDS || fieldStart == end) {
+            return -1;
+        }
+        fieldStarts[numberOfFields] = fieldStart;
+        fieldEnds[numberOfFields] = end;
+        return numberOfFields + 1;
+    }
+
+    private boolean matches(int start, int end, byte[] expected) {
+        if (end - start != expected.length) {
+            return false;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if (buffer.get(start + i) != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parses a plain decimal amount such as {@code 12.5}. The result is exactly what
+     * {@link Double#parseDouble(String)} returns, as both the digits and the power of ten are exact doubles.
+     *
+     * @return The amount, or -1 if it is not a plain decimal this method can parse exactly.
+     */
+    private double parseAmount(int start, int end) {
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = 0;
+        boolean isFraction = false;
+        for (int i = start; i < end; i++) {
+            byte b = buffer.get(i);
+            if (b == '.' && !isFraction) {
+                isFraction = true;
+                continue;
+            }
+            if (b < '0' || b > '9' || digits == MAX_MANTISSA_DIGITS) {
+                return -1;
+            }
+            mantissa = mantissa * 10 + (b - '0');
+            digits++;
+            if (isFraction) {
+                fractionDigits++;
+            }
+        }
+        if (digits == 0) {
+            return -1;
+        }
+        return mantissa / POWERS_OF_TEN[fractionDigits];
+    }
+
+    /**
+     * Parses a date in the d/M/yyyy format.
+     *
+     * @return The date, or null if it cannot be parsed here. Days after the 28th are left to the formatter,
+     *         which adjusts days past the end of the month.
+     */
+    private LocalDate parseDate(int start, int end) {
+        int index = start;
+        int day = 0;
+        int dayDigits = 0;
+        while (index < end && buffer.get(index) != '/') {
+            day = day * 10 + digit(index++);
+            dayDigits++;
+        }
+        index++;
+        int month = 0;
+        int monthDigits = 0;
+        while (index < end && buffer.get(index) != '/') {
+            month = month * 10 + digit(index++);
+            monthDigits++;
+        }
+        index++;
+        if (index + 4 != end || dayDigits < 1 || dayDigits > 2 || monthDigits < 1 || monthDigits > 2) {
+            return null;
+        }
+        int year = 0;
+        while (index < end) {
+            year = year * 10 + digit(index++);
+        }
+        if (day < 1 || day > 28 || month < 1 || month > 12 || year < 1) {
+            return null;
+        }
+        return LocalDate.of(year, month, day);
+    }
+
+    /**
+     * Returns the value of the digit at the given index, or a large negative number if it is not a digit,
+     * which makes the value being parsed out of range.
+     */
+    private int digit(int index) {
+        byte b = buffer.get(index);
+        if (b < '0' || b > '9') {
+            return -100_000;
+        }
+        return b - '0';
+    }
+
+    private Category parseCategory(int start, int end) {
+        for (int c = 0; c < CATEGORY_NAMES.length; c++) {
+            byte[] name = CATEGORY_NAMES[c];
+            if (end - start != name.length) {
+                continue;
+            }
+            boolean isMatch = true;
+            for (int i = 0; i < name.length && isMatch; i++) {
+                byte b = buffer.get(start + i);
+                if (b >= 'a' && b <= 'z') {
+                    b -= 'a' - 'A';
+                }
+                isMatch = b == name[i];
+            }
+            if (isMatch) {
+                return CATEGORIES[c];
+            }
+        }
+        return null;
+    }
+
+    private String decode(int start, int end) {
+        byte[] bytes = new byte[end - start];
+        buffer.get(start, bytes);
+        return new String(bytes, charset);
+    }
+
+    private static byte[][] getCategoryNames() {
+        Category[] categories = Category.values();
+        byte[][] names = new byte[categories.length][];
+        for (int i = 0; i < categories.length; i++) {
+            names[i] = categories[i].name().getBytes(StandardCharsets.US_ASCII);
+        }
+        return names;
+    }
+}
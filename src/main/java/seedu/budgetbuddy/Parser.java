@@ -6,17 +6,18 @@ import seedu.budgetbuddy.commands.expense.DeleteExpenseCommand;
 import seedu.budgetbuddy.commands.expense.AddExpenseCommand;
 import seedu.budgetbuddy.commands.expense.DisplayExpensesForMonthWithCategoriesGraphCommand;
 import seedu.budgetbuddy.commands.expense.EditExpenseCommand;
+import seedu.budgetbuddy.commands.expense.ExportExpensesWithCategoriesGraphCommand;
 import seedu.budgetbuddy.commands.expense.SearchExpenseCommand;
 import seedu.budgetbuddy.commands.expense.ListExpenseCommand;
 import seedu.budgetbuddy.commands.expense.DisplayTotalExpensesCommand;
 import seedu.budgetbuddy.commands.income.AddIncomeCommand;
 import seedu.budgetbuddy.commands.budget.AddBudgetCommand;
 import seedu.budgetbuddy.commands.Command;
+import seedu.budgetbuddy.commands.CommandRegistry;
 import seedu.budgetbuddy.commands.budget.DeductBudgetCommand;
 import seedu.budgetbuddy.commands.income.DeleteIncomeCommand;
 import seedu.budgetbuddy.commands.ExitCommand;
 import seedu.budgetbuddy.commands.HelpCommand;
-import seedu.budgetbuddy.commands.IncorrectCommand;
 import seedu.budgetbuddy.commands.budget.ListBudgetCommand;
 import seedu.budgetbuddy.commands.income.DisplayIncomeSpentCommand;
 import seedu.budgetbuddy.commands.income.EditIncomeCommand;
@@ -26,12 +27,14 @@ import seedu.budgetbuddy.exceptions.BudgetBuddyException;
 import seedu.budgetbuddy.transaction.budget.Budget;
 import seedu.budgetbuddy.transaction.budget.BudgetManager;
 import seedu.budgetbuddy.transaction.Category;
+import seedu.budgetbuddy.transaction.Transaction;
 import seedu.budgetbuddy.transaction.expense.Expense;
 import seedu.budgetbuddy.transaction.expense.ExpenseManager;
 import seedu.budgetbuddy.transaction.income.Income;
 import seedu.budgetbuddy.transaction.income.IncomeManager;
 import seedu.budgetbuddy.validators.expense.DisplayExpensesForMonthWithCategoriesValidator;
 import seedu.budgetbuddy.validators.expense.EditExpenseValidator;
+import seedu.budgetbuddy.validators.expense.ExportExpensesWithCategoriesValidator;
 import seedu.budgetbuddy.validators.expense.ListExpenseValidator;
 import seedu.budgetbuddy.validators.income.AddIncomeValidator;
 import seedu.budgetbuddy.validators.budget.AddBudgetValidator;
@@ -46,16 +49,18 @@ import seedu.budgetbuddy.validators.expense.DeleteExpenseValidator;
 import seedu.budgetbuddy.validators.expense.DisplayTotalExpensesValidator;
 import seedu.budgetbuddy.validators.expense.SearchExpenseValidator;
 import seedu.budgetbuddy.validators.saving.DisplaySavingsValidator;
+import seedu.budgetbuddy.util.DateCodec;
+import seedu.budgetbuddy.util.Money;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
-import java.time.format.DateTimeFormatter;
 /**
  * The Parser class is responsible for interpreting user commands.
  * It analyzes the user input, identifies the corresponding command,
  * and returns the appropriate Command object for execution.
  */
 public class Parser {
+    private static final CommandRegistry COMMANDS = createCommandRegistry();
     private static ExpenseManager expenseManager;
     private static IncomeManager incomeManager;
     private static BudgetManager budgetManager;
@@ -66,76 +71,56 @@ public class Parser {
         Parser.budgetManager = budgetManager;
     }
 
+    /**
+     * Returns the registry of commands recognised by {@link #parseCommand(String)}, with which further
+     * commands can be registered.
+     *
+     * @return The command registry.
+     */
+    public static CommandRegistry getCommandRegistry() {
+        return COMMANDS;
+    }
+
+    private static CommandRegistry createCommandRegistry() {
+        CommandRegistry commands = new CommandRegistry();
+        commands.registerPrefix(AddExpenseCommand.COMMAND_WORD, AddExpenseValidator::processCommand);
+        commands.registerPrefix(DeleteExpenseCommand.COMMAND_WORD, DeleteExpenseValidator::processCommand);
+        commands.registerPrefix(ListExpenseCommand.COMMAND_WORD, ListExpenseValidator::processCommand);
+        commands.registerPrefix(AddIncomeCommand.COMMAND_WORD, AddIncomeValidator::processCommand);
+        commands.registerPrefix(DeleteIncomeCommand.COMMAND_WORD, DeleteIncomeValidator::processCommand);
+        commands.registerPrefix(AddBudgetCommand.COMMAND_WORD, AddBudgetValidator::processCommand);
+        commands.registerPrefix(DeductBudgetCommand.COMMAND_WORD, DeductBudgetValidator::processCommand);
+        commands.registerPrefix(ListBudgetCommand.COMMAND_WORD, ListBudgetValidator::processCommand);
+        commands.registerExact(ExitCommand.COMMAND_WORD, command -> new ExitCommand());
+        commands.registerPrefix(HelpCommand.COMMAND_WORD, command -> new HelpCommand());
+        commands.registerPrefix(ListIncomeCommand.COMMAND_WORD, ListIncomeValidator::processCommand);
+        commands.registerPrefix(SearchExpenseCommand.COMMAND_WORD, SearchExpenseValidator::processCommand);
+        commands.registerPrefix(DisplayTotalExpensesCommand.COMMAND_WORD,
+                DisplayTotalExpensesValidator::processCommand);
+        commands.registerPrefix(DisplayIncomeSpentCommand.COMMAND_WORD, DisplayIncomeSpentValidator::processCommand);
+        commands.registerPrefix(EditExpenseCommand.COMMAND_WORD, EditExpenseValidator::processFirstCommand);
+        commands.registerPrefix(EditIncomeCommand.COMMAND_WORD, EditIncomeValidator::processFirstCommand);
+        commands.registerExact(ListRemainingBudgetCommand.COMMAND_WORD,
+                command -> new ListRemainingBudgetCommand());
+        commands.registerPrefix(DisplaySavingsCommand.COMMAND_WORD, DisplaySavingsValidator::processCommand);
+        commands.registerExact(BreakdownExpensesCommand.COMMAND_WORD, command -> new BreakdownExpensesCommand());
+        commands.registerPrefix(DisplayExpensesForMonthWithCategoriesGraphCommand.COMMAND_WORD,
+                DisplayExpensesForMonthWithCategoriesValidator::processCommand);
+        commands.registerPrefix(ExportExpensesWithCategoriesGraphCommand.COMMAND_WORD,
+                ExportExpensesWithCategoriesValidator::processCommand);
+        return commands;
+    }
+
     /**
      * Analyzes the user's input and returns the appropriate {@code Command} object.
-     * It checks the input against known commands for expense, income, or exit operations.
+     * The command is looked up by the word the input starts with in the command registry.
      *
      * @param userCommandText The input string provided by the user.
      * @return The corresponding {@code Command} to execute, or an {@code IncorrectCommand}
      *         if the input is invalid.
      */
     public Command parseCommand(String userCommandText) throws BudgetBuddyException {
-        if (AddExpenseCommand.isCommand(userCommandText)) {
-            return AddExpenseValidator.processCommand(userCommandText);
-        }
-        if (DeleteExpenseCommand.isCommand(userCommandText)) {
-            return DeleteExpenseValidator.processCommand(userCommandText);
-        }
-        if (ListExpenseCommand.isCommand(userCommandText)) {
-            return ListExpenseValidator.processCommand(userCommandText);
-        }
-        if (AddIncomeCommand.isCommand(userCommandText)) {
-            return AddIncomeValidator.processCommand(userCommandText);
-        }
-        if (DeleteIncomeCommand.isCommand(userCommandText)) {
-            return DeleteIncomeValidator.processCommand(userCommandText);
-        }
-        if (AddBudgetCommand.isCommand(userCommandText)) {
-            return AddBudgetValidator.processCommand(userCommandText);
-        }
-        if (DeductBudgetCommand.isCommand(userCommandText)) {
-            return DeductBudgetValidator.processCommand(userCommandText);
-        }
-        if (ListBudgetCommand.isCommand(userCommandText)) {
-            return ListBudgetValidator.processCommand(userCommandText);
-        }
-        if (ExitCommand.isCommand(userCommandText)) {
-            return new ExitCommand();
-        }
-        if (HelpCommand.isCommand(userCommandText)){
-            return new HelpCommand();
-        }
-        if (ListIncomeCommand.isCommand(userCommandText)) {
-            return ListIncomeValidator.processCommand(userCommandText);
-        }
-        if (SearchExpenseCommand.isCommand(userCommandText)){
-            return SearchExpenseValidator.processCommand(userCommandText);
-        }
-        if (DisplayTotalExpensesCommand.isCommand(userCommandText)){
-            return DisplayTotalExpensesValidator.processCommand(userCommandText);
-        }
-        if (DisplayIncomeSpentCommand.isCommand(userCommandText)) {
-            return DisplayIncomeSpentValidator.processCommand(userCommandText);
-        }
-        if(EditExpenseCommand.isCommand(userCommandText)){
-            return EditExpenseValidator.processFirstCommand(userCommandText);
-        }
-        if(EditIncomeCommand.isCommand(userCommandText)){
-            return EditIncomeValidator.processFirstCommand(userCommandText);
-        }
-        if (ListRemainingBudgetCommand.isCommand(userCommandText)) {
-            return new ListRemainingBudgetCommand();
-        }
-        if (DisplaySavingsCommand.isCommand(userCommandText)){
-            return DisplaySavingsValidator.processCommand(userCommandText);
-        }
-        if (BreakdownExpensesCommand.isCommand(userCommandText)){
-            return new BreakdownExpensesCommand();
-        }
-        if (DisplayExpensesForMonthWithCategoriesGraphCommand.isCommand(userCommandText)){
-            return DisplayExpensesForMonthWithCategoriesValidator.processCommand(userCommandText);
-        }
-        return new IncorrectCommand("Invalid input");
+        return COMMANDS.parse(userCommandText);
     }
 
     /**
@@ -157,12 +142,7 @@ public class Parser {
                     Ui.showMessage("Invalid Storage Format: " + input);
                     return;
                 }
-                String description = parts[1];
-                double amount = Double.parseDouble(parts[2]);
-                LocalDate date = LocalDate.parse(parts[3], DateTimeFormatter.ofPattern("d/M/yyyy"));
-                Category category = Category.valueOf(parts[4].toUpperCase()); // Ensure category exists for expense
-
-                expenseManager.loadExpense(new Expense(description, amount, date, category));
+                expenseManager.loadExpense(parseExpense(parts));
             } catch (Exception e) {
                 Ui.showMessage("Invalid Storage Format: " + input);
             }
@@ -175,11 +155,7 @@ public class Parser {
                     Ui.showMessage("Invalid Storage Format: " + input);
                     return;
                 }
-                String description = parts[1];
-                double amount = Double.parseDouble(parts[2]);
-                LocalDate date = LocalDate.parse(parts[3], DateTimeFormatter.ofPattern("d/M/yyyy"));
-
-                incomeManager.loadIncome(new Income(description, amount, date)); // No category needed for income
+                incomeManager.loadIncome(parseIncome(parts)); // No category needed for income
             } catch (Exception e) {
                 Ui.showMessage("Invalid Input Format: " + input);
             }
@@ -193,7 +169,7 @@ public class Parser {
                     return;
                 }
 
-                YearMonth budgetDate = YearMonth.parse(parts[2], DateTimeFormatter.ofPattern("yyyy-MM"));
+                YearMonth budgetDate = DateCodec.parseStorageMonth(parts[2]);
 
                 if (budgetManager.getBudget(budgetDate) != null) {
                     Ui.showMessage("Repeated budget entry: " + input);
@@ -209,7 +185,7 @@ public class Parser {
                 for (String categoryEntry : categories) {
                     String[] categorySplit = categoryEntry.split("=");
                     Category category = Category.valueOf(categorySplit[0].toUpperCase());
-                    double categoryAmount = Double.parseDouble(categorySplit[1]);
+                    double categoryAmount = Money.toAmount(Money.parseCents(categorySplit[1]));
                     budget.addAmount(category, categoryAmount);
                 }
                 budgetManager.addBudget(budget);
@@ -223,4 +199,56 @@ public class Parser {
             System.out.println("Unknown type in file: " + type);
         }
     }
+
+    /**
+     * Parses a single expense or income line in the storage format without loading it into a manager.
+     *
+     * @param input The line to be parsed.
+     * @return The parsed {@code Expense} or {@code Income}.
+     * @throws IllegalArgumentException If the line is not a valid expense or income record.
+     */
+    public static Transaction parseTransaction(String input) {
+        String[] parts = input.split(" \\| ");
+        switch (parts[0].toLowerCase()) {
+        case "expense":
+            if (parts.length != 5) {
+                throw new IllegalArgumentException("Invalid Storage Format: " + input);
+            }
+            return parseExpense(parts);
+        case "income":
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("Invalid Storage Format: " + input);
+            }
+            return parseIncome(parts);
+        default:
+            throw new IllegalArgumentException("Unknown type in file: " + parts[0]);
+        }
+    }
+
+    /**
+     * Builds an expense from the parts of an expense record.
+     *
+     * @param parts The record split on its delimiter.
+     * @return The parsed expense.
+     */
+    private static Expense parseExpense(String[] parts) {
+        String description = parts[1];
+        double amount = Money.toAmount(Money.parseCents(parts[2]));
+        LocalDate date = DateCodec.parseStorageDate(parts[3]);
+        Category category = Category.valueOf(parts[4].toUpperCase()); // Ensure category exists for expense
+        return new Expense(description, amount, date, category);
+    }
+
+    /**
+     * Builds an income from the parts of an income record.
+     *
+     * @param parts The record split on its delimiter.
+     * @return The parsed income.
+     */
+    private static Income parseIncome(String[] parts) {
+        String description = parts[1];
+        double amount = Money.toAmount(Money.parseCents(parts[2]));
+        LocalDate date = DateCodec.parseStorageDate(parts[3]);
+        return new Income(description, amount, date);
+    }
 }
@@ -0,0 +1,435 @@
+package seedu.budgetbuddy;
+
+import seedu.budgetbuddy.transaction.HistoryManager;
+import seedu.budgetbuddy.transaction.Transaction;
+import seedu.budgetbuddy.transaction.budget.Budget;
+import seedu.budgetbuddy.transaction.budget.BudgetManager;
+import seedu.budgetbuddy.transaction.expense.Expense;
+import seedu.budgetbuddy.transaction.expense.ExpenseManager;
+import seedu.budgetbuddy.transaction.income.Income;
+import seedu.budgetbuddy.transaction.income.IncomeManager;
+import seedu.budgetbuddy.util.DateCodec;
+import seedu.budgetbuddy.util.LoggerSetup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.logging.Logger;
+
+/**
+ * The PartitionedStorage class stores expenses and incomes in one segment file per month, next to a file
+ * of all budgets and a small manifest listing the months on disk.
+ *
+ * <p>Only the budgets and the most recent months are loaded at startup. Older months are paged in through
+ * {@link HistoryManager} when a command first needs them, and only the segments whose contents changed
+ * are rewritten on save. Every record is stored with a sequence number, so paged in records take their
+ * original place in the expense and income lists and list indices stay the same as with a single file.
+ * Every file is replaced atomically, and segments whose number of records differs from the manifest
+ * are reported when they are read. The manifest also lists the number of expenses of each segment, so that
+ * the total numbers of expenses and incomes are known without paging in older months.</p>
+ */
+public class PartitionedStorage implements HistoryManager.Loader {
+    private static final Logger LOGGER = LoggerSetup.getLogger();
+    private static final String MANIFEST_FILE = "manifest.txt";
+    private static final String BUDGETS_FILE = "budgets.txt";
+    private static final String SEGMENT_SUFFIX = ".txt";
+    private static final String SEQUENCE = "sequence";
+    private static final String EXPENSE = "expense";
+    private static final String DELIMITER = " | ";
+    private static final YearMonth EARLIEST_MONTH = YearMonth.of(Year.MIN_VALUE, 1);
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final int UNKNOWN_SIZE = -1;
+
+    private final File directory;
+    /** The number of records in each segment on disk. */
+    private final TreeMap<YearMonth, Integer> segmentSizes = new TreeMap<>();
+    /** The number of expenses in each segment on disk, for segments whose manifest entry lists it. */
+    private final HashMap<YearMonth, Integer> segmentExpenseCounts = new HashMap<>();
+    /** The hash of the contents of each segment in memory, as last read or written. */
+    private final HashMap<YearMonth, Long> segmentHashes = new HashMap<>();
+    private IdentityHashMap<Transaction, Long> sequences = new IdentityHashMap<>();
+    private long budgetsHash;
+    private long nextSequence = 0;
+    private YearMonth oldestLoaded = EARLIEST_MONTH;
+
+    /**
+     * Initializes the PartitionedStorage object for the given directory.
+     *
+     * @param directoryPath The directory holding the manifest, the budgets and the monthly segments.
+     */
+    public PartitionedStorage(String directoryPath) {
+        this.directory = new File(directoryPath);
+    }
+
+    /**
+     * Returns whether the directory already holds partitioned data.
+     *
+     * @return true if the manifest exists, false otherwise.
+     */
+    public boolean exists() {
+        return new File(directory, MANIFEST_FILE).exists();
+    }
+
+    /**
+     * Loads the budgets and the months from {@code firstMonth} onwards, and registers this object to page in
+     * older months when they are needed.
+     *
+     * @param firstMonth The earliest month to load now.
+     * @throws IOException If the manifest or a segment cannot be read.
+     */
+    public void load(YearMonth firstMonth) throws IOException {
+        readManifest();
+        List<String> budgetLines = readLines(new File(directory, BUDGETS_FILE));
+        for (String line : budgetLines) {
+            Parser.parseFile(line);
+        }
+        budgetsHash = hash(budgetLines);
+
+        oldestLoaded = firstMonth.isAfter(getLatestMonth()) ? getLatestMonth() : firstMonth;
+        ArrayList<Transaction> records = readSegments(segmentSizes.tailMap(oldestLoaded, true).keySet());
+        for (Transaction record : records) {
+            if (record instanceof Expense expense) {
+                ExpenseManager.loadExpense(expense);
+            } else {
+                IncomeManager.loadIncome((Income) record);
+            }
+        }
+        HistoryManager.setLoader(this);
+        LOGGER.info("Loaded " + records.size() + " records from " + oldestLoaded + " onwards, "
+                + segmentSizes.headMap(oldestLoaded).size() + " older months left on disk");
+    }
+
+    /**
+     * Takes over data that is already fully in memory, for example after it was loaded from a single file,
+     * and writes it into partitions.
+     *
+     * @throws IOException If the partitions cannot be written.
+     */
+    public void migrate() throws IOException {
+        oldestLoaded = EARLIEST_MONTH;
+        HistoryManager.setLoader(this);
+        save();
+        LOGGER.info("Migrated data into " + directory);
+    }
+
+    /**
+     * Returns the earliest month held in memory. Every later month is in memory as well.
+     *
+     * @return The earliest month in memory.
+     */
+    public YearMonth getOldestLoadedMonth() {
+        return oldestLoaded;
+    }
+
+    private YearMonth getLatestMonth() {
+        return segmentSizes.isEmpty() ? EARLIEST_MONTH : segmentSizes.lastKey();
+    }
+
+    @Override
+    public void loadFrom(YearMonth month) {
+        if (!month.isBefore(oldestLoaded)) {
+            return;
+        }
+        Set<YearMonth> months = segmentSizes.subMap(month, true, oldestLoaded, false).keySet();
+        try {
+            ArrayList<Transaction> paged = readSegments(months);
+            ArrayList<Expense> pagedExpenses = new ArrayList<>();
+            ArrayList<Income> pagedIncomes = new ArrayList<>();
+            for (Transaction record : paged) {
+                if (record instanceof Expense expense) {
+                    pagedExpenses.add(expense);
+                } else {
+                    pagedIncomes.add((Income) record);
+                }
+            }
+            ExpenseManager.pageInExpenses(merge(ExpenseManager.getLoadedExpenses(), pagedExpenses));
+            IncomeManager.pageInIncomes(merge(IncomeManager.getLoadedIncomes(), pagedIncomes));
+            oldestLoaded = month;
+            LOGGER.info("Paged in " + paged.size() + " records of " + months.size() + " months from " + month);
+        } catch (IOException e) {
+            LOGGER.warning("Failed to page in months from " + month + ": " + e.getMessage());
+            Ui.showMessage("Error reading File");
+        }
+    }
+
+    @Override
+    public void loadAll() {
+        loadFrom(EARLIEST_MONTH);
+    }
+
+    @Override
+    public int getNumberOfUnloadedExpenses() {
+        int count = 0;
+        for (YearMonth month : segmentSizes.headMap(oldestLoaded).keySet()) {
+            Integer expenseCount = segmentExpenseCounts.get(month);
+            if (expenseCount == null) {
+                return UNKNOWN_SIZE;
+            }
+            count += expenseCount;
+        }
+        return count;
+    }
+
+    @Override
+    public int getNumberOfUnloadedIncomes() {
+        int count = 0;
+        for (Map.Entry<YearMonth, Integer> entry : segmentSizes.headMap(oldestLoaded).entrySet()) {
+            Integer expenseCount = segmentExpenseCounts.get(entry.getKey());
+            if (expenseCount == null || entry.getValue() == UNKNOWN_SIZE) {
+                return UNKNOWN_SIZE;
+            }
+            count += entry.getValue() - expenseCount;
+        }
+        return count;
+    }
+
+    /**
+     * Merges records paged in from disk into the list in memory by their sequence numbers. Records added
+     * since the last save have no sequence number yet and stay at the end of the list.
+     */
+    private <T extends Transaction> ArrayList<T> merge(ArrayList<T> loaded, ArrayList<T> paged) {
+        ArrayList<T> merged = new ArrayList<>(loaded.size() + paged.size());
+        int i = 0;
+        for (T record : loaded) {
+            long sequence = sequences.getOrDefault(record, Long.MAX_VALUE);
+            while (i < paged.size() && sequences.get(paged.get(i)) < sequence) {
+                merged.add(paged.get(i++));
+            }
+            merged.add(record);
+        }
+        while (i < paged.size()) {
+            merged.add(paged.get(i++));
+        }
+        return merged;
+    }
+
+    /**
+     * Writes the budgets, every segment in memory whose contents changed and the manifest.
+     * Records added since the last save are given sequence numbers in list order.
+     *
+     * @throws IOException If a file cannot be written.
+     */
+    public void save() throws IOException {
+        if (!directory.exists()) {
+            directory.mkdirs();
+        }
+        boolean isManifestChanged = !exists();
+
+        List<String> budgetLines = new ArrayList<>();
+        for (Budget budget : BudgetManager.getBudgets()) {
+            budgetLines.add(Storage.getString(budget.getTotalMonthlyBudget(), budget.getDate(),
+                    budget.getCategoryBudgets()));
+        }
+        long newBudgetsHash = hash(budgetLines);
+        if (newBudgetsHash != budgetsHash || isManifestChanged) {
+            writeLines(new File(directory, BUDGETS_FILE), budgetLines);
+            budgetsHash = newBudgetsHash;
+        }
+
+        Map<YearMonth, List<String>> segments = getSegmentsInMemory();
+        TreeSet<YearMonth> months = new TreeSet<>(segments.keySet());
+        months.addAll(segmentSizes.tailMap(oldestLoaded, true).keySet());
+        for (YearMonth month : months) {
+            List<String> lines = segments.getOrDefault(month, List.of());
+            long newHash = hash(lines);
+            if (segmentHashes.containsKey(month) && segmentHashes.get(month) == newHash) {
+                if (!segmentExpenseCounts.containsKey(month)) {
+                    // The manifest was written before it listed the number of expenses
+                    segmentExpenseCounts.put(month, countExpenses(lines));
+                    isManifestChanged = true;
+                }
+                continue;
+            }
+            File segment = getSegmentFile(month);
+            if (lines.isEmpty()) {
+                Files.deleteIfExists(segment.toPath());
+                segmentSizes.remove(month);
+                segmentExpenseCounts.remove(month);
+                segmentHashes.remove(month);
+            } else {
+                writeLines(segment, lines);
+                segmentSizes.put(month, lines.size());
+                segmentExpenseCounts.put(month, countExpenses(lines));
+                segmentHashes.put(month, newHash);
+            }
+            isManifestChanged = true;
+        }
+
+        if (isManifestChanged) {
+            writeManifest();
+        }
+    }
+
+    /**
+     * Returns the lines of every segment in memory, in sequence order, assigning sequence numbers to new records.
+     */
+    private Map<YearMonth, List<String>> getSegmentsInMemory() {
+        ArrayList<Transaction> records = new ArrayList<>(ExpenseManager.getLoadedExpenses());
+        records.addAll(IncomeManager.getLoadedIncomes());
+        for (Transaction record : records) {
+            YearMonth month = YearMonth.from(record.getDate());
+            if (month.isBefore(oldestLoaded)) {
+                // Merge the rest of the month from disk before its segment is rewritten
+                loadFrom(month);
+                return getSegmentsInMemory();
+            }
+        }
+
+        IdentityHashMap<Transaction, Long> liveSequences = new IdentityHashMap<>();
+        TreeMap<YearMonth, List<Transaction>> byMonth = new TreeMap<>();
+        for (Transaction record : records) {
+            Long sequence = sequences.get(record);
+            liveSequences.put(record, sequence == null ? nextSequence++ : sequence);
+            byMonth.computeIfAbsent(YearMonth.from(record.getDate()), month -> new ArrayList<>()).add(record);
+        }
+        sequences = liveSequences;
+
+        Map<YearMonth, List<String>> segments = new HashMap<>();
+        for (Map.Entry<YearMonth, List<Transaction>> entry : byMonth.entrySet()) {
+            List<Transaction> monthRecords = entry.getValue();
+            monthRecords.sort(Comparator.comparing(liveSequences::get));
+            List<String> lines = new ArrayList<>(monthRecords.size());
+            for (Transaction record : monthRecords) {
+                lines.add(liveSequences.get(record) + DELIMITER + Storage.getString(record));
+            }
+            segments.put(entry.getKey(), lines);
+        }
+        return segments;
+    }
+
+    /**
+     * Reads the given segments and returns their records in sequence order.
+     */
+    private ArrayList<Transaction> readSegments(Set<YearMonth> months) throws IOException {
+        ArrayList<Transaction> records = new ArrayList<>();
+        for (YearMonth month : months) {
+            List<String> lines = readLines(getSegmentFile(month));
+            int expectedSize = segmentSizes.get(month);
+            if (expectedSize != UNKNOWN_SIZE && lines.size() != expectedSize) {
+                LOGGER.warning("Segment " + month + " has " + lines.size() + " records, manifest lists "
+                        + expectedSize);
+                Ui.showMessage("Incomplete Storage Segment: " + DateCodec.formatStorageMonth(month));
+            }
+            for (String line : lines) {
+                try {
+                    int split = line.indexOf(DELIMITER);
+                    long sequence = Long.parseLong(line.substring(0, split));
+                    Transaction record = Parser.parseTransaction(line.substring(split + DELIMITER.length()));
+                    sequences.put(record, sequence);
+                    nextSequence = Math.max(nextSequence, sequence + 1);
+                    records.add(record);
+                } catch (RuntimeException e) {
+                    Ui.showMessage("Invalid Storage Format: " + line);
+                }
+            }
+            segmentHashes.put(month, hash(lines));
+        }
+        records.sort(Comparator.comparing(sequences::get));
+        return records;
+    }
+
+    /**
+     * Returns the number of expense lines in the lines of a segment.
+     */
+    private static int countExpenses(List<String> lines) {
+        int count = 0;
+        for (String line : lines) {
+            if (line.startsWith(EXPENSE, line.indexOf(DELIMITER) + DELIMITER.length())) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void readManifest() throws IOException {
+        segmentSizes.clear();
+        segmentExpenseCounts.clear();
+        for (String line : readLines(new File(directory, MANIFEST_FILE))) {
+            String[] parts = line.split(" \\| ");
+            try {
+                if (parts[0].equals(SEQUENCE)) {
+                    nextSequence = Math.max(nextSequence, Long.parseLong(parts[1]));
+                } else {
+                    YearMonth month = DateCodec.parseStorageMonth(parts[0]);
+                    segmentSizes.put(month, Integer.parseInt(parts[1]));
+                    if (parts.length > 2) {
+                        segmentExpenseCounts.put(month, Integer.parseInt(parts[2]));
+                    }
+                }
+            } catch (RuntimeException e) {
+                Ui.showMessage("Invalid Manifest Entry: " + line);
+            }
+        }
+        // Pick up segments written by a save that stopped before it could update the manifest
+        String[] names = directory.list();
+        for (String name : names == null ? new String[0] : names) {
+            try {
+                if (name.endsWith(SEGMENT_SUFFIX) && !name.equals(MANIFEST_FILE) && !name.equals(BUDGETS_FILE)) {
+                    YearMonth month = DateCodec.parseStorageMonth(
+                            name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+                    segmentSizes.putIfAbsent(month, UNKNOWN_SIZE);
+                }
+            } catch (DateTimeParseException e) {
+                LOGGER.fine("Ignoring file in partition directory: " + name);
+            }
+        }
+    }
+
+    private void writeManifest() throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add(SEQUENCE + DELIMITER + nextSequence);
+        for (Map.Entry<YearMonth, Integer> entry : segmentSizes.entrySet()) {
+            String line = DateCodec.formatStorageMonth(entry.getKey()) + DELIMITER + entry.getValue();
+            Integer expenseCount = segmentExpenseCounts.get(entry.getKey());
+            lines.add(expenseCount == null ? line : line + DELIMITER + expenseCount);
+        }
+        writeLines(new File(directory, MANIFEST_FILE), lines);
+    }
+
+    private File getSegmentFile(YearMonth month) {
+        return new File(directory, DateCodec.formatStorageMonth(month) + SEGMENT_SUFFIX);
+    }
+
+    private static List<String> readLines(File file) throws IOException {
+        if (!file.exists()) {
+            return new ArrayList<>();
+        }
+        return Files.readAllLines(file.toPath(), Charset.defaultCharset());
+    }
+
+    private static void writeLines(File file, List<String> lines) throws IOException {
+        StringBuilder contents = new StringBuilder();
+        for (String line : lines) {
+            contents.append(line).append(System.lineSeparator());
+        }
+        AtomicFile.write(file.toPath(), contents.toString().getBytes(Charset.defaultCharset()));
+    }
+
+    /**
+     * Returns a 64-bit FNV-1a hash of the lines, used to tell whether a file needs to be rewritten.
+     */
+    private static long hash(List<String> lines) {
+        long hash = FNV_OFFSET_BASIS;
+        for (String line : lines) {
+            for (int i = 0; i < line.length(); i++) {
+                hash = (hash ^ line.charAt(i)) * FNV_PRIME;
+            }
+            hash = (hash ^ '\n') * FNV_PRIME;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.budgetbuddy;
+
+import seedu.budgetbuddy.transaction.budget.BudgetManager;
+import seedu.budgetbuddy.transaction.expense.ExpenseManager;
+import seedu.budgetbuddy.transaction.income.IncomeManager;
+
+import java.io.IOException;
+
+/**
+ * The SnapshotConverter class converts data files between the text format and the binary format.
+ * The format of the input file is detected from its header, so either format can be converted to either.
+ *
+ * <p>Usage: {@code SnapshotConverter (to-binary|to-text) <input file> <output file>}</p>
+ */
+public class SnapshotConverter {
+    private static final String TO_BINARY = "to-binary";
+    private static final String TO_TEXT = "to-text";
+
+    /**
+     * Converts the data file at the input path and writes it to the output path in the requested format.
+     * The data currently held by the managers is replaced by the contents of the input file.
+     *
+     * @param inputPath The path of the data file to convert.
+     * @param outputPath The path of the converted data file.
+     * @param toBinary true to write the binary format, false to write the text format.
+     * @throws IOException If either file cannot be read or written.
+     */
+    public static void convert(String inputPath, String outputPath, boolean toBinary) throws IOException {
+        ExpenseManager.reset();
+        IncomeManager.reset();
+        BudgetManager.reset();
+        Storage storage = new Storage(inputPath);
+        storage.load();
+        storage.exportTo(outputPath, toBinary);
+    }
+
+    /**
+     * Converts the data file given on the command line.
+     *
+     * @param args The direction of the conversion, the input file and the output file.
+     */
+    public static void main(String[] args) {
+        if (args.length != 3 || !(args[0].equals(TO_BINARY) || args[0].equals(TO_TEXT))) {
+            Ui.showMessage("Usage: SnapshotConverter (" + TO_BINARY + "|" + TO_TEXT + ") <input file> <output file>");
+            System.exit(1);
+        }
+        try {
+            convert(args[1], args[2], args[0].equals(TO_BINARY));
+            Ui.showMessage("Converted " + args[1] + " to " + args[2]);
+        } catch (IOException e) {
+            Ui.showMessage("Error converting file: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.budgetbuddy;
 
 import seedu.budgetbuddy.transaction.Category;
+import seedu.budgetbuddy.transaction.HistoryManager;
 import seedu.budgetbuddy.transaction.Transaction;
 import seedu.budgetbuddy.transaction.budget.Budget;
 import seedu.budgetbuddy.transaction.budget.BudgetManager;
@@ -8,15 +9,18 @@ import seedu.budgetbuddy.transaction.expense.Expense;
 import seedu.budgetbuddy.transaction.expense.ExpenseManager;
 import seedu.budgetbuddy.transaction.income.Income;
 import seedu.budgetbuddy.transaction.income.IncomeManager;
+import seedu.budgetbuddy.util.DateCodec;
 import seedu.budgetbuddy.util.LoggerSetup;
 
 import java.io.File;
 import java.io.FileNotFoundException;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.time.YearMonth;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Scanner;
 import java.util.logging.Level;
@@ -30,50 +34,308 @@ import java.util.logging.Logger;
  */
 public class Storage {
     private static final Logger LOGGER = LoggerSetup.getLogger();
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final int COMPACTION_THRESHOLD = 1000;
+    private static final String FLUSH_INTERVAL_PROPERTY = "budgetbuddy.flushInterval";
+    private static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 100;
+    private static final long PARALLEL_LOAD_THRESHOLD = 8L << 20;
+    private static final String PARTITION_SUFFIX = ".months";
+    private static final int RECENT_MONTHS = 3;
     private String filePath;
+    private boolean isJournaling;
+    private PartitionedStorage partitions;
+    private long flushIntervalMillis;
+    private boolean isBinary = false;
+    private long savedVersion = -1;
 
     /**
      * Initializes the Storage object with the specified file path.
+     * The whole file is rewritten on every save.
      *
      * @param filepath The path to the file where data will be saved and loaded.
      */
     public Storage(String filepath) {
+        this(filepath, false);
+    }
+
+    /**
+     * Initializes the Storage object with the specified file path and persistence mode.
+     * In journal mode, changes are appended to a journal next to the data file, which is only
+     * compacted into the data file once it grows large or when the application exits.
+     * The journal is written in the background with the flush interval given by the
+     * {@value #FLUSH_INTERVAL_PROPERTY} system property, in milliseconds.
+     *
+     * @param filepath The path to the file where data will be saved and loaded.
+     * @param isJournaling true to persist changes through the journal, false to rewrite the file on every save.
+     */
+    public Storage(String filepath, boolean isJournaling) {
+        this(filepath, isJournaling, Long.getLong(FLUSH_INTERVAL_PROPERTY, DEFAULT_FLUSH_INTERVAL_MILLIS));
+    }
+
+    /**
+     * Initializes the Storage object with the specified file path, persistence mode and flush interval.
+     *
+     * @param filepath The path to the file where data will be saved and loaded.
+     * @param isJournaling true to persist changes through the journal, false to rewrite the file on every save.
+     * @param flushIntervalMillis How long the background writer waits to batch further changes, in milliseconds.
+     */
+    public Storage(String filepath, boolean isJournaling, long flushIntervalMillis) {
         this.filePath = filepath;
-        LOGGER.log(Level.INFO, "Storing " + filepath);
+        this.isJournaling = isJournaling;
+        this.flushIntervalMillis = flushIntervalMillis;
+        LOGGER.log(Level.INFO, "Storing " + filepath + (isJournaling ? " with journal" : ""));
+    }
+
+    /**
+     * Returns the path of the journal kept alongside the data file.
+     *
+     * @return The journal file path.
+     */
+    public String getJournalPath() {
+        return filePath + JOURNAL_SUFFIX;
+    }
+
+    /**
+     * Returns the path of the directory holding the monthly partitions of the data.
+     *
+     * @return The partition directory path.
+     */
+    public String getPartitionPath() {
+        return filePath + PARTITION_SUFFIX;
+    }
+
+    /**
+     * Sets whether the data is stored in monthly partitions instead of a single file. Partitioned data is
+     * saved by rewriting only the months that changed, so it is not journaled. The partitions are kept in
+     * a directory next to the data file, and are created from the data file on the first load.
+     * Must be called before {@link #load()}.
+     *
+     * @param isPartitioned true to store the data in monthly partitions, false to use a single file.
+     */
+    public void setPartitioned(boolean isPartitioned) {
+        this.partitions = isPartitioned ? new PartitionedStorage(getPartitionPath()) : null;
+        if (isPartitioned) {
+            this.isJournaling = false;
+        }
+    }
+
+    /**
+     * Returns whether the data is stored in monthly partitions.
+     *
+     * @return true if monthly partitions are used, false if a single file is used.
+     */
+    public boolean isPartitioned() {
+        return partitions != null;
     }
 
     /**
      * Loads the data from the file located at the specified file path.
      * It parses the file contents and converts it into the respective Expense, Income,
-     * and Budget objects, storing them in lists.
+     * and Budget objects, storing them in lists. Both the text and the binary format are accepted, and
+     * the file keeps its format when it is saved. Text files of at least 8 MB are decoded in parallel.
+     * In journal mode, the journal is replayed on top
+     * of the file and then opened to record further changes, even if loading fails, so that the changes made
+     * afterwards are not lost. When monthly partitions are first created from the file, a journal left by an
+     * earlier session is replayed and compacted into the file first. With monthly partitions, only the budgets and
+     * the last {@value #RECENT_MONTHS} months are loaded, and older months are loaded when first needed.
      *
      * @@author Alfred-Goh02
      * @throws FileNotFoundException If the file at the specified path does not exist.
+     * @throws IOException If the file cannot be loaded, or the journal cannot be replayed or opened.
      */
-    public void load() throws FileNotFoundException {
+    public void load() throws IOException {
+        if (partitions != null && partitions.exists()) {
+            partitions.load(YearMonth.now().minusMonths(RECENT_MONTHS - 1));
+            savedVersion = getDataVersion();
+            return;
+        }
+        HistoryManager.setLoader(null);
         File file = new File(filePath);
         if (!file.exists()) {
             LOGGER.warning("File does not exist: " + file.getAbsolutePath());
             throw new FileNotFoundException("File does not exist: " + file.getAbsolutePath());
         }
-        ArrayList<Expense> expenses = new ArrayList<>();
-        ArrayList<Income> incomes = new ArrayList<>();
-        ArrayList<Budget> budgets = new ArrayList<>();
-        Scanner sc = new Scanner(file);
+        if (isJournaling) {
+            Journal.close();
+        }
+        try {
+            loadFile(file);
+            if (isJournaling || partitions != null) {
+                Journal.replay(getJournalPath(), filePath);
+            }
+        } finally {
+            // Keeps recording changes even if the data could not be fully loaded, as the session goes on
+            if (isJournaling) {
+                Journal.open(new StorageWriter(filePath, getJournalPath(), flushIntervalMillis));
+            }
+        }
+        if (partitions != null) {
+            compactJournalBeforeMigration();
+            partitions.migrate();
+        }
+        savedVersion = getDataVersion();
+    }
+
+    /**
+     * Compacts a journal left by a session that used a single file into that file, and removes the journal, so
+     * that the file holds the same data as the partitions about to be created from it. The journal has already
+     * been replayed, and is compacted as in journal mode, so that a crash before it is removed does not replay
+     * its entries again.
+     */
+    private void compactJournalBeforeMigration() throws IOException {
+        File journal = new File(getJournalPath());
+        if (!journal.exists()) {
+            return;
+        }
+        if (Journal.getNumberOfEntries() > 0) {
+            Journal.open(new StorageWriter(filePath, getJournalPath(), 0));
+            Journal.recordSnapshot(getSnapshotBytes(isBinary));
+            Journal.close();
+        }
+        Files.delete(journal.toPath());
+        LOGGER.info("Journal compacted into " + filePath + " before migrating to partitions");
+    }
+
+    private void loadFile(File file) throws IOException {
+        isBinary = BinarySnapshot.isBinary(file);
+        if (isBinary) {
+            BinarySnapshot.load(file);
+        } else if (MappedFileLoader.isSupported(Charset.defaultCharset())) {
+            MappedFileLoader.load(file, file.length() >= PARALLEL_LOAD_THRESHOLD);
+        } else {
+            Scanner sc = new Scanner(file);
+
+            while (sc.hasNextLine()) {
+                String input = sc.nextLine();
+                LOGGER.fine("Parsing line: " + input);  // Log each line being parsed
+                Parser.parseFile(input);
+            }
+            sc.close();
+        }
+        LOGGER.info("Data loaded successfully. Expenses: " + ExpenseManager.getNumberOfExpenses()
+                + ", Incomes: " + IncomeManager.getNumberOfIncomes()
+                + ", Budgets: " + BudgetManager.getNumberOfBudgets());
+    }
+
+    /**
+     * Sets whether snapshots of the data file are written in the binary format instead of the text format.
+     *
+     * @param isBinary true to write the binary format, false to write the text format.
+     */
+    public void setBinary(boolean isBinary) {
+        this.isBinary = isBinary;
+    }
+
+    /**
+     * Returns whether snapshots of the data file are written in the binary format.
+     *
+     * @return true if the binary format is used, false if the text format is used.
+     */
+    public boolean isBinary() {
+        return isBinary;
+    }
+
+    /**
+     * Returns a version number of the expense, income and budget data that changes whenever any of them
+     * is modified.
+     *
+     * @return The combined modification count of the managers.
+     */
+    private static long getDataVersion() {
+        return (long) ExpenseManager.getModificationCount() + IncomeManager.getModificationCount()
+                + BudgetManager.getModificationCount();
+    }
+
+    /**
+     * Returns whether the data has changed since it was last loaded or saved.
+     *
+     * @return true if there are unsaved changes, false otherwise.
+     */
+    public boolean isDirty() {
+        return getDataVersion() != savedVersion;
+    }
+
+    /**
+     * Persists the changes made since the last save. Nothing is written if the data has not changed.
+     * In journal mode, the recorded journal entries are already queued for the background writer, and
+     * the journal is compacted once it exceeds {@value #COMPACTION_THRESHOLD} entries, so this never
+     * waits for the disk. With monthly partitions, only the months that changed are rewritten.
+     * Otherwise, the file is overwritten with the latest data.
+     *
+     * @param expenseList The ExpenseManager containing the current list of expenses.
+     * @param incomeList The IncomeManager containing the current list of incomes.
+     * @param budgetList The BudgetManager containing the current list of budgets.
+     * @throws IOException If an I/O error occurs while writing to the file.
+     */
+    public void save(ExpenseManager expenseList, IncomeManager incomeList, BudgetManager budgetList)
+            throws IOException {
+        if (!isDirty()) {
+            LOGGER.fine("No changes to save");
+            return;
+        }
+        if (partitions != null) {
+            partitions.save();
+            savedVersion = getDataVersion();
+            return;
+        }
+        if (!isJournaling) {
+            writeSnapshot(expenseList, incomeList, budgetList);
+            return;
+        }
+        Journal.checkError();
+        savedVersion = getDataVersion();
+        if (Journal.getNumberOfEntries() >= COMPACTION_THRESHOLD) {
+            compact(expenseList, incomeList, budgetList);
+        }
+    }
+
+    /**
+     * Writes the full data to the file and empties the journal, whose entries are now part of the file.
+     * In journal mode, the snapshot is taken immediately and written by the background writer.
+     *
+     * @param expenseList The ExpenseManager containing the current list of expenses.
+     * @param incomeList The IncomeManager containing the current list of incomes.
+     * @param budgetList The BudgetManager containing the current list of budgets.
+     * @throws IOException If an I/O error occurs while writing to the file.
+     */
+    public void compact(ExpenseManager expenseList, IncomeManager incomeList, BudgetManager budgetList)
+            throws IOException {
+        if (!isJournaling) {
+            writeSnapshot(expenseList, incomeList, budgetList);
+            return;
+        }
+        Journal.recordSnapshot(getSnapshotBytes(isBinary));
+        savedVersion = getDataVersion();
+        LOGGER.info("Journal compacted into " + filePath);
+    }
 
-        while (sc.hasNextLine()) {
-            String input = sc.nextLine();
-            LOGGER.fine("Parsing line: " + input);  // Log each line being parsed
-            Parser.parseFile(input);
+    /**
+     * Compacts the journal into the file, if it has any entries, and stops recording changes once
+     * everything has been written. Called when the application exits.
+     *
+     * @param expenseList The ExpenseManager containing the current list of expenses.
+     * @param incomeList The IncomeManager containing the current list of incomes.
+     * @param budgetList The BudgetManager containing the current list of budgets.
+     * @throws IOException If an I/O error occurs while writing to the file.
+     */
+    public void close(ExpenseManager expenseList, IncomeManager incomeList, BudgetManager budgetList)
+            throws IOException {
+        if (partitions != null) {
+            save(expenseList, incomeList, budgetList);
+            return;
+        }
+        if (!isJournaling) {
+            return;
         }
-        sc.close();
-        LOGGER.info("Data loaded successfully. Expenses: " + expenses.size() + ", Incomes: " + incomes.size()
-                + ", Budgets: " + budgets.size());
+        if (isDirty() || Journal.getNumberOfEntries() > 0) {
+            compact(expenseList, incomeList, budgetList);
+        }
+        Journal.close();
     }
 
     /**
      * Saves the current state of the Expense, Income, and Budget data to the file.
-     * The file is overwritten with the latest data.
+     * The file is atomically replaced with the latest data, so a failed save leaves the previous data intact.
      *
      * @@author Alfred-Goh02
      * @param expenseList The ExpenseManager containing the current list of expenses.
@@ -81,7 +343,7 @@ public class Storage {
      * @param budgetList The BudgetManager containing the current list of budgets.
      * @throws IOException If an I/O error occurs while writing to the file.
      */
-    public void save(ExpenseManager expenseList, IncomeManager incomeList, BudgetManager budgetList)
+    private void writeSnapshot(ExpenseManager expenseList, IncomeManager incomeList, BudgetManager budgetList)
             throws IOException {
 
         assert expenseList != null : "Expense list cannot be null";
@@ -89,32 +351,72 @@ public class Storage {
         assert budgetList != null : "Budget list cannot be null";
         LOGGER.info("Saving data to file: " + filePath);
 
-        FileWriter fw = new FileWriter(filePath, false);
+        writeFile(filePath, getSnapshotBytes(isBinary));
+        savedVersion = getDataVersion();
+    }
+
+    /**
+     * Writes the current data to another file, for example to export it in the other format.
+     *
+     * @param path The path of the file to write to.
+     * @param asBinary true to write the binary format, false to write the text format.
+     * @throws IOException If an I/O error occurs while writing to the file.
+     */
+    public void exportTo(String path, boolean asBinary) throws IOException {
+        writeFile(path, getSnapshotBytes(asBinary));
+        LOGGER.info("Exported data to file: " + path);
+    }
+
+    private static void writeFile(String path, byte[] contents) throws IOException {
+        AtomicFile.write(Paths.get(path), contents);
+    }
+
+    /**
+     * Returns the contents of the data file for the current expenses, incomes and budgets.
+     *
+     * @param asBinary true for the binary format, false for the text format.
+     * @return The contents of the data file.
+     */
+    static byte[] getSnapshotBytes(boolean asBinary) {
+        if (asBinary) {
+            return BinarySnapshot.encode();
+        }
+        StringBuilder contents = new StringBuilder();
+        for (String line : getSnapshotLines()) {
+            contents.append(line).append(System.lineSeparator());
+        }
+        return contents.toString().getBytes(Charset.defaultCharset());
+    }
+
+    /**
+     * Returns the current expenses, incomes and budgets as the lines of the data file.
+     *
+     * @return The lines of the data file.
+     */
+    private static List<String> getSnapshotLines() {
+        List<String> lines = new ArrayList<>();
 
         // Save expenses
         for (Expense expense : ExpenseManager.getExpenses()) {
             if (expense != null) {
-                String line = getString(expense);
-                fw.write(line + System.lineSeparator());
+                lines.add(getString(expense));
             }
         }
 
         // Save incomes
         for (Income income : IncomeManager.getIncomes()) {
             if (income != null) {
-                String line = getString(income);
-                fw.write(line + System.lineSeparator());
+                lines.add(getString(income));
             }
         }
 
         // Save budgets
         for (Budget budget : BudgetManager.getBudgets()) {
             if (budget != null) {
-                String line = getString(budget.getTotalMonthlyBudget(), budget.getDate(), budget.getCategoryBudgets());
-                fw.write(line + System.lineSeparator());
+                lines.add(getString(budget.getTotalMonthlyBudget(), budget.getDate(), budget.getCategoryBudgets()));
             }
         }
-        fw.close();
+        return lines;
     }
 
     /**
@@ -124,20 +426,20 @@ public class Storage {
      * @param transaction The transaction to be converted.
      * @return A string representation of the transaction.
      */
-    private String getString(Transaction transaction) {
+    static String getString(Transaction transaction) {
         StringBuilder line = new StringBuilder();
 
         if (transaction instanceof Expense expense) {
             line.append("expense | ")
                     .append(expense.getDescription()).append(" | ")
-                    .append(expense.getAmount()).append(" | ")
-                    .append(expense.getDate().format(DateTimeFormatter.ofPattern("d/M/yyyy"))).append(" | ")
+                    .append(expense.getAmount()).append(" | ");
+            DateCodec.appendStorageDate(line, expense.getDate()).append(" | ")
                     .append(expense.getCategory());
         } else if (transaction instanceof Income income) {
             line.append("income | ")
                     .append(income.getDescription()).append(" | ")
-                    .append(income.getAmount()).append(" | ")
-                    .append(income.getDate().format(DateTimeFormatter.ofPattern("d/M/yyyy")));
+                    .append(income.getAmount()).append(" | ");
+            DateCodec.appendStorageDate(line, income.getDate());
         }
 
         return line.toString();
@@ -152,11 +454,11 @@ public class Storage {
      * @param categoryBudgets A map containing category names as keys and their respective budget amounts as values.
      * @return A formatted string representing the total budget, date, and category-specific budgets.
      */
-    private String getString(double totalBudget, YearMonth date, Map<Category, Double> categoryBudgets) {
+    static String getString(double totalBudget, YearMonth date, Map<Category, Double> categoryBudgets) {
         StringBuilder line = new StringBuilder();
         line.append("budget | ");
         line.append(totalBudget).append(" | ");
-        line.append(date.format(DateTimeFormatter.ofPattern("yyyy-MM"))).append(" | ");
+        line.append(DateCodec.formatStorageMonth(date)).append(" | ");
         line.append(categoryBudgets.toString());
         return line.toString();
     }
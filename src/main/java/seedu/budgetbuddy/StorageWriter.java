@@ -0,0 +1,357 @@
+package seedu.budgetbuddy;
+
+import seedu.budgetbuddy.util.LoggerSetup;
+
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.Charset;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * The StorageWriter class performs the disk writes of the journal on a background thread, so that
+ * a slow disk never holds up the command loop.
+ *
+ * <p>Journal entries and snapshots are queued in order. Once something is queued, the writer waits for
+ * the flush interval so that a burst of changes is written as one batch, and only the latest snapshot
+ * of a batch is written, since it already contains every change queued before it.
+ * {@link #flush()} and {@link #close()} wait until everything queued has been written, and the
+ * writer is also closed when the JVM shuts down.</p>
+ */
+public class StorageWriter {
+    private static final Logger LOGGER = LoggerSetup.getLogger();
+
+    private final String filePath;
+    private final String journalPath;
+    private final long flushIntervalMillis;
+    private final ArrayList<Task> pending = new ArrayList<>();
+    private final Thread thread;
+    private final Thread shutdownHook;
+    private FileOutputStream journalStream;
+    private BufferedWriter journalWriter;
+    private long numberOfSubmitted = 0;
+    private long numberOfWritten = 0;
+    private boolean isFlushRequested = false;
+    private boolean isClosed = false;
+    private IOException error;
+
+    private int maxQueueDepth = 0;
+    private int numberOfWrites = 0;
+    private long totalWriteNanos = 0;
+    private long maxWriteNanos = 0;
+
+    /**
+     * Starts a writer for the given data file and journal.
+     *
+     * @param filePath The path of the data file that snapshots are written to.
+     * @param journalPath The path of the journal file that entries are appended to.
+     * @param flushIntervalMillis How long to wait for further changes before writing a batch.
+     */
+    public StorageWriter(String filePath, String journalPath, long flushIntervalMillis) {
+        assert flushIntervalMillis >= 0 : "Flush interval cannot be negative";
+        this.filePath = filePath;
+        this.journalPath = journalPath;
+        this.flushIntervalMillis = flushIntervalMillis;
+        thread = new Thread(this::run, "storage-writer");
+        thread.setDaemon(true);
+        thread.start();
+        shutdownHook = new Thread(this::closeQuietly, "storage-writer-shutdown");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    /**
+     * Queues an entry to be appended to the journal.
+     *
+     * @param entry The journal entry.
+     */
+    public synchronized void append(String entry) {
+        submit(new Task(entry, null));
+    }
+
+    /**
+     * Queues a snapshot to replace the data file. The journal is emptied once the snapshot is written.
+     *
+     * @param contents The contents of the data file, which must not be modified afterwards.
+     */
+    public synchronized void writeSnapshot(byte[] contents) {
+        submit(new Task(null, contents));
+    }
+
+    private void submit(Task task) {
+        if (isClosed) {
+            LOGGER.warning("Storage writer is closed, dropping write");
+            return;
+        }
+        pending.add(task);
+        numberOfSubmitted++;
+        maxQueueDepth = Math.max(maxQueueDepth, pending.size());
+        notifyAll();
+    }
+
+    /**
+     * Waits until everything queued so far has been written.
+     *
+     * @throws IOException If a write has failed.
+     */
+    public synchronized void flush() throws IOException {
+        long target = numberOfSubmitted;
+        isFlushRequested = true;
+        notifyAll();
+        try {
+            while (numberOfWritten < target && thread.isAlive()) {
+                wait(flushIntervalMillis + 1);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        checkError();
+    }
+
+    /**
+     * Throws the error of the last failed write, if any, and clears it.
+     *
+     * @throws IOException If a write has failed since the last check.
+     */
+    public synchronized void checkError() throws IOException {
+        if (error != null) {
+            IOException failure = error;
+            error = null;
+            throw failure;
+        }
+    }
+
+    /**
+     * Writes everything still queued and stops the writer. Calling this more than once has no effect.
+     *
+     * @throws IOException If a write has failed.
+     */
+    public void close() throws IOException {
+        synchronized (this) {
+            if (isClosed) {
+                return;
+            }
+            isClosed = true;
+            notifyAll();
+        }
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException e) {
+            // The JVM is already shutting down, which is what closed the writer
+        }
+        LOGGER.info("Storage writer closed after " + getNumberOfWrites() + " writes, average latency "
+                + getAverageWriteLatencyMillis() + " ms, max latency " + getMaxWriteLatencyMillis()
+                + " ms, max queue depth " + getMaxQueueDepth());
+        checkError();
+    }
+
+    private void closeQuietly() {
+        try {
+            close();
+        } catch (IOException e) {
+            LOGGER.warning("Failed to write data on shutdown: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the number of queued writes that have not been written yet.
+     *
+     * @return The current queue depth.
+     */
+    public synchronized int getQueueDepth() {
+        return pending.size();
+    }
+
+    /**
+     * Returns the largest number of writes that were queued at the same time.
+     *
+     * @return The maximum queue depth.
+     */
+    public synchronized int getMaxQueueDepth() {
+        return maxQueueDepth;
+    }
+
+    /**
+     * Returns the number of batches written to disk.
+     *
+     * @return The number of writes.
+     */
+    public synchronized int getNumberOfWrites() {
+        return numberOfWrites;
+    }
+
+    /**
+     * Returns the average time taken to write a batch to disk.
+     *
+     * @return The average write latency in milliseconds.
+     */
+    public synchronized double getAverageWriteLatencyMillis() {
+        if (numberOfWrites == 0) {
+            return 0;
+        }
+        return totalWriteNanos / 1e6 / numberOfWrites;
+    }
+
+    /**
+     * Returns the longest time taken to write a batch to disk.
+     *
+     * @return The maximum write latency in milliseconds.
+     */
+    public synchronized double getMaxWriteLatencyMillis() {
+        return maxWriteNanos / 1e6;
+    }
+
+    private void run() {
+        while (true) {
+            ArrayList<Task> batch;
+            long batchEnd;
+            synchronized (this) {
+                try {
+                    while (pending.isEmpty() && !isClosed) {
+                        wait();
+                    }
+                    long deadline = System.currentTimeMillis() + flushIntervalMillis;
+                    long remaining = flushIntervalMillis;
+                    while (!isClosed && !isFlushRequested && remaining > 0) {
+                        wait(remaining);
+                        remaining = deadline - System.currentTimeMillis();
+                    }
+                } catch (InterruptedException e) {
+                    isClosed = true;
+                }
+                if (pending.isEmpty() && isClosed) {
+                    closeJournalWriter();
+                    notifyAll();
+                    return;
+                }
+                batch = new ArrayList<>(pending);
+                pending.clear();
+                batchEnd = numberOfSubmitted;
+                isFlushRequested = false;
+            }
+
+            long start = System.nanoTime();
+            IOException failure = null;
+            try {
+                writeBatch(batch);
+            } catch (IOException e) {
+                LOGGER.warning("Failed to write data: " + e.getMessage());
+                failure = e;
+            }
+            long elapsed = System.nanoTime() - start;
+
+            synchronized (this) {
+                if (failure != null) {
+                    error = failure;
+                }
+                numberOfWritten = batchEnd;
+                numberOfWrites++;
+                totalWriteNanos += elapsed;
+                maxWriteNanos = Math.max(maxWriteNanos, elapsed);
+                notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Writes a batch of queued tasks. Entries queued before the last snapshot of the batch are
+     * skipped, as the snapshot already contains them.
+     *
+     * @param batch The tasks in the order they were queued.
+     * @throws IOException If the data file or journal cannot be written.
+     */
+    private void writeBatch(List<Task> batch) throws IOException {
+        int start = 0;
+        for (int i = batch.size() - 1; i >= 0; i--) {
+            if (batch.get(i).snapshot != null) {
+                writeSnapshotFile(batch.get(i).snapshot);
+                start = i + 1;
+                break;
+            }
+        }
+        if (start == batch.size()) {
+            return;
+        }
+        List<String> entries = new ArrayList<>();
+        for (int i = start; i < batch.size(); i++) {
+            entries.add(batch.get(i).entry);
+        }
+        writeJournalLines(entries);
+    }
+
+    /**
+     * Appends the lines to the journal and forces them to disk.
+     */
+    private void writeJournalLines(List<String> lines) throws IOException {
+        if (journalWriter == null) {
+            openJournalWriter(true);
+        }
+        for (String line : lines) {
+            journalWriter.write(line);
+            journalWriter.newLine();
+        }
+        journalWriter.flush();
+        journalStream.getChannel().force(false);
+    }
+
+    /**
+     * Marks the snapshot in the journal, atomically replaces the data file with the snapshot, and only then
+     * empties the journal. A crash before the data file is replaced leaves the old file and its journal, and a
+     * crash after it leaves the new file, whose marker tells {@link Journal#replay} to skip the entries before it.
+     */
+    private void writeSnapshotFile(byte[] contents) throws IOException {
+        writeJournalLines(List.of(Journal.getSnapshotMarker(contents)));
+        AtomicFile.write(Paths.get(filePath), contents);
+        emptyJournal();
+        LOGGER.info("Snapshot written to " + filePath + ", journal emptied");
+    }
+
+    /**
+     * Empties the journal once a snapshot has replaced the data file.
+     *
+     * @throws IOException If the journal cannot be emptied.
+     */
+    void emptyJournal() throws IOException {
+        closeJournalWriter();
+        openJournalWriter(false);
+    }
+
+    private void openJournalWriter(boolean isAppending) throws IOException {
+        journalStream = new FileOutputStream(journalPath, isAppending);
+        journalWriter = new BufferedWriter(new OutputStreamWriter(journalStream, Charset.defaultCharset()));
+    }
+
+    private void closeJournalWriter() {
+        if (journalWriter == null) {
+            return;
+        }
+        try {
+            journalWriter.close();
+        } catch (IOException e) {
+            LOGGER.warning("Failed to close journal: " + e.getMessage());
+        }
+        journalWriter = null;
+        journalStream = null;
+    }
+
+    /**
+     * A queued write: either a journal entry or a full snapshot.
+     */
+    private static class Task {
+        private final String entry;
+        private final byte[] snapshot;
+
+        private Task(String entry, byte[] snapshot) {
+            this.entry = entry;
+            this.snapshot = snapshot;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package seedu.budgetbuddy;
 
 import java.time.YearMonth;
 import java.util.Scanner;
+import java.util.function.Consumer;
 
 /**
  * The Ui class handles all user interactions by displaying messages to the user and
@@ -67,6 +68,34 @@ public class Ui {
         System.out.println(SEPARATOR);
     }
 
+    /**
+     * Displays a message that is written piece by piece, surrounded by separators like
+     * {@link #displayToUser(String)}. The message is passed on to the console in chunks while it is written,
+     * so long listings are never held in memory as a whole.
+     *
+     * @param message Writes the message to the given writer.
+     */
+    public static void displayToUser(Consumer<MessageWriter> message) {
+        System.out.println(SEPARATOR);
+        MessageWriter writer = new MessageWriter(true);
+        message.accept(writer);
+        writer.flush();
+        System.out.println();
+        System.out.println(SEPARATOR);
+    }
+
+    /**
+     * Returns a message that is written piece by piece as a single string.
+     *
+     * @param message Writes the message to the given writer.
+     * @return The written message.
+     */
+    public static String render(Consumer<MessageWriter> message) {
+        MessageWriter writer = new MessageWriter(false);
+        message.accept(writer);
+        return writer.buffer.toString();
+    }
+
     /**
      * Displays the welcome message when the application starts.
      */
@@ -142,8 +171,9 @@ public class Ui {
                 "second line of input. Refer to example below.\n" +
                 "Example:\nedit incomes 3\n" +
                 "a/1000 d/12/10/2024\n" +
-                "12. Display income spent. Note - (optional)month - m/MM/YYYY\n" +
-                "Example:\ndisplay income spent m/10/2024\n" +
+                "12. Display income spent, for a month or for every month in a range. Note - (optional)month - " +
+                "m/MM/YYYY, or a range - from/MM/YYYY to/MM/YYYY\n" +
+                "Examples:\ndisplay income spent m/10/2024\ndisplay income spent from/01/2024 to/06/2024\n" +
                 "13. Search expense (with provided keyword)\n" +
                 "Example:\nsearch expense japan\n" +
                 "14. Display savings (by month or in total)\n" +
@@ -154,7 +184,10 @@ public class Ui {
                 "Example:\ndisplay monthly expenses y/2024\n" +
                 "17. Display monthly expenses with categories. Note: month - m/MM/YYYY\n" +
                 "Example:\ndisplay expenses with categories m/09/2024\n" +
-                "18. Exit app. \n" +
+                "18. Export expenses with categories charts to data/charts. Note: from/MM/YYYY to/MM/YYYY " +
+                "(optional)format - f/png or f/svg\n" +
+                "Example:\nexport expenses with categories from/01/2024 to/12/2024\n" +
+                "19. Exit app. \n" +
                 "Example:\nbye";
         displayToUser(message);
     }
@@ -170,4 +203,85 @@ public class Ui {
     public static void showMessage(String message) {
         System.out.println(message);
     }
+
+    /**
+     * Collects the pieces of a message and, when displaying, passes them on to the console whenever
+     * {@value #CHUNK_SIZE} characters have been collected.
+     */
+    public static class MessageWriter {
+        private static final int CHUNK_SIZE = 8192;
+        private final StringBuilder buffer = new StringBuilder();
+        private final boolean isDisplaying;
+
+        private MessageWriter(boolean isDisplaying) {
+            this.isDisplaying = isDisplaying;
+        }
+
+        /**
+         * Appends a piece of the message.
+         *
+         * @param text The text to append.
+         * @return This writer.
+         */
+        public MessageWriter append(String text) {
+            buffer.append(text);
+            return flushIfFull();
+        }
+
+        /**
+         * Appends a character of the message.
+         *
+         * @param c The character to append.
+         * @return This writer.
+         */
+        public MessageWriter append(char c) {
+            buffer.append(c);
+            return flushIfFull();
+        }
+
+        /**
+         * Appends a number of the message, as {@code String.valueOf} would format it.
+         *
+         * @param number The number to append.
+         * @return This writer.
+         */
+        public MessageWriter append(int number) {
+            buffer.append(number);
+            return flushIfFull();
+        }
+
+        /**
+         * Appends a number of the message, as {@code String.valueOf} would format it.
+         *
+         * @param number The number to append.
+         * @return This writer.
+         */
+        public MessageWriter append(double number) {
+            buffer.append(number);
+            return flushIfFull();
+        }
+
+        /**
+         * Appends an object of the message, as {@code String.valueOf} would format it.
+         *
+         * @param object The object to append.
+         * @return This writer.
+         */
+        public MessageWriter append(Object object) {
+            buffer.append(object);
+            return flushIfFull();
+        }
+
+        private MessageWriter flushIfFull() {
+            if (isDisplaying && buffer.length() >= CHUNK_SIZE) {
+                flush();
+            }
+            return this;
+        }
+
+        private void flush() {
+            System.out.print(buffer);
+            buffer.setLength(0);
+        }
+    }
 }
@@ -0,0 +1,170 @@
+package seedu.budgetbuddy.commands;
+
+import seedu.budgetbuddy.exceptions.BudgetBuddyException;
+
+import java.util.Arrays;
+
+/**
+ * The CommandRegistry class maps user input to the command it starts with.
+ *
+ * <p>Command words are kept in a radix trie whose edges are labelled with the shared parts of the words,
+ * so finding the command for an input compares at most the length of the longest command word and does not
+ * depend on how many commands are registered. A command is registered either for every input starting with
+ * its word, or only for input equal to its word. If several registered words match, the exact match or
+ * otherwise the longest word wins.</p>
+ */
+public class CommandRegistry {
+    private final Node root = new Node();
+
+    /**
+     * Creates the command for an input that starts with its command word, usually by validating the input.
+     */
+    @FunctionalInterface
+    public interface Factory {
+        /**
+         * Creates the command for the given input.
+         *
+         * @param userCommandText The input provided by the user.
+         * @return The command to execute.
+         * @throws BudgetBuddyException If the input cannot be turned into a command.
+         */
+        Command create(String userCommandText) throws BudgetBuddyException;
+    }
+
+    /**
+     * Registers a command for every input that starts with the given command word.
+     *
+     * @param commandWord The command word.
+     * @param factory Creates the command from the input.
+     * @throws IllegalArgumentException If a command is already registered for the word.
+     */
+    public void registerPrefix(String commandWord, Factory factory) {
+        Node node = getOrCreateNode(commandWord);
+        if (node.prefixFactory != null) {
+            throw new IllegalArgumentException("Command already registered: " + commandWord);
+        }
+        node.prefixFactory = factory;
+    }
+
+    /**
+     * Registers a command for input that is exactly the given command word.
+     *
+     * @param commandWord The command word.
+     * @param factory Creates the command from the input.
+     * @throws IllegalArgumentException If a command is already registered for the word.
+     */
+    public void registerExact(String commandWord, Factory factory) {
+        Node node = getOrCreateNode(commandWord);
+        if (node.exactFactory != null) {
+            throw new IllegalArgumentException("Command already registered: " + commandWord);
+        }
+        node.exactFactory = factory;
+    }
+
+    private Node getOrCreateNode(String commandWord) {
+        assert commandWord != null && !commandWord.isEmpty() : "Command word cannot be empty";
+        Node node = root;
+        int i = 0;
+        while (i < commandWord.length()) {
+            int index = node.indexOf(commandWord.charAt(i));
+            if (index < 0) {
+                return node.addChild(commandWord.substring(i), new Node());
+            }
+            String label = node.labels[index];
+            int common = 1;
+            while (common < label.length() && i + common < commandWord.length()
+                    && label.charAt(common) == commandWord.charAt(i + common)) {
+                common++;
+            }
+            if (common < label.length()) {
+                node.splitChild(index, common);
+            }
+            node = node.children[index];
+            i += common;
+        }
+        return node;
+    }
+
+    /**
+     * Returns the factory of the command that the input starts with.
+     *
+     * @param userCommandText The input provided by the user.
+     * @return The factory of the matching command, or {@code null} if no command matches.
+     */
+    public Factory find(String userCommandText) {
+        Node node = root;
+        Factory match = null;
+        int i = 0;
+        while (true) {
+            if (node.prefixFactory != null) {
+                match = node.prefixFactory;
+            }
+            if (i == userCommandText.length()) {
+                return node.exactFactory != null ? node.exactFactory : match;
+            }
+            int index = node.indexOf(userCommandText.charAt(i));
+            if (index < 0 || !userCommandText.startsWith(node.labels[index], i)) {
+                return match;
+            }
+            i += node.labels[index].length();
+            node = node.children[index];
+        }
+    }
+
+    /**
+     * Creates the command that the input starts with.
+     *
+     * @param userCommandText The input provided by the user.
+     * @return The matching command, or an {@code IncorrectCommand} if no command matches.
+     * @throws BudgetBuddyException If the matching command rejects the input.
+     */
+    public Command parse(String userCommandText) throws BudgetBuddyException {
+        Factory factory = find(userCommandText);
+        if (factory == null) {
+            return new IncorrectCommand("Invalid input");
+        }
+        return factory.create(userCommandText);
+    }
+
+    /**
+     * A node of the trie. Nodes have few children, so their edges are kept in small arrays indexed by the
+     * first character of each label, which differs between the edges of a node.
+     */
+    private static class Node {
+        private char[] firstCharacters = new char[0];
+        private String[] labels = new String[0];
+        private Node[] children = new Node[0];
+        private Factory prefixFactory;
+        private Factory exactFactory;
+
+        private int indexOf(char firstCharacter) {
+            for (int i = 0; i < firstCharacters.length; i++) {
+                if (firstCharacters[i] == firstCharacter) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private Node addChild(String label, Node child) {
+            int length = labels.length;
+            firstCharacters = Arrays.copyOf(firstCharacters, length + 1);
+            labels = Arrays.copyOf(labels, length + 1);
+            children = Arrays.copyOf(children, length + 1);
+            firstCharacters[length] = label.charAt(0);
+            labels[length] = label;
+            children[length] = child;
+            return child;
+        }
+
+        /**
+         * Splits the edge at the given index after its first {@code length} characters.
+         */
+        private void splitChild(int index, int length) {
+            Node middle = new Node();
+            middle.addChild(labels[index].substring(length), children[index]);
+            labels[index] = labels[index].substring(0, length);
+            children[index] = middle;
+        }
+    }
+}
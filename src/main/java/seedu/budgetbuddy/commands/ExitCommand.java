@@ -7,6 +7,7 @@ import seedu.budgetbuddy.Ui;
  * This command triggers the display of the exit message when executed.
  */
 public class ExitCommand extends Command {
+    public static final String COMMAND_WORD = "bye";
 
     /**
      * Constructs an ExitCommand object.
@@ -22,7 +23,7 @@ public class ExitCommand extends Command {
      * @return true if the command is the exit command, false otherwise.
      */
     public static boolean isCommand(String command) {
-        return command.equals("bye");
+        return command.equals(COMMAND_WORD);
     }
 
     /**
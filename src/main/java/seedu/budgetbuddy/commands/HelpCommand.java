@@ -6,13 +6,15 @@ import seedu.budgetbuddy.Ui;
  * Represents a command to display a help message to new users
  */
 public class HelpCommand extends Command{
+    public static final String COMMAND_WORD = "help";
+
     /**
      * Determine if given command is the help command
      * @param command Input command from user
      * @return true if command matches "help". else, false.
      */
     public static boolean isCommand(String command){
-        return command.startsWith("help");
+        return command.startsWith(COMMAND_WORD);
     }
 
     /**
@@ -14,6 +14,8 @@ import java.util.logging.Logger;
  * Represents a command to add a budget for a specific month and year.
  */
 public class AddBudgetCommand extends Command {
+    public static final String COMMAND_WORD = "add budget";
+
     private static final Logger LOGGER = LoggerSetup.getLogger();
     private double amount;
     private YearMonth date;
@@ -68,7 +70,7 @@ public class AddBudgetCommand extends Command {
      * @return true if the command starts with "add budget", false otherwise.
      */
     public static boolean isCommand(String command) {
-        return command.startsWith("add budget");
+        return command.startsWith(COMMAND_WORD);
     }
 
     /**
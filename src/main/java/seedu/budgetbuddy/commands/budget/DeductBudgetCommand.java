@@ -13,6 +13,8 @@ import java.util.logging.Logger;
  * Represents a command to deduct a budget for a specific month and year.
  */
 public class DeductBudgetCommand extends Command {
+    public static final String COMMAND_WORD = "deduct budget";
+
     private static final Logger LOGGER = LoggerSetup.getLogger();
     private double amount;
     private YearMonth date;
@@ -67,7 +69,7 @@ public class DeductBudgetCommand extends Command {
      * @return true if the command starts with "deduct budget", false otherwise.
      */
     public static boolean isCommand(String command) {
-        return command.startsWith("deduct budget");
+        return command.startsWith(COMMAND_WORD);
     }
 
     /**
@@ -10,6 +10,8 @@ import java.time.YearMonth;
  * This command retrieves and displays the current budgets for the user.
  */
 public class ListBudgetCommand extends Command {
+    public static final String COMMAND_WORD = "list budgets";
+
     private YearMonth date;
 
     /**
@@ -37,7 +39,7 @@ public class ListBudgetCommand extends Command {
      * @return True if the command matches "list budget", false otherwise.
      */
     public static boolean isCommand(String command) {
-        return command.startsWith("list budgets");
+        return command.startsWith(COMMAND_WORD);
     }
 
     /**
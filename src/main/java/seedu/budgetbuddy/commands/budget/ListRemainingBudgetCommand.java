@@ -1,6 +1,7 @@
 package seedu.budgetbuddy.commands.budget;
 
 import seedu.budgetbuddy.commands.Command;
+import seedu.budgetbuddy.transaction.HistoryManager;
 import seedu.budgetbuddy.transaction.budget.RemainingBudgetManager;
 
 /**
@@ -8,6 +9,8 @@ import seedu.budgetbuddy.transaction.budget.RemainingBudgetManager;
  * This command retrieves and displays the current budgets for the user.
  */
 public class ListRemainingBudgetCommand extends Command {
+    public static final String COMMAND_WORD = "list remaining budget";
+
     /**
      * Checks if the provided command matches the command to list budget.
      *
@@ -15,7 +18,7 @@ public class ListRemainingBudgetCommand extends Command {
      * @return True if the command matches "list budget", false otherwise.
      */
     public static boolean isCommand(String command) {
-        return command.equals("list remaining budget");
+        return command.equals(COMMAND_WORD);
     }
 
     /**
@@ -23,6 +26,7 @@ public class ListRemainingBudgetCommand extends Command {
      */
     @Override
     public void execute() {
+        HistoryManager.requireAll();
         new RemainingBudgetManager().listRemainingBudgets();
     }
 }
@@ -13,6 +13,8 @@ import java.time.LocalDate;
  * and add it to the expense manager.
  */
 public class AddExpenseCommand extends Command {
+    public static final String COMMAND_WORD = "add expense";
+
     private String description;
     private double amount;
     private LocalDate date;
@@ -40,7 +42,7 @@ public class AddExpenseCommand extends Command {
      * @return true if the command starts with "add expense", false otherwise.
      */
     public static boolean isCommand(String command) {
-        return command.startsWith("add expense");
+        return command.startsWith(COMMAND_WORD);
     }
 
     /**
@@ -9,13 +9,15 @@ import seedu.budgetbuddy.transaction.expense.ExpenseManager;
  * know where they are spending their money.
  */
 public class BreakdownExpensesCommand extends Command {
+    public static final String COMMAND_WORD = "breakdown expenses";
+
     /**
      * Verifies that the user input starts with "display expenses"
      * @param command User input command
      * @return true if command starts with "breakdown expenses", false otherwise.
      */
     public static boolean isCommand(String command){
-        return command.equals("breakdown expenses");
+        return command.equals(COMMAND_WORD);
     }
 
     /**
@@ -1,14 +1,21 @@
 package seedu.budgetbuddy.commands.expense;
 
 import seedu.budgetbuddy.commands.Command;
+import seedu.budgetbuddy.transaction.expense.Expense;
 import seedu.budgetbuddy.transaction.expense.ExpenseManager;
 
 /**
  * Represents a command to delete an expense in the BudgetBuddy application.
- * This command removes an expense at the specified index from the expense list.
+ * This command removes an expense at the specified index from the expense list, or a given expense by its ID,
+ * which stays the same however many expenses are deleted before the command is executed.
  */
 public class DeleteExpenseCommand extends Command {
+    public static final String COMMAND_WORD = "delete expense";
+
+    private static final long NO_ID = -1;
+
     private final int index;
+    private final long id;
 
     /**
      * Constructs a DeleteExpenseCommand with the specified index of the expense to be deleted.
@@ -17,6 +24,17 @@ public class DeleteExpenseCommand extends Command {
      */
     public DeleteExpenseCommand(int index) {
         this.index = index;
+        this.id = NO_ID;
+    }
+
+    /**
+     * Constructs a DeleteExpenseCommand that deletes the given expense, found by its ID.
+     *
+     * @param expense The expense to delete.
+     */
+    public DeleteExpenseCommand(Expense expense) {
+        this.index = -1;
+        this.id = expense.getId();
     }
 
     /**
@@ -26,7 +44,7 @@ public class DeleteExpenseCommand extends Command {
      * @return true if the command is a delete expense command, false otherwise.
      */
     public static boolean isCommand(String command) {
-        return command.startsWith("delete expense");
+        return command.startsWith(COMMAND_WORD);
     }
 
     /**
@@ -35,6 +53,10 @@ public class DeleteExpenseCommand extends Command {
      */
     @Override
     public void execute(){
-        ExpenseManager.deleteExpense(index);
+        if (id == NO_ID) {
+            ExpenseManager.deleteExpense(index);
+        } else {
+            ExpenseManager.deleteExpenseById(id);
+        }
     }
 }
@@ -12,6 +12,8 @@ import java.util.logging.Logger;
  * Command for displaying a pie chart of expenses categorized by month.
  */
 public class DisplayExpensesForMonthWithCategoriesGraphCommand extends Command {
+    public static final String COMMAND_WORD = "display expenses with categories";
+
     private static final Logger LOGGER = LoggerSetup.getLogger();
     private YearMonth yearMonth;
 
@@ -31,7 +33,7 @@ public class DisplayExpensesForMonthWithCategoriesGraphCommand extends Command {
      * @return True if the command starts with "display expenses with categories", false otherwise.
      */
     public static boolean isCommand(String command) {
-        return command.startsWith("display expenses with categories");
+        return command.startsWith(COMMAND_WORD);
     }
 
     /**
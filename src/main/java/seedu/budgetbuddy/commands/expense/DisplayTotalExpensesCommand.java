@@ -12,6 +12,8 @@ import java.util.logging.Logger;
  * Command for displaying total expenses for a specific year or month.
  */
 public class DisplayTotalExpensesCommand extends Command {
+    public static final String COMMAND_WORD = "display monthly expenses";
+
     private static final Logger LOGGER = LoggerSetup.getLogger();
     private int year;
 
@@ -31,7 +33,7 @@ public class DisplayTotalExpensesCommand extends Command {
      * @return true if the command matches the expected format; false otherwise.
      */
     public static boolean isCommand(String command) {
-        return command.startsWith("display monthly expenses");
+        return command.startsWith(COMMAND_WORD);
     }
 
     /**
@@ -4,6 +4,7 @@ import seedu.budgetbuddy.Ui;
 import seedu.budgetbuddy.commands.Command;
 import seedu.budgetbuddy.transaction.Category;
 import seedu.budgetbuddy.transaction.expense.Expense;
+import seedu.budgetbuddy.transaction.expense.ExpenseManager;
 import seedu.budgetbuddy.util.LoggerSetup;
 import seedu.budgetbuddy.validators.expense.EditExpenseValidator;
 
@@ -12,11 +13,9 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 public class EditExpenseCommand extends Command {
+    public static final String COMMAND_WORD = "edit expenses";
 
     private static final Logger LOGGER = LoggerSetup.getLogger();
-    private static final double EMPTY_AMOUNT = -1.0;
-    private static final Category EMPTY_CATEGORY = null;
-    private static final LocalDate EMPTY_DATE = null;
     private static Category category;
     private static LocalDate date;
     private static double amount;
@@ -33,7 +32,7 @@ public class EditExpenseCommand extends Command {
      * @return True if the command matches "edit expenses", false otherwise.
      */
     public static boolean isCommand(String command) {
-        return command.startsWith("edit expenses");
+        return command.startsWith(COMMAND_WORD);
     }
     
     /**
@@ -102,15 +101,7 @@ public class EditExpenseCommand extends Command {
      * For any field that is not left empty by user, it will update the Expense object.
      */
     public void processEdit() {
-        if (category != EMPTY_CATEGORY) {
-            expense.editCategory(category);
-        }
-        if (date != EMPTY_DATE) {
-            expense.editDate(date);
-        }
-        if (amount != EMPTY_AMOUNT) {
-            expense.editAmount(amount);
-        }
+        ExpenseManager.editExpense(expense, category, date, amount);
         Ui.displayToUser("Edited Expense:\n" + expense.toString());
     }
 
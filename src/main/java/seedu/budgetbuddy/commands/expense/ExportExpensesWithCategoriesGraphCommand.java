@@ -0,0 +1,99 @@
+package seedu.budgetbuddy.commands.expense;
+
+import seedu.budgetbuddy.Ui;
+import seedu.budgetbuddy.commands.Command;
+import seedu.budgetbuddy.graphs.ChartExporter;
+import seedu.budgetbuddy.transaction.expense.ExpenseManager;
+import seedu.budgetbuddy.util.LoggerSetup;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Command for writing the pie charts of expenses by category of every month in a range to image files, without
+ * displaying them.
+ */
+public class ExportExpensesWithCategoriesGraphCommand extends Command {
+    public static final String COMMAND_WORD = "export expenses with categories";
+    public static final Path CHARTS_DIRECTORY = Paths.get("./data/charts");
+
+    private static final Logger LOGGER = LoggerSetup.getLogger();
+    private YearMonth startMonth;
+    private YearMonth endMonth;
+    private ChartExporter.Format format;
+
+    /**
+     * Constructs a command to export the pie charts of the months in a range.
+     *
+     * @param startMonth The first month of the range.
+     * @param endMonth The last month of the range, inclusive.
+     * @param format The format of the chart files.
+     */
+    public ExportExpensesWithCategoriesGraphCommand(YearMonth startMonth, YearMonth endMonth,
+            ChartExporter.Format format) {
+        this.startMonth = startMonth;
+        this.endMonth = endMonth;
+        this.format = format;
+    }
+
+    /**
+     * Checks if the given command is an export expenses with categories command.
+     *
+     * @param command The command string to check.
+     * @return True if the command starts with "export expenses with categories", false otherwise.
+     */
+    public static boolean isCommand(String command) {
+        return command.startsWith(COMMAND_WORD);
+    }
+
+    /**
+     * Gets the first month of the range. Useful for unit testing.
+     *
+     * @return The first month of the range.
+     */
+    public YearMonth getStartMonth() {
+        return startMonth;
+    }
+
+    /**
+     * Gets the last month of the range. Useful for unit testing.
+     *
+     * @return The last month of the range, inclusive.
+     */
+    public YearMonth getEndMonth() {
+        return endMonth;
+    }
+
+    /**
+     * Gets the format of the chart files. Useful for unit testing.
+     *
+     * @return The format of the chart files.
+     */
+    public ChartExporter.Format getFormat() {
+        return format;
+    }
+
+    /**
+     * Executes the command to write the pie charts of the range to the charts directory.
+     */
+    @Override
+    public void execute() {
+        try {
+            List<Path> files = ExpenseManager.exportExpensesForMonthsWithCategoriesGraphs(startMonth, endMonth,
+                    CHARTS_DIRECTORY, format);
+            if (files.isEmpty()) {
+                Ui.displayToUser("No expenses recorded from " + startMonth + " to " + endMonth);
+                return;
+            }
+            Ui.displayToUser("Exported " + files.size() + " Expenses PieCharts to " + CHARTS_DIRECTORY);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to export charts", e);
+            Ui.displayToUser("Error exporting charts to " + CHARTS_DIRECTORY);
+        }
+    }
+}
@@ -15,6 +15,7 @@ import java.util.logging.Logger;
  * This command retrieves and displays the current expenses for the user.
  */
 public class ListExpenseCommand extends Command {
+    public static final String COMMAND_WORD = "list expenses";
 
     private static final Logger LOGGER = LoggerSetup.getLogger();
     private Category category;
@@ -66,7 +67,7 @@ public class ListExpenseCommand extends Command {
      * @return True if the command matches "list expenses", false otherwise.
      */
     public static boolean isCommand(String command) {
-        return command.startsWith("list expenses");
+        return command.startsWith(COMMAND_WORD);
     }
 
     public Category getCategory() {
@@ -87,13 +88,13 @@ public class ListExpenseCommand extends Command {
             ExpenseManager.listExpenses();
         } else if (category == null) {
             LOGGER.info("Displaying expenses listed in the Month: " + month);
-            Ui.displayToUser(ExpenseManager.listExpensesWithDate(month));
+            Ui.displayToUser(out -> ExpenseManager.listExpensesWithDate(month, out));
         } else if (month == null) {
             LOGGER.info("Displaying expenses listed with Category: " + category);
-            Ui.displayToUser(ExpenseManager.listExpensesWithCategory(category));
+            Ui.displayToUser(out -> ExpenseManager.listExpensesWithCategory(category, out));
         } else {
             LOGGER.info("Displaying expenses listed with Category: " + category + " and Month: " + month);
-            Ui.displayToUser(ExpenseManager.listExpensesWithCategoryAndDate(category,month));
+            Ui.displayToUser(out -> ExpenseManager.listExpensesWithCategoryAndDate(category, month, out));
         }
     }
 }
@@ -5,6 +5,8 @@ import seedu.budgetbuddy.commands.Command;
 import seedu.budgetbuddy.transaction.expense.ExpenseManager;
 
 public class SearchExpenseCommand extends Command {
+    public static final String COMMAND_WORD = "search expenses";
+
     private String keyword;
 
     /**
@@ -28,7 +30,7 @@ public class SearchExpenseCommand extends Command {
      * @return True if command starts with "search", False otherwise
      */
     public static boolean isCommand(String command){
-        return command.startsWith("search expenses");
+        return command.startsWith(COMMAND_WORD);
     }
 
     /**
@@ -38,7 +40,7 @@ public class SearchExpenseCommand extends Command {
         if (getKeyword().equals("")){
             Ui.searchEmptyMessage();
         } else{
-            Ui.displayToUser(ExpenseManager.searchExpenses(getKeyword()));
+            Ui.displayToUser(out -> ExpenseManager.searchExpenses(getKeyword(), out));
         }
     }
 
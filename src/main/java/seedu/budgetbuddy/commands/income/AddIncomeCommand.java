@@ -12,6 +12,8 @@ import java.time.LocalDate;
  * and add it to the IncomeManager.
  */
 public class AddIncomeCommand extends Command {
+    public static final String COMMAND_WORD = "add income";
+
     private String description;
     private double amount;
     private LocalDate date;
@@ -36,7 +38,7 @@ public class AddIncomeCommand extends Command {
      * @return true if the command starts with "add income", false otherwise.
      */
     public static boolean isCommand(String command) {
-        return command.startsWith("add income");
+        return command.startsWith(COMMAND_WORD);
     }
 
     /**
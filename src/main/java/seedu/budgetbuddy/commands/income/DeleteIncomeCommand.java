@@ -1,14 +1,21 @@
 package seedu.budgetbuddy.commands.income;
 
 import seedu.budgetbuddy.commands.Command;
+import seedu.budgetbuddy.transaction.income.Income;
 import seedu.budgetbuddy.transaction.income.IncomeManager;
 
 /**
  * Represents a command to delete an income in the BudgetBuddy application.
- * This command removes an income at the specified index from the income list.
+ * This command removes an income at the specified index from the income list, or a given income by its ID,
+ * which stays the same however many incomes are deleted before the command is executed.
  */
 public class DeleteIncomeCommand extends Command {
+    public static final String COMMAND_WORD = "delete income";
+
+    private static final long NO_ID = -1;
+
     private final int index;
+    private final long id;
 
     /**
      * Constructs a DeleteIncomeCommand with the specified index of the income to be deleted.
@@ -17,6 +24,17 @@ public class DeleteIncomeCommand extends Command {
      */
     public DeleteIncomeCommand(int index) {
         this.index = index;
+        this.id = NO_ID;
+    }
+
+    /**
+     * Constructs a DeleteIncomeCommand that deletes the given income, found by its ID.
+     *
+     * @param income The income to delete.
+     */
+    public DeleteIncomeCommand(Income income) {
+        this.index = -1;
+        this.id = income.getId();
     }
 
     /**
@@ -26,7 +44,7 @@ public class DeleteIncomeCommand extends Command {
      * @return true if the command is a delete income command, false otherwise.
      */
     public static boolean isCommand(String command) {
-        return command.startsWith("delete income");
+        return command.startsWith(COMMAND_WORD);
     }
 
     /**
@@ -35,6 +53,10 @@ public class DeleteIncomeCommand extends Command {
      */
     @Override
     public void execute(){
-        IncomeManager.deleteIncome(index);
+        if (id == NO_ID) {
+            IncomeManager.deleteIncome(index);
+        } else {
+            IncomeManager.deleteIncomeById(id);
+        }
     }
 }
@@ -6,10 +6,14 @@ import seedu.budgetbuddy.transaction.income.IncomeSpent;
 import java.time.YearMonth;
 
 /**
- * Represents a command to display the percentage of income spent for a specified month.
+ * Represents a command to display the percentage of income spent for a specified month, or for every month
+ * in a range of months.
  */
 public class DisplayIncomeSpentCommand extends Command {
+    public static final String COMMAND_WORD = "display income spent";
+
     private YearMonth month;
+    private YearMonth endMonth;
 
     /**
      * Constructs a DisplayIncomeSpentCommand with the specified month.
@@ -20,15 +24,35 @@ public class DisplayIncomeSpentCommand extends Command {
         this.month = month;
     }
 
+    /**
+     * Constructs a DisplayIncomeSpentCommand for every month in the specified range.
+     *
+     * @param month The first month of the range.
+     * @param endMonth The last month of the range, inclusive.
+     */
+    public DisplayIncomeSpentCommand(YearMonth month, YearMonth endMonth) {
+        this.month = month;
+        this.endMonth = endMonth;
+    }
+
     /**
      * Retrieves the month associated with this command. Useful for unit testing.
      *
-     * @return The specified month of the income spent.
+     * @return The specified month of the income spent, or the first month of the range.
      */
     public YearMonth getMonth() {
         return month;
     }
 
+    /**
+     * Retrieves the last month of the range associated with this command. Useful for unit testing.
+     *
+     * @return The last month of the range, or null if the command is for a single month.
+     */
+    public YearMonth getEndMonth() {
+        return endMonth;
+    }
+
     /**
      * Checks if the given command is a display income spent command.
      *
@@ -36,14 +60,18 @@ public class DisplayIncomeSpentCommand extends Command {
      * @return true if the command starts with "display income spent"; false otherwise.
      */
     public static boolean isCommand(String command) {
-        return command.startsWith("display income spent");
+        return command.startsWith(COMMAND_WORD);
     }
 
     /**
-     * Executes the command to display the percentage of income spent for the specified month.
+     * Executes the command to display the percentage of income spent for the specified month or range.
      */
     @Override
     public void execute() {
-        IncomeSpent.displaySpentPercentage(month);
+        if (endMonth == null) {
+            IncomeSpent.displaySpentPercentage(month);
+        } else {
+            IncomeSpent.displaySpentPercentage(month, endMonth);
+        }
     }
 }
@@ -3,6 +3,7 @@ package seedu.budgetbuddy.commands.income;
 import seedu.budgetbuddy.Ui;
 import seedu.budgetbuddy.commands.Command;
 import seedu.budgetbuddy.transaction.income.Income;
+import seedu.budgetbuddy.transaction.income.IncomeManager;
 import seedu.budgetbuddy.util.LoggerSetup;
 import seedu.budgetbuddy.validators.income.EditIncomeValidator;
 
@@ -11,10 +12,9 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 public class EditIncomeCommand extends Command {
+    public static final String COMMAND_WORD = "edit incomes";
 
     private static final Logger LOGGER = LoggerSetup.getLogger();
-    private static final double EMPTY_AMOUNT = -1.0;
-    private static final LocalDate EMPTY_DATE = null;
     private static LocalDate date;
     private static double amount;
     private Income income;
@@ -31,7 +31,7 @@ public class EditIncomeCommand extends Command {
      * @return True if the command matches "edit incomes", false otherwise.
      */
     public static boolean isCommand(String command) {
-        return command.startsWith("edit incomes");
+        return command.startsWith(COMMAND_WORD);
     }
 
     /**
@@ -91,12 +91,7 @@ public class EditIncomeCommand extends Command {
      * For any field that is not left empty by user, it will update the Income object.
      */
     public void processEdit() {
-        if (date != EMPTY_DATE) {
-            income.editDate(date);
-        }
-        if (amount != EMPTY_AMOUNT) {
-            income.editAmount(amount);
-        }
+        IncomeManager.editIncome(income, date, amount);
         Ui.displayToUser("Edited Income:\n" + income.toString());
     }
 
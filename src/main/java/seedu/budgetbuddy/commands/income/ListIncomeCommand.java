@@ -10,6 +10,7 @@ import java.time.YearMonth;
  * This command retrieves and displays the current incomes for the user.
  */
 public class ListIncomeCommand extends Command {
+    public static final String COMMAND_WORD = "list incomes";
 
     private YearMonth month;
 
@@ -36,7 +37,7 @@ public class ListIncomeCommand extends Command {
      * @return True if the command matches "list incomes", false otherwise.
      */
     public static boolean isCommand(String command) {
-        return command.startsWith("list incomes");
+        return command.startsWith(COMMAND_WORD);
     }
 
     /**
@@ -8,6 +8,8 @@ import seedu.budgetbuddy.transaction.saving.SavingsManager;
  * Represents a command that displays the savings of the user.
  */
 public class DisplaySavingsCommand extends Command{
+    public static final String COMMAND_WORD = "display savings";
+
     private boolean byMonth;
 
     /**
@@ -24,7 +26,7 @@ public class DisplaySavingsCommand extends Command{
      * @return true if command starts with "display savings", otherwise false.
      */
     public static boolean isCommand(String command){
-        return command.startsWith("display savings");
+        return command.startsWith(COMMAND_WORD);
     }
 
     /**
@@ -32,7 +34,7 @@ public class DisplaySavingsCommand extends Command{
      */
     public void execute(){
         if (byMonth){
-            Ui.displayToUser(SavingsManager.displayTotalSavingsByMonth());
+            Ui.displayToUser(out -> SavingsManager.displayTotalSavingsByMonth(out));
         } else{
             Ui.displayToUser(SavingsManager.displayTotalSavings());
         }
@@ -0,0 +1,133 @@
+package seedu.budgetbuddy.graphs;
+
+import org.knowm.xchart.BitmapEncoder;
+import org.knowm.xchart.VectorGraphicsEncoder;
+import org.knowm.xchart.internal.chartpart.Chart;
+import seedu.budgetbuddy.util.LoggerSetup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+/**
+ * Writes charts to image files instead of displaying them, so that charts can be rendered on machines without a
+ * display and many charts can be rendered at once for reports.
+ *
+ * <p>Charts are painted onto an image in memory by the encoders of XChart, which never create a window or start
+ * the Swing event dispatch thread. Each chart is painted by one thread only, so the charts of a batch are rendered
+ * in parallel on the common fork-join pool. On machines without a display, AWT is switched to headless mode by
+ * {@link #useHeadlessModeWithoutDisplay()} before any chart is created.</p>
+ */
+public class ChartExporter {
+    private static final Logger LOGGER = LoggerSetup.getLogger();
+    private static final String HEADLESS_PROPERTY = "java.awt.headless";
+
+    /**
+     * The file formats charts can be exported to.
+     */
+    public enum Format {
+        PNG(".png"),
+        SVG(".svg");
+
+        private final String extension;
+
+        Format(String extension) {
+            this.extension = extension;
+        }
+
+        /**
+         * Returns the file extension of the format, including the leading dot.
+         */
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    /**
+     * Switches AWT to headless mode if no display is available and the mode was not set on the command line, so
+     * that charts can be painted onto images without a display. AWT reads the mode only once, so this must be
+     * called before the first chart or other AWT object is created.
+     */
+    public static void useHeadlessModeWithoutDisplay() {
+        if (System.getProperty(HEADLESS_PROPERTY) == null && !hasDisplay()) {
+            System.setProperty(HEADLESS_PROPERTY, "true");
+            LOGGER.log(Level.INFO, "No display found, rendering charts in headless mode");
+        }
+    }
+
+    /**
+     * Returns whether a display is available. Windows and macOS always have one, and other systems have one when
+     * an X11 or Wayland display is set in the environment.
+     */
+    private static boolean hasDisplay() {
+        String osName = System.getProperty("os.name", "").toLowerCase();
+        if (osName.startsWith("windows") || osName.startsWith("mac")) {
+            return true;
+        }
+        return System.getenv("DISPLAY") != null || System.getenv("WAYLAND_DISPLAY") != null;
+    }
+
+    /**
+     * Writes a chart to a file in the directory, creating the directory if it does not exist.
+     *
+     * @param chart The chart to write.
+     * @param directory The directory to write the file to.
+     * @param fileName The name of the file, without its extension.
+     * @param format The format of the file.
+     * @return The path of the written file.
+     * @throws IOException If the directory cannot be created or the file cannot be written.
+     */
+    public static Path export(Chart<?, ?> chart, Path directory, String fileName, Format format)
+            throws IOException {
+        Files.createDirectories(directory);
+        Path file = directory.resolve(fileName + format.getExtension());
+        try (OutputStream outputStream = Files.newOutputStream(file)) {
+            if (format == Format.PNG) {
+                BitmapEncoder.saveBitmap(chart, outputStream, BitmapEncoder.BitmapFormat.PNG);
+            } else {
+                VectorGraphicsEncoder.saveVectorGraphic(chart, outputStream,
+                        VectorGraphicsEncoder.VectorGraphicsFormat.SVG);
+            }
+        }
+        LOGGER.log(Level.INFO, "Exported chart to " + file);
+        return file;
+    }
+
+    /**
+     * Writes every chart to a file in the directory, rendering the charts in parallel.
+     *
+     * @param charts The charts to write, keyed by the name of their file without its extension.
+     * @param directory The directory to write the files to.
+     * @param format The format of the files.
+     * @return The paths of the written files, in the order of the charts.
+     * @throws IOException If the directory cannot be created or a file cannot be written.
+     */
+    public static List<Path> exportAll(Map<String, ? extends Chart<?, ?>> charts, Path directory, Format format)
+            throws IOException {
+        Files.createDirectories(directory);
+        List<Map.Entry<String, ? extends Chart<?, ?>>> entries = new ArrayList<>(charts.entrySet());
+        try {
+            return entries.parallelStream()
+                    .map(entry -> exportUnchecked(entry.getValue(), directory, entry.getKey(), format))
+                    .collect(Collectors.toList());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static Path exportUnchecked(Chart<?, ?> chart, Path directory, String fileName, Format format) {
+        try {
+            return export(chart, directory, fileName, format);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
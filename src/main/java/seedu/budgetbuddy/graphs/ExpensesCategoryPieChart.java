@@ -4,47 +4,59 @@ import org.knowm.xchart.PieChart;
 import org.knowm.xchart.PieChartBuilder;
 import org.knowm.xchart.SwingWrapper;
 import seedu.budgetbuddy.transaction.Category;
-import seedu.budgetbuddy.transaction.expense.Expense;
+import seedu.budgetbuddy.transaction.expense.ExpenseManager;
+import seedu.budgetbuddy.util.Money;
 
 import javax.swing.JFrame;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.time.YearMonth;
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-
-import static seedu.budgetbuddy.transaction.expense.ExpenseManager.getExpenses;
-import static seedu.budgetbuddy.transaction.expense.ExpenseManager.getYearMonthFromDate;
+import java.util.TreeMap;
 
 /**
  * Generates and displays a pie chart of expenses categorized by month.
  */
 public class ExpensesCategoryPieChart {
+    private static final String FILE_NAME_PREFIX = "expenses-by-category-";
 
     /**
      * Builds a map of total expenses grouped by category for a given month.
+     * All categories are read at once from the running totals of the month, in category order.
      *
      * @param yearMonth The year and month for which to calculate expenses.
      * @return A map where the keys are categories and the values are the total expenses for that category.
      */
     public static Map<Category, Double> expensesByCategoryMapBuilder(YearMonth yearMonth) {
-        Map<Category, Double> expensesByCategoryMap = new HashMap<>();
-
-        for (Category category : Category.values()) {
-            double categoryTotal = getTotalExpensesForMonthWithCategories(yearMonth, category);
-            expensesByCategoryMap.put(category, categoryTotal);
-        }
+        return toAmounts(ExpenseManager.getMonthlyExpensesByCategoryInCents(yearMonth));
+    }
 
-        return expensesByCategoryMap;
+    /**
+     * Builds the maps of total expenses grouped by category for every month in a range that has expenses, so that
+     * the pie charts of many months are built from a single read of the running monthly totals.
+     *
+     * @param start The first month of the range.
+     * @param end The last month of the range, inclusive.
+     * @return A map of the months with expenses, in ascending order, to their total expenses of each category.
+     */
+    public static Map<YearMonth, Map<Category, Double>> expensesByCategoryMapBuilder(YearMonth start, YearMonth end) {
+        Map<YearMonth, Map<Category, Double>> expensesByMonth = new TreeMap<>();
+        ExpenseManager.getMonthlyExpensesByCategoryInCents(start, end).forEach((month, categorySums) ->
+                expensesByMonth.put(month, toAmounts(categorySums)));
+        return expensesByMonth;
     }
 
     /**
-     * Displays a pie chart of expenses by category for a specific month.
+     * Builds a pie chart of expenses by category for a specific month, without displaying it.
      *
-     * @param yearMonth The year and month for which to display the expenses.
+     * @param yearMonth The year and month of the expenses.
      * @param expensesByCategoryMap A map containing the total expenses for each category.
+     * @return The pie chart of the expenses of the month.
      */
-    public static void displayExpenseByCategoryPieChart(YearMonth yearMonth, Map<Category, Double>
-            expensesByCategoryMap) {
+    public static PieChart pieChartBuilder(YearMonth yearMonth, Map<Category, Double> expensesByCategoryMap) {
         // Initialize the pie chart
         PieChart pieChart = new PieChartBuilder()
                 .width(800)
@@ -56,14 +68,23 @@ public class ExpensesCategoryPieChart {
         pieChart.getStyler().setLegendVisible(true);  // Show legend
         pieChart.getStyler().setLabelsVisible(true); // Show labels on slices
 
-        // Calculate the total expenses for calculating percentages
-        double totalExpenses = expensesByCategoryMap.values().stream().mapToDouble(Double::doubleValue).sum();
-
         // Add each category to the chart with the expense amount shown on each slice
         expensesByCategoryMap.forEach((category, expense) -> {
             String label = category.name() + " " + expense.toString();
             pieChart.addSeries(label, expense); // Show percentage in legend and amount on pie slice
         });
+        return pieChart;
+    }
+
+    /**
+     * Displays a pie chart of expenses by category for a specific month.
+     *
+     * @param yearMonth The year and month for which to display the expenses.
+     * @param expensesByCategoryMap A map containing the total expenses for each category.
+     */
+    public static void displayExpenseByCategoryPieChart(YearMonth yearMonth, Map<Category, Double>
+            expensesByCategoryMap) {
+        PieChart pieChart = pieChartBuilder(yearMonth, expensesByCategoryMap);
 
         // Display the chart in a Swing frame
         SwingWrapper<PieChart> swingWrapper = new SwingWrapper<>(pieChart);
@@ -74,6 +95,26 @@ public class ExpensesCategoryPieChart {
         javax.swing.SwingUtilities.invokeLater(() -> frame.setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE));
     }
 
+    /**
+     * Writes a pie chart of expenses by category for every month in a range that has expenses to the directory,
+     * without displaying them. The charts are rendered in parallel and named after their month, such as
+     * {@code expenses-by-category-2024-01.png}.
+     *
+     * @param start The first month of the range.
+     * @param end The last month of the range, inclusive.
+     * @param directory The directory to write the charts to.
+     * @param format The format of the chart files.
+     * @return The paths of the written files, in month order.
+     * @throws IOException If a chart file cannot be written.
+     */
+    public static List<Path> exportPieCharts(YearMonth start, YearMonth end, Path directory,
+            ChartExporter.Format format) throws IOException {
+        Map<String, PieChart> pieCharts = new LinkedHashMap<>();
+        expensesByCategoryMapBuilder(start, end).forEach((month, expensesByCategoryMap) ->
+                pieCharts.put(FILE_NAME_PREFIX + month, pieChartBuilder(month, expensesByCategoryMap)));
+        return ChartExporter.exportAll(pieCharts, directory, format);
+    }
+
     /**
      * Calculates the total expenses for a specific month and category.
      *
@@ -82,16 +123,12 @@ public class ExpensesCategoryPieChart {
      * @return The total amount of expenses for the specified month and category.
      */
     public static double getTotalExpensesForMonthWithCategories(YearMonth yearMonth, Category category) {
-        ArrayList<Expense> expensesOverMonthArray = getExpenses();
-        double totalAmount = 0.0;
-
-        for (Expense expense : expensesOverMonthArray) {
-            YearMonth expenseYearMonth = getYearMonthFromDate(expense.getDate());
+        return ExpenseManager.getMonthlyExpense(yearMonth, category);
+    }
 
-            if(expenseYearMonth.equals(yearMonth) && category.equals(expense.getCategory())) {
-                totalAmount += expense.getAmount();
-            }
-        }
-        return totalAmount;
+    private static Map<Category, Double> toAmounts(EnumMap<Category, Long> categorySums) {
+        Map<Category, Double> expensesByCategoryMap = new EnumMap<>(Category.class);
+        categorySums.forEach((category, cents) -> expensesByCategoryMap.put(category, Money.toAmount(cents)));
+        return expensesByCategoryMap;
     }
 }
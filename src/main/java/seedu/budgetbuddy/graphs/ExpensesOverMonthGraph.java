@@ -49,13 +49,13 @@ public class ExpensesOverMonthGraph {
     }
 
     /**
-     * Prints a chart that displays expenses for each month in the specified year.
-     * The chart is displayed using Swing and is set to close without terminating the program.
+     * Builds a chart of the expenses for each month in the specified year, without displaying it.
      *
      * @param monthlyExpenseMap A map containing YearMonth as keys and total expenses as values.
-     * @param year The year for which the expenses will be displayed.
+     * @param year The year for which the expenses will be charted.
+     * @return The chart of the expenses of the year.
      */
-    public static void chartPrinter(Map<YearMonth, Double> monthlyExpenseMap, int year) {
+    public static XYChart chartBuilder(Map<YearMonth, Double> monthlyExpenseMap, int year) {
         // Create a list to hold all months in the year
         List<Double> xAxis = new ArrayList<>();
         List<Double> yAxis = new ArrayList<>();
@@ -76,6 +76,18 @@ public class ExpensesOverMonthGraph {
 
         // Add the series
         expensesChart.addSeries("Monthly Expenses", xAxis, yAxis);
+        return expensesChart;
+    }
+
+    /**
+     * Prints a chart that displays expenses for each month in the specified year.
+     * The chart is displayed using Swing and is set to close without terminating the program.
+     *
+     * @param monthlyExpenseMap A map containing YearMonth as keys and total expenses as values.
+     * @param year The year for which the expenses will be displayed.
+     */
+    public static void chartPrinter(Map<YearMonth, Double> monthlyExpenseMap, int year) {
+        XYChart expensesChart = chartBuilder(monthlyExpenseMap, year);
 
         // Create the SwingWrapper
         SwingWrapper<XYChart> swingWrapper = new SwingWrapper<>(expensesChart);
@@ -86,4 +98,3 @@ public class ExpensesOverMonthGraph {
         javax.swing.SwingUtilities.invokeLater(() -> frame.setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE));
     }
 }
-
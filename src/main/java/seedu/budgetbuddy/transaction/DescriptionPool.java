@@ -0,0 +1,36 @@
+package seedu.budgetbuddy.transaction;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shares one copy of each transaction description, so that the many transactions with a recurring description,
+ * such as a weekly "Lunch" or a monthly "Rent", do not each hold their own string.
+ *
+ * <p>The pool is safe to use from the threads that decode a data file in parallel. It stops growing once it
+ * holds {@link #MAX_SIZE} descriptions, after which new descriptions are kept as they are.</p>
+ */
+class DescriptionPool {
+    private static final int MAX_SIZE = 1 << 16;
+    private static final ConcurrentHashMap<String, String> DESCRIPTIONS = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the pooled copy of the description, adding it to the pool if it is not in it yet.
+     *
+     * @param description The description, which may be {@code null}.
+     * @return A description equal to the given one.
+     */
+    static String intern(String description) {
+        if (description == null) {
+            return null;
+        }
+        String pooled = DESCRIPTIONS.get(description);
+        if (pooled != null) {
+            return pooled;
+        }
+        if (DESCRIPTIONS.size() >= MAX_SIZE) {
+            return description;
+        }
+        pooled = DESCRIPTIONS.putIfAbsent(description, description);
+        return pooled == null ? description : pooled;
+    }
+}
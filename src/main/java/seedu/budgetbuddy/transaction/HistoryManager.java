@@ -0,0 +1,111 @@
+package seedu.budgetbuddy.transaction;
+
+import java.time.YearMonth;
+
+/**
+ * Keeps track of the months of expenses and incomes that are held in memory.
+ * When the data is stored in monthly partitions, only recent months are loaded at startup and older months
+ * are paged in through a {@link Loader} the first time a command needs them. The months in memory always
+ * run from some month up to the latest one, so requiring a month also loads every month after it.
+ * Without a loader, all data is in memory and these methods do nothing.
+ */
+public class HistoryManager {
+    private static Loader loader;
+
+    /**
+     * Pages in months of expenses and incomes that are not yet in memory.
+     */
+    public interface Loader {
+        /**
+         * Loads every month from the given month onwards that is not yet in memory.
+         *
+         * @param month The earliest month that is needed.
+         */
+        void loadFrom(YearMonth month);
+
+        /**
+         * Loads every month that is not yet in memory.
+         */
+        void loadAll();
+
+        /**
+         * Returns the number of expenses in the months that are not yet in memory.
+         *
+         * @return The number of expenses on disk only, or a negative number if it is not known.
+         */
+        int getNumberOfUnloadedExpenses();
+
+        /**
+         * Returns the number of incomes in the months that are not yet in memory.
+         *
+         * @return The number of incomes on disk only, or a negative number if it is not known.
+         */
+        int getNumberOfUnloadedIncomes();
+    }
+
+    /**
+     * Sets the loader used to page in older months, or removes it if {@code null}.
+     *
+     * @param newLoader The loader of older months.
+     */
+    public static void setLoader(Loader newLoader) {
+        loader = newLoader;
+    }
+
+    /**
+     * Ensures that every expense and income of the given month, and of all later months, is in memory.
+     *
+     * @param month The month that is about to be read or changed.
+     */
+    public static void requireMonth(YearMonth month) {
+        if (loader != null) {
+            assert month != null : "Month cannot be null";
+            loader.loadFrom(month);
+        }
+    }
+
+    /**
+     * Ensures that every expense and income is in memory.
+     */
+    public static void requireAll() {
+        if (loader != null) {
+            loader.loadAll();
+        }
+    }
+
+    /**
+     * Returns the number of expenses in the months that are not yet in memory, without loading them.
+     * If the loader does not know the number, every month is loaded instead and 0 is returned.
+     *
+     * @return The number of expenses that are not in memory.
+     */
+    public static int getNumberOfUnloadedExpenses() {
+        if (loader == null) {
+            return 0;
+        }
+        int count = loader.getNumberOfUnloadedExpenses();
+        if (count < 0) {
+            loader.loadAll();
+            return 0;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of incomes in the months that are not yet in memory, without loading them.
+     * If the loader does not know the number, every month is loaded instead and 0 is returned.
+     *
+     * @return The number of incomes that are not in memory.
+     */
+    public static int getNumberOfUnloadedIncomes() {
+        if (loader == null) {
+            return 0;
+        }
+        int count = loader.getNumberOfUnloadedIncomes();
+        if (count < 0) {
+            loader.loadAll();
+            return 0;
+        }
+        return count;
+    }
+}
@@ -1,15 +1,20 @@
 package seedu.budgetbuddy.transaction;
 
+import seedu.budgetbuddy.util.Money;
+
 import java.time.LocalDate;
 
 /**
  * The {@code Transaction} class represents a financial transaction.
  * It includes details about the transaction description, amount, and date.
+ * The amount is kept as a whole number of cents, so that sums of amounts are exact, and equal descriptions
+ * share one string.
  */
 public class Transaction {
     protected String description;
-    protected double amount;
+    protected long amountInCents;
     protected LocalDate date;
+    private long id;
 
     /**
      * Constructs a Transaction with the specified description, amount, and date.
@@ -19,8 +24,8 @@ public class Transaction {
      * @param date        The date of the transaction.
      */
     public Transaction(String description, double amount, LocalDate date) {
-        this.description = description;
-        this.amount = amount;
+        this.description = DescriptionPool.intern(description);
+        this.amountInCents = Money.toCents(amount);
         this.date = date;
     }
 
@@ -32,13 +37,46 @@ public class Transaction {
     public String toString() {
         String output = "";
         output += "Description: " + description;
-        output += "  Amount: " + amount;
+        output += "  Amount: " + Money.toAmount(amountInCents);
         output += "  Date: " + date;
         return output;
     }
 
+    /**
+     * Returns the date of the transaction.
+     *
+     * @return A LocalDate representing the date of the transaction.
+     */
+    public LocalDate getDate() {
+        return date;
+    }
+
+    /**
+     * Returns the ID of the transaction, which its manager assigns in list order when it is added.
+     * IDs are kept in memory only and are not saved, so they are assigned again whenever the list is loaded,
+     * rebuilt or has older months paged in. Only use an ID to find a transaction within one such list.
+     *
+     * @return The ID of the transaction.
+     */
+    public long getId() {
+        return id;
+    }
+
+    void setId(long id) {
+        this.id = id;
+    }
+
+    /**
+     * Returns the amount of the transaction in cents.
+     *
+     * @return The amount of the transaction as a whole number of cents.
+     */
+    public long getAmountInCents() {
+        return amountInCents;
+    }
+
     public void editAmount(double amount) {
-        this.amount = amount;
+        this.amountInCents = Money.toCents(amount);
     }
 
     public void editDate(LocalDate date) {
@@ -0,0 +1,420 @@
+package seedu.budgetbuddy.transaction;
+
+import seedu.budgetbuddy.transaction.expense.Expense;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Mirrors a list of transactions in primitive arrays, one per field, so that sums over many transactions scan
+ * contiguous memory instead of following a reference to every transaction and its date.
+ *
+ * <p>Position {@code i} of every column holds the ID, the amount in cents, the epoch day, the month and the
+ * category ordinal of the transaction at position {@code i} of the list, or {@link #NO_CATEGORY} for an income.
+ * The columns remember the list and the size they were built for, like the expense index, so that a list that
+ * was replaced or resized behind the back of its manager is mirrored again before it is read. The transactions
+ * themselves stay the objects the rest of the application works with; only the managers change the columns.</p>
+ *
+ * <p>The columns also number the transactions with IDs that increase in list order, so that a transaction is
+ * found by a binary search of its ID. A deleted transaction is only marked as deleted, leaving a tombstone at
+ * its position in the list and the columns, and the list is compacted once tombstones make up half of it. The
+ * index of a transaction among those that are not deleted, as shown to the user, is mapped to and from its
+ * position by a Fenwick tree of the number of transactions that are not deleted, so that a run of deletions
+ * costs a logarithmic time each instead of moving every later transaction.</p>
+ */
+public class TransactionColumns {
+    /** The category ordinal of a transaction that has no category. */
+    public static final int NO_CATEGORY = -1;
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int DELETED_MONTH = Integer.MIN_VALUE;
+    private static final int MIN_DELETIONS_TO_COMPACT = 64;
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private long[] cents = new long[INITIAL_CAPACITY];
+    private int[] epochDays = new int[INITIAL_CAPACITY];
+    private int[] months = new int[INITIAL_CAPACITY];
+    private byte[] categories = new byte[INITIAL_CAPACITY];
+    private int size;
+    private int numberOfDeleted;
+    private long nextId;
+    private int[] liveCounts;
+    private List<? extends Transaction> mirroredTransactions;
+
+    /**
+     * Returns whether the columns mirror exactly the given list.
+     *
+     * @param transactions The list of transactions.
+     * @return true if the columns were built for the list and it has not been resized since.
+     */
+    public boolean isMirroring(List<? extends Transaction> transactions) {
+        return transactions == mirroredTransactions && transactions.size() == size;
+    }
+
+    /**
+     * Discards the columns and mirrors every transaction of the given list, numbering them again from zero.
+     * If transactions were appended to the mirrored list without its manager, its tombstones are first removed
+     * from the list. After any other change their positions are unknown, and the list is mirrored as it is.
+     *
+     * @param transactions The list of transactions to mirror.
+     */
+    public void rebuild(ArrayList<? extends Transaction> transactions) {
+        if (transactions == mirroredTransactions && transactions.size() > size && numberOfDeleted > 0) {
+            compact(transactions);
+        }
+        size = 0;
+        numberOfDeleted = 0;
+        nextId = 0;
+        liveCounts = null;
+        ensureCapacity(transactions.size());
+        for (Transaction transaction : transactions) {
+            transaction.setId(nextId++);
+            set(size++, transaction);
+        }
+        mirroredTransactions = transactions;
+    }
+
+    /**
+     * Mirrors a transaction that was appended to the end of the mirrored list, giving it the next ID.
+     *
+     * @param transaction The appended transaction.
+     */
+    public void add(Transaction transaction) {
+        ensureCapacity(size + 1);
+        transaction.setId(nextId++);
+        set(size++, transaction);
+        if (liveCounts != null) {
+            int node = size;
+            liveCounts[node] = 1 + getLiveCount(node - 1) - getLiveCount(node - (node & -node));
+        }
+    }
+
+    /**
+     * Marks the transaction at the given position as deleted. It stays in the list and the columns until they
+     * are compacted, but no longer counts towards any sum or index.
+     *
+     * @param position The position of the deleted transaction.
+     */
+    public void delete(int position) {
+        assert position >= 0 && position < size && !isDeleted(position) : "Deleted position must be mirrored";
+        if (liveCounts == null) {
+            buildLiveCounts();
+        }
+        cents[position] = 0;
+        months[position] = DELETED_MONTH;
+        categories[position] = NO_CATEGORY;
+        numberOfDeleted++;
+        for (int node = position + 1; node <= size; node += node & -node) {
+            liveCounts[node]--;
+        }
+    }
+
+    /**
+     * Mirrors the fields of the transaction at the given position again, after it was edited.
+     *
+     * @param position The position of the edited transaction.
+     * @param transaction The edited transaction.
+     */
+    public void update(int position, Transaction transaction) {
+        assert position >= 0 && position < size && !isDeleted(position) : "Edited position must be mirrored";
+        set(position, transaction);
+    }
+
+    /**
+     * Returns whether enough transactions are deleted for the list to be compacted.
+     *
+     * @return true if at least half of the list are tombstones.
+     */
+    public boolean isWorthCompacting() {
+        return numberOfDeleted >= MIN_DELETIONS_TO_COMPACT && numberOfDeleted * 2 >= size;
+    }
+
+    /**
+     * Removes the tombstones from the mirrored list and the columns in a single pass, keeping the IDs and the
+     * order of the other transactions. Transactions appended to the list without the manager are kept.
+     *
+     * @param transactions The mirrored list.
+     */
+    public void compact(ArrayList<? extends Transaction> transactions) {
+        assert transactions == mirroredTransactions : "Only the mirrored list can be compacted";
+        if (numberOfDeleted == 0) {
+            return;
+        }
+        int kept = 0;
+        for (int i = 0; i < transactions.size(); i++) {
+            if (i < size && isDeleted(i)) {
+                continue;
+            }
+            move(transactions, i, kept);
+            if (i < size) {
+                ids[kept] = ids[i];
+                cents[kept] = cents[i];
+                epochDays[kept] = epochDays[i];
+                months[kept] = months[i];
+                categories[kept] = categories[i];
+            }
+            kept++;
+        }
+        transactions.subList(kept, transactions.size()).clear();
+        size -= numberOfDeleted;
+        numberOfDeleted = 0;
+        liveCounts = null;
+    }
+
+    /**
+     * Returns the number of positions in the columns, including those of deleted transactions.
+     *
+     * @return The number of positions.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of deleted transactions that are still in the list.
+     *
+     * @return The number of tombstones.
+     */
+    public int getNumberOfDeleted() {
+        return numberOfDeleted;
+    }
+
+    /**
+     * Returns whether the transaction at the given position is deleted.
+     *
+     * @param position The position of the transaction.
+     * @return true if the position holds a tombstone.
+     */
+    public boolean isDeleted(int position) {
+        return months[position] == DELETED_MONTH;
+    }
+
+    /**
+     * Returns the position of the transaction with the given index among the transactions that are not deleted.
+     *
+     * @param index The index of the transaction, as shown to the user counting from zero.
+     * @return The position of the transaction in the list.
+     * @throws IndexOutOfBoundsException If there is no transaction with the index.
+     */
+    public int getPosition(int index) {
+        Objects.checkIndex(index, size - numberOfDeleted);
+        if (numberOfDeleted == 0) {
+            return index;
+        }
+        int node = 0;
+        int remaining = index + 1;
+        for (int step = Integer.highestOneBit(size); step > 0; step >>= 1) {
+            if (node + step <= size && liveCounts[node + step] < remaining) {
+                node += step;
+                remaining -= liveCounts[node];
+            }
+        }
+        return node;
+    }
+
+    /**
+     * Returns the index among the transactions that are not deleted of the transaction at the given position.
+     *
+     * @param position The position of a transaction that is not deleted.
+     * @return The index of the transaction, as shown to the user counting from zero.
+     */
+    public int getIndex(int position) {
+        return numberOfDeleted == 0 ? position : getLiveCount(position);
+    }
+
+    /**
+     * Returns the position of the transaction with the given ID.
+     *
+     * @param id The ID of the transaction.
+     * @return The position of the transaction, or -1 if no transaction that is not deleted has the ID.
+     */
+    public int findPosition(long id) {
+        int position = Arrays.binarySearch(ids, 0, size, id);
+        return position < 0 || isDeleted(position) ? -1 : position;
+    }
+
+    /**
+     * Returns the ID of the transaction at the given position.
+     *
+     * @param position The position of the transaction.
+     * @return The ID.
+     */
+    public long getId(int position) {
+        return ids[position];
+    }
+
+    /**
+     * Returns the amount in cents of the transaction at the given position, which is 0 if it is deleted.
+     *
+     * @param position The position of the transaction.
+     * @return The amount in cents.
+     */
+    public long getCents(int position) {
+        return cents[position];
+    }
+
+    /**
+     * Returns the epoch day of the date of the transaction at the given position.
+     *
+     * @param position The position of the transaction.
+     * @return The epoch day of the date.
+     */
+    public int getEpochDay(int position) {
+        return epochDays[position];
+    }
+
+    /**
+     * Returns the month of the transaction at the given position as a month number from {@link #toMonth}.
+     * A deleted transaction has no month, and a number that no month has.
+     *
+     * @param position The position of the transaction.
+     * @return The month number.
+     */
+    public int getMonth(int position) {
+        return months[position];
+    }
+
+    /**
+     * Returns the category ordinal of the transaction at the given position.
+     *
+     * @param position The position of the transaction.
+     * @return The category ordinal, or {@link #NO_CATEGORY} if the transaction has no category.
+     */
+    public int getCategoryOrdinal(int position) {
+        return categories[position];
+    }
+
+    /**
+     * Returns the sum of the amounts of all transactions.
+     *
+     * @return The sum in cents.
+     */
+    public long sumCents() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum = Math.addExact(sum, cents[i]);
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the sum of the amounts of the transactions of the given month.
+     *
+     * @param month The month of the transactions.
+     * @return The sum in cents.
+     */
+    public long sumCents(YearMonth month) {
+        int monthNumber = toMonth(month);
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            if (months[i] == monthNumber) {
+                sum = Math.addExact(sum, cents[i]);
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the position of the transaction with the given ID in a list of transactions in list order, such as
+     * a bucket of an index, or {@code -(insertion point) - 1} if the list has no such transaction, like
+     * {@link java.util.Collections#binarySearch}.
+     *
+     * @param transactions The transactions, in ascending order of their IDs.
+     * @param id The ID of the transaction.
+     * @return The position of the transaction, or a negative number if it is not in the list.
+     */
+    public static int findById(List<? extends Transaction> transactions, long id) {
+        int low = 0;
+        int high = transactions.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            long middleId = transactions.get(middle).getId();
+            if (middleId < id) {
+                low = middle + 1;
+            } else if (middleId > id) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -low - 1;
+    }
+
+    /**
+     * Returns the number of a month, which counts months from year 0, so that consecutive months have
+     * consecutive numbers.
+     *
+     * @param month The month.
+     * @return The month number.
+     */
+    public static int toMonth(YearMonth month) {
+        return month.getYear() * 12 + month.getMonthValue() - 1;
+    }
+
+    /**
+     * Returns the month of a month number from {@link #toMonth}.
+     *
+     * @param monthNumber The month number.
+     * @return The month.
+     */
+    public static YearMonth toYearMonth(int monthNumber) {
+        return YearMonth.of(Math.floorDiv(monthNumber, 12), Math.floorMod(monthNumber, 12) + 1);
+    }
+
+    private static <T> void move(List<T> list, int from, int to) {
+        if (from != to) {
+            list.set(to, list.get(from));
+        }
+    }
+
+    private void set(int position, Transaction transaction) {
+        LocalDate date = transaction.getDate();
+        ids[position] = transaction.getId();
+        cents[position] = transaction.getAmountInCents();
+        epochDays[position] = (int) date.toEpochDay();
+        months[position] = date.getYear() * 12 + date.getMonthValue() - 1;
+        categories[position] = (byte) (transaction instanceof Expense expense
+                ? expense.getCategory().ordinal() : NO_CATEGORY);
+    }
+
+    /**
+     * Returns the number of transactions that are not deleted among the first {@code length} positions.
+     */
+    private int getLiveCount(int length) {
+        int count = 0;
+        for (int node = length; node > 0; node -= node & -node) {
+            count += liveCounts[node];
+        }
+        return count;
+    }
+
+    private void buildLiveCounts() {
+        liveCounts = new int[ids.length + 1];
+        for (int node = 1; node <= size; node++) {
+            liveCounts[node] += isDeleted(node - 1) ? 0 : 1;
+            int parent = node + (node & -node);
+            if (parent <= size) {
+                liveCounts[parent] += liveCounts[node];
+            }
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= ids.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, ids.length + (ids.length >> 1));
+        ids = Arrays.copyOf(ids, newCapacity);
+        cents = Arrays.copyOf(cents, newCapacity);
+        epochDays = Arrays.copyOf(epochDays, newCapacity);
+        months = Arrays.copyOf(months, newCapacity);
+        categories = Arrays.copyOf(categories, newCapacity);
+        if (liveCounts != null) {
+            liveCounts = Arrays.copyOf(liveCounts, newCapacity + 1);
+        }
+    }
+}
@@ -1,23 +1,33 @@
 package seedu.budgetbuddy.transaction.budget;
 
+import seedu.budgetbuddy.Journal;
 import seedu.budgetbuddy.Ui;
 import seedu.budgetbuddy.transaction.Category;
+import seedu.budgetbuddy.util.Money;
 
 import java.time.YearMonth;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.Map;
 
 /**
  * Represents a budget for a specific month and year.
  * A budget tracks a specified amount of money for each category and calculates the total budget for the month.
  * Provides methods to add category-specific amounts, adjust the budget, and retrieve details.
+ *
+ * <p>The amounts are kept in cents in an array indexed by category ordinal, together with the set of categories
+ * that have a budget and their running total, so no change allocates or visits every category and the total is
+ * exact. Copies share the array of the budget they were copied from until either of them is changed.</p>
  */
 public class Budget {
+    private static final int NUMBER_OF_CATEGORIES = Category.values().length;
 
     private double amount;
     private YearMonth date;
-    private Map<Category, Double> categoryBudgets;
-    private double totalMonthlyBudget;
+    private long[] categoryCents;
+    private int categoriesWithBudget;
+    private boolean isSharingAmounts;
+    private long totalMonthlyBudgetInCents;
 
     /**
      * Constructs a Budget object with the specified amount and date.
@@ -27,19 +37,23 @@ public class Budget {
     public Budget(YearMonth date) {
         assert amount >= 0 : "Initial amount cannot be negative";
         this.date = date;
-        this.categoryBudgets = new HashMap<>();
+        this.categoryCents = new long[NUMBER_OF_CATEGORIES];
     }
 
     /**
      * Constructs a Budget object by copying another Budget object.
+     * The copy shares the category amounts of the other budget until either budget is changed.
      *
      * @param other The Budget object to copy from.
      */
     public Budget(Budget other) {
         this.amount = other.amount; // Copy the original amount
         this.date = other.date; // Copy the date
-        this.categoryBudgets = new HashMap<>(other.categoryBudgets); // Deep copy of the category budgets
-        this.totalMonthlyBudget = other.totalMonthlyBudget; // Copy the total monthly budget
+        this.categoryCents = other.categoryCents;
+        this.categoriesWithBudget = other.categoriesWithBudget;
+        this.totalMonthlyBudgetInCents = other.totalMonthlyBudgetInCents; // Copy the total monthly budget
+        this.isSharingAmounts = true;
+        other.isSharingAmounts = true;
     }
 
 
@@ -51,8 +65,9 @@ public class Budget {
      * @param amount   The amount to be added for the specified category.
      */
     public void addAmount(Category category, double amount) {
-        categoryBudgets.put(category, categoryBudgets.getOrDefault(category, 0.0) + amount);
-        updateTotalBudget();
+        setCategoryCents(category, Math.addExact(getCategoryBudgetInCents(category), Money.toCents(amount)));
+        BudgetManager.markModified();
+        Journal.recordBudget(this);
     }
 
     /**
@@ -64,18 +79,19 @@ public class Budget {
      */
     public void deductAmount(Category category, double deductedAmount) {
         assert deductedAmount >= 0 : "Amount to deduct cannot be negative";
-        double currentAmount = categoryBudgets.getOrDefault(category, 0.0);
+        long remainingCents = Math.subtractExact(getCategoryBudgetInCents(category), Money.toCents(deductedAmount));
 
         // Deduct the amount or remove the category if the budget goes to zero or below
-        if (currentAmount - deductedAmount <= 0) {
-            categoryBudgets.remove(category);
+        if (remainingCents <= 0) {
+            removeCategory(category);
         } else {
-            categoryBudgets.put(category, currentAmount - deductedAmount);
+            setCategoryCents(category, remainingCents);
         }
-        if (categoryBudgets.isEmpty()) {
+        if (categoriesWithBudget == 0) {
             BudgetManager.deleteBudget(this);
         } else {
-            updateTotalBudget();
+            BudgetManager.markModified();
+            Journal.recordBudget(this);
             Ui.displayBudgetTransactionMessage(toString(), BudgetManager.getNumberOfBudgets());
         }
     }
@@ -88,21 +104,54 @@ public class Budget {
      * @param deductedAmount  The amount to be deducted.
      */
     public void deductExpense(Category category, double deductedAmount) {
-        assert deductedAmount >= 0 : "Amount to deduct cannot be negative";
-        double currentAmount = categoryBudgets.getOrDefault(category, 0.0);
+        deductExpenseInCents(category, Money.toCents(deductedAmount));
+    }
+
+    /**
+     * Deducts an amount in cents from the budget for a specific category, allowing it to go negative.
+     * This is used by RemainingBudgetManager
+     *
+     * @param category        The category from which the amount should be deducted.
+     * @param deductedCents   The amount to be deducted, in cents.
+     */
+    public void deductExpenseInCents(Category category, long deductedCents) {
+        assert deductedCents >= 0 : "Amount to deduct cannot be negative";
 
         // Deduct the amount and allow the category to go negative
-        categoryBudgets.put(category, currentAmount - deductedAmount);
+        setCategoryCents(category, Math.subtractExact(getCategoryBudgetInCents(category), deductedCents));
+    }
+
+    /**
+     * Sets the budget of a category and updates the total monthly budget by the difference.
+     */
+    private void setCategoryCents(Category category, long newCents) {
+        int ordinal = category.ordinal();
+        prepareForWrite();
+        totalMonthlyBudgetInCents = Math.addExact(totalMonthlyBudgetInCents,
+                Math.subtractExact(newCents, categoryCents[ordinal]));
+        categoryCents[ordinal] = newCents;
+        categoriesWithBudget |= 1 << ordinal;
+    }
 
-        // Update the total budget
-        updateTotalBudget();
+    /**
+     * Removes the budget of a category and updates the total monthly budget by its amount.
+     */
+    private void removeCategory(Category category) {
+        int ordinal = category.ordinal();
+        prepareForWrite();
+        categoriesWithBudget &= ~(1 << ordinal);
+        totalMonthlyBudgetInCents = Math.subtractExact(totalMonthlyBudgetInCents, categoryCents[ordinal]);
+        categoryCents[ordinal] = 0;
     }
 
     /**
-     * Updates the total monthly budget by summing up all the category budgets.
+     * Gives the budget its own array of amounts if it still shares the array with a copy.
      */
-    private void updateTotalBudget() {
-        totalMonthlyBudget = categoryBudgets.values().stream().mapToDouble(Double::doubleValue).sum();
+    private void prepareForWrite() {
+        if (isSharingAmounts) {
+            categoryCents = categoryCents.clone();
+            isSharingAmounts = false;
+        }
     }
 
     /**
@@ -111,16 +160,51 @@ public class Budget {
      * @return The total budget for the month.
      */
     public double getTotalMonthlyBudget() {
-        return totalMonthlyBudget;
+        return Money.toAmount(totalMonthlyBudgetInCents);
+    }
+
+    /**
+     * Retrieves the total monthly budget in cents.
+     *
+     * @return The total budget for the month, in cents.
+     */
+    public long getTotalMonthlyBudgetInCents() {
+        return totalMonthlyBudgetInCents;
     }
 
     /**
-     * Retrieves the Hashmap of category budgets.
+     * Retrieves the category budgets.
      *
-     * @return A Map where the keys are Category objects and the values represent the budget amounts for each category.
+     * @return A read-only Map where the keys are Category objects, in declaration order, and the values represent
+     *     the budget amounts for each category.
      */
     public Map<Category, Double> getCategoryBudgets() {
-        return categoryBudgets;
+        EnumMap<Category, Double> categoryBudgets = new EnumMap<>(Category.class);
+        for (Category category : Category.values()) {
+            if (hasCategoryBudget(category)) {
+                categoryBudgets.put(category, Money.toAmount(categoryCents[category.ordinal()]));
+            }
+        }
+        return Collections.unmodifiableMap(categoryBudgets);
+    }
+
+    /**
+     * Checks whether a specific category has a budget.
+     *
+     * @param category The category to check.
+     * @return True if an amount has been set for the category.
+     */
+    public boolean hasCategoryBudget(Category category) {
+        return (categoriesWithBudget & (1 << category.ordinal())) != 0;
+    }
+
+    /**
+     * Checks whether any category has a budget.
+     *
+     * @return True if no amount has been set for any category.
+     */
+    public boolean isEmpty() {
+        return categoriesWithBudget == 0;
     }
 
     /**
@@ -131,7 +215,17 @@ public class Budget {
      *         has been set for the specified category.
      */
     public double getCategoryBudgetAmount(Category category) {
-        return categoryBudgets.getOrDefault(category, 0.0);
+        return Money.toAmount(categoryCents[category.ordinal()]);
+    }
+
+    /**
+     * Retrieves the budget amount for a specific category in cents.
+     *
+     * @param category The category for which the budget amount is to be retrieved.
+     * @return The budget amount for the given category in cents, or 0 if no budget has been set for it.
+     */
+    public long getCategoryBudgetInCents(Category category) {
+        return categoryCents[category.ordinal()];
     }
 
     /**
@@ -149,18 +243,19 @@ public class Budget {
      * @return A string in the format "Amount: {amount}  Date: {date}".
      */
     public String toString() {
-        String output = "Total Monthly Budget: " + totalMonthlyBudget;
-        output += "  Date: " + date;
-
-        // Sort categoryBudgets by key (category name) and build the string
-        String sortedCategories = categoryBudgets.entrySet()
-                .stream()
-                .sorted(Map.Entry.comparingByKey())  // Sort by category names
-                .map(entry -> entry.getKey() + "=" + entry.getValue())  // Convert to "Category=Budget" format
-                .reduce((c1, c2) -> c1 + ", " + c2)  // Join entries with ", "
-                .orElse("");  // Handle the case when the map is empty
-
-        output += "  Category: {" + sortedCategories + "}";
-        return output;
+        StringBuilder output = new StringBuilder("Total Monthly Budget: ")
+                .append(Money.toAmount(totalMonthlyBudgetInCents))
+                .append("  Date: ").append(date).append("  Category: {");
+
+        // List the categories in declaration order
+        String separator = "";
+        for (Category category : Category.values()) {
+            if (hasCategoryBudget(category)) {
+                output.append(separator).append(category).append('=')
+                        .append(Money.toAmount(categoryCents[category.ordinal()]));
+                separator = ", ";
+            }
+        }
+        return output.append('}').toString();
     }
 }
@@ -1,20 +1,27 @@
 package seedu.budgetbuddy.transaction.budget;
 
+import seedu.budgetbuddy.Journal;
 import seedu.budgetbuddy.Ui;
 import seedu.budgetbuddy.util.LoggerSetup;
 
 import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.TreeMap;
 import java.util.logging.Logger;
 
 /**
  * Manages the budgets for different months and years.
  * Provides methods to add, retrieve, and manage multiple budgets.
+ *
+ * <p>There is at most one budget per month, so the budgets are kept in a map sorted by month. Looking up the
+ * budget of a month takes logarithmic time, and budgets are listed from the latest month without sorting.</p>
  */
 public class BudgetManager {
     private static final Logger LOGGER = LoggerSetup.getLogger();
-    private static int numberOfBudgets = 0;
-    private static ArrayList<Budget> budgets = new ArrayList<>();
+    private static TreeMap<YearMonth, Budget> budgets = new TreeMap<>();
+    private static int modificationCount = 0;
 
     /**
      * Construct a BudgetManager of array content incomes
@@ -27,23 +34,30 @@ public class BudgetManager {
      * Construct a BudgetManager of array content incomes
      *
      * @param budgets The content to be instantiated
-     * @param numberOfBudgets The initial count of budgets managed by BudgetManager.
+     * @param numberOfBudgets The initial count of budgets managed by BudgetManager, which is the size of the list.
      */
     public BudgetManager(ArrayList<Budget> budgets, int numberOfBudgets){
-        BudgetManager.budgets = budgets;
-        BudgetManager.numberOfBudgets = numberOfBudgets;
+        assert numberOfBudgets == budgets.size() : "numberOfBudgets should be the number of budgets";
+        BudgetManager.budgets.clear();
+        for (Budget budget : budgets) {
+            BudgetManager.budgets.put(budget.getDate(), budget);
+        }
+        modificationCount++;
     }
 
     /**
-     * Adds a new budget to the list and increments the total number of budgets.
-     * Displays a message indicating that a new budget has been added.
+     * Adds a new budget and increments the total number of budgets.
+     * A budget for a month that already has one replaces the existing budget.
      *
      * @param budget The Budget object to be added.
      */
     public static void addBudget(Budget budget) {
         assert budget != null : "Budget to be added cannot be null";
-        budgets.add(budget);
-        numberOfBudgets++;
+        budgets.put(budget.getDate(), budget);
+        modificationCount++;
+        if (!budget.isEmpty()) {
+            Journal.recordBudget(budget);
+        }
         LOGGER.info("Added budget: " + budget);
     }
 
@@ -55,10 +69,43 @@ public class BudgetManager {
      */
     public static void deleteBudget(Budget budget) {
         assert budget != null : "Budget to be deleted cannot be null";
-        budgets.remove(budget);
-        numberOfBudgets--;
+        budgets.remove(budget.getDate(), budget);
+        modificationCount++;
+        Journal.recordBudgetDeletion(budget.getDate());
         LOGGER.info("Deleted budget: " + budget.getDate());
-        Ui.displayBudgetDeletedMessage(budget.getDate(), numberOfBudgets);
+        Ui.displayBudgetDeletedMessage(budget.getDate(), budgets.size());
+    }
+
+    /**
+     * Removes the budget for the specified month, if any, without displaying anything to the user.
+     *
+     * @param date The YearMonth of the budget to be removed.
+     */
+    public static void removeBudget(YearMonth date) {
+        assert date != null : "Date cannot be null";
+        if (budgets.remove(date) == null) {
+            return;
+        }
+        modificationCount++;
+        Journal.recordBudgetDeletion(date);
+        LOGGER.info("Removed budget: " + date);
+    }
+
+    /**
+     * Returns the number of changes made to the budgets so far.
+     * Storage compares it with the value seen at its last save to skip saving unchanged data.
+     *
+     * @return The modification count of the budgets.
+     */
+    public static int getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Marks the budgets as changed after an existing budget was updated in place.
+     */
+    static void markModified() {
+        modificationCount++;
     }
 
     /**
@@ -67,7 +114,7 @@ public class BudgetManager {
      * @return The total number of budgets.
      */
     public static int getNumberOfBudgets() {
-        return numberOfBudgets;
+        return budgets.size();
     }
 
     /**
@@ -78,14 +125,37 @@ public class BudgetManager {
      */
     public static Budget getBudget(YearMonth date) {
         assert date != null : "Date cannot be null";
-        for (Budget budget : budgets) {
-            if (budget.getDate().equals(date)) {
-                LOGGER.info("Retrieved budget for date: " + date);
-                return budget;
+        return budgets.get(date);
+    }
+
+    /**
+     * Retrieves the budgets of the latest months.
+     *
+     * @param count The maximum number of budgets to retrieve.
+     * @return The budgets of the latest months, starting from the latest.
+     */
+    public static ArrayList<Budget> getLatestBudgets(int count) {
+        assert count >= 0 : "Number of budgets cannot be negative";
+        ArrayList<Budget> latestBudgets = new ArrayList<>(Math.min(count, budgets.size()));
+        for (Budget budget : budgets.descendingMap().values()) {
+            if (latestBudgets.size() == count) {
+                break;
             }
+            latestBudgets.add(budget);
         }
-        LOGGER.info("No budget found for date: " + date);
-        return null; // No budget found for the specified date
+        return latestBudgets;
+    }
+
+    /**
+     * Retrieves the budgets of the months in a range.
+     *
+     * @param start The first month of the range.
+     * @param end The last month of the range, inclusive.
+     * @return A read-only view of the budgets in the range, from the earliest month.
+     */
+    public static Collection<Budget> getBudgetsBetween(YearMonth start, YearMonth end) {
+        assert !start.isAfter(end) : "Start of the range cannot be after its end";
+        return Collections.unmodifiableCollection(budgets.subMap(start, true, end, true).values());
     }
 
     /**
@@ -95,17 +165,15 @@ public class BudgetManager {
     public static void listBudgets(YearMonth date) {
         String result = "";
 
-        // Sort the budgets by YearMonth in descending order
-        budgets.sort((b1, b2) -> b2.getDate().compareTo(b1.getDate()));
-
         if (date == null) {
             LOGGER.info("No date specified for listing budget.");
 
             result += "Here are the 12 latest budgets:\n";
 
-            int entriesToDisplay = Math.min(budgets.size(), 12);
+            ArrayList<Budget> latestBudgets = getLatestBudgets(12);
+            int entriesToDisplay = latestBudgets.size();
             for (int counter = 1; counter <= entriesToDisplay; counter++) {
-                Budget budget = budgets.get(counter - 1);
+                Budget budget = latestBudgets.get(counter - 1);
                 result += counter + ". " + budget.toString();
                 if (counter < entriesToDisplay) {
                     result += "\n";
@@ -129,11 +197,12 @@ public class BudgetManager {
 
     /**
      * A get-function to obtain the information in the current Budget List.
+     * Changes to the returned list do not change the budgets managed by the manager.
      *
-     * @return return the budget ArrayList
+     * @return return the budget ArrayList, starting from the latest month
      */
     public static ArrayList<Budget> getBudgets() {
-        return budgets;
+        return new ArrayList<>(budgets.descendingMap().values());
     }
 
     /**
@@ -146,7 +215,7 @@ public class BudgetManager {
      * </p>
      */
     public static void reset() {
-        numberOfBudgets = 0;
         budgets.clear();
+        modificationCount++;
     }
 }
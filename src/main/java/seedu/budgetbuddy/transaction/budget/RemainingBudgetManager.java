@@ -2,109 +2,98 @@ package seedu.budgetbuddy.transaction.budget;
 
 import seedu.budgetbuddy.Ui;
 import seedu.budgetbuddy.transaction.Category;
+import seedu.budgetbuddy.transaction.HistoryManager;
 import seedu.budgetbuddy.transaction.expense.Expense;
 import seedu.budgetbuddy.transaction.expense.ExpenseManager;
 import seedu.budgetbuddy.util.LoggerSetup;
+import seedu.budgetbuddy.util.Money;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
 import java.util.logging.Logger;
 
 /**
  * Manages the remaining budgets after expenses have been deducted from the budgets.
- * Initializes the remaining budgets based on the current expenses and provides functionality
- * to retrieve and list remaining budgets.
+ * Provides functionality to retrieve and list remaining budgets.
+ *
+ * <p>The remaining budgets are not stored, but read from the budgets of the BudgetManager and the expense
+ * totals of the ExpenseManager, which are both kept up to date as budgets and expenses change. A remaining
+ * budget therefore never goes stale, and looking one up does not depend on the number of expenses.</p>
  */
 public class RemainingBudgetManager {
 
     /** Logger to record events and operations for RemainingBudgetManager. */
     private static final Logger LOGGER = LoggerSetup.getLogger();
 
-    /** List of budgets after expenses have been deducted. */
-    private ArrayList<Budget> remainingBudgets;
-
     /**
-     * Constructs a new RemainingBudgetManager. Initializes the remaining budgets by copying
-     * the existing budgets and deducting the appropriate expenses.
+     * Constructs a new RemainingBudgetManager over the current budgets and expenses.
+     * Only the expenses in memory are deducted, which always include the latest months; call
+     * {@link HistoryManager#requireAll()} first to cover every month.
      */
     public RemainingBudgetManager() {
-        remainingBudgets = new ArrayList<>();
-        copyBudgetManager();
-        ArrayList<Expense> expenses = ExpenseManager.getExpenses();
-        for (Expense expense : expenses) {
-            YearMonth expenseDate = YearMonth.from(expense.getDate());
-            Category expenseCategory = expense.getCategory();
-            double expenseAmount = expense.getAmount();
-
-            // Try to find a budget for the expense's YearMonth
-            Budget matchingBudget = null;
-
-            matchingBudget = searchForGivenBudget(expenseDate, matchingBudget);
-
-            // If no budget is found, create a new one with zero initial amount
-            matchingBudget = createNewBudget(matchingBudget, expenseDate);
-
-            // Deduct the expense from the matching budget (allowing it to go negative)
-            matchingBudget.deductExpense(expenseCategory, expenseAmount);
-            LOGGER.info("Deducted " + expenseAmount + " from budget for " + expenseDate
-                    + " in category " + expenseCategory);
-        }
-        LOGGER.info("Remaining budgets initialized and updated after deductions.");
     }
 
     /**
-     * Creates a new budget for a given date if no matching budget is found.
+     * Returns the budget of a month after the expenses of the month have been deducted.
+     * Every category with a budget or an expense is included, and may be negative.
      *
-     * @param matchingBudget The existing matching budget, or null if no budget exists.
-     * @param expenseDate The date (YearMonth) of the expense.
-     * @return The new or existing budget for the specified date.
+     * @param budget The budget of the month, or null if the month has no budget.
+     * @param month The month of the budget.
+     * @return The remaining budget of the month.
      */
-    private Budget createNewBudget(Budget matchingBudget, YearMonth expenseDate) {
-        assert expenseDate != null : "Expense date cannot be null";
-        if (matchingBudget == null) {
-            matchingBudget = new Budget(expenseDate);
-            remainingBudgets.add(matchingBudget);  // Add the new budget to the list
-            LOGGER.info("Created new budget for " + expenseDate + " with initial amount 0.0");
+    private static Budget getRemainingBudget(Budget budget, YearMonth month) {
+        Budget remainingBudget = budget == null ? new Budget(month) : new Budget(budget);
+        for (Category category : Category.values()) {
+            if (ExpenseManager.getNumberOfExpenses(month, category) > 0) {
+                long expenseCents = ExpenseManager.getMonthlyExpenseInCents(month, category);
+                remainingBudget.deductExpenseInCents(category, expenseCents);
+            }
         }
-        return matchingBudget;
+        return remainingBudget;
     }
 
     /**
-     * Searches for an existing budget that matches the specified date.
-     *
-     * @param expenseDate The date (YearMonth) to search for.
-     * @param matchingBudget The budget to match, initially null.
-     * @return The matching budget, or null if none is found.
+     * Returns the months that have expenses but no budget, in the order of their first expense in the list.
+     * The expenses are only scanned until the first expense of each such month has been seen.
      */
-    private Budget searchForGivenBudget(YearMonth expenseDate, Budget matchingBudget) {
-        for (Budget budget : remainingBudgets) {
-            if (budget.getDate().equals(expenseDate)) {
-                matchingBudget = budget;
-                LOGGER.info("Found existing budget for date: " + expenseDate);
-                break;
+    private static Set<YearMonth> getMonthsWithoutBudget() {
+        Set<YearMonth> monthsWithoutBudget = new HashSet<>();
+        for (YearMonth month : ExpenseManager.getExpenseMonths()) {
+            if (BudgetManager.getBudget(month) == null) {
+                monthsWithoutBudget.add(month);
             }
         }
-        return matchingBudget;
-    }
-
-    /**
-     * Copies the existing budgets from the BudgetManager to initialize the remainingBudgets.
-     */
-    private void copyBudgetManager() {
-        ArrayList<Budget> budgets = BudgetManager.getBudgets();
-        assert budgets != null : "BudgetManager's budgets cannot be null";
-        for (Budget budget : budgets) {
-            remainingBudgets.add(new Budget(budget));
-            LOGGER.info("Copied budget: " + budget);
+        Set<YearMonth> orderedMonths = new LinkedHashSet<>();
+        for (Expense expense : ExpenseManager.getLoadedExpenses()) {
+            if (orderedMonths.size() == monthsWithoutBudget.size()) {
+                break;
+            }
+            YearMonth month = YearMonth.from(expense.getDate());
+            if (monthsWithoutBudget.contains(month)) {
+                orderedMonths.add(month);
+            }
         }
+        return orderedMonths;
     }
 
     /**
      * Lists all remaining budgets after expenses have been deducted.
+     * Budgets are listed first, followed by the months that have expenses but no budget, in the order of
+     * their first expense.
      * Displays the result to the user through the UI.
      */
     public void listRemainingBudgets() {
+        ArrayList<Budget> remainingBudgets = new ArrayList<>();
+        for (Budget budget : BudgetManager.getBudgets()) {
+            remainingBudgets.add(getRemainingBudget(budget, budget.getDate()));
+        }
+        for (YearMonth month : getMonthsWithoutBudget()) {
+            remainingBudgets.add(getRemainingBudget(null, month));
+        }
         if (remainingBudgets.size() == 0) {
             Ui.displayToUser("No budgets found");
             LOGGER.info("No budgets found");
@@ -126,29 +115,25 @@ public class RemainingBudgetManager {
      * @return A message indicating the remaining budget, or that no budget was found.
      */
     public String getRemainingBudgets(LocalDate date, Category category) {
-        YearMonth expenseMonth = YearMonth.from(date);
         assert date != null : "Date cannot be null";
         assert category != null : "Category cannot be null";
-
-        for (Budget budget : remainingBudgets) {
-            if (budget.getDate().equals(expenseMonth)) {
-                Double remainingAmount = budget.getCategoryBudgets().get(category);
-                if (remainingAmount == null) {
-                    remainingAmount = 0.0; // If the category does not exist, assume remaining amount is 0
-                }
-                LOGGER.info("Retrieved remaining budget for " + expenseMonth + " in category " + category
-                        + ": " + remainingAmount);
-                String result = "The remaining budget for " + expenseMonth + " in the " + category
-                        + " category is: " + remainingAmount;
-                if (remainingAmount < 0) {
-                    result += "\nCaution! You have exceeded your budget!";
-                }
-                return result;
-            }
+        YearMonth expenseMonth = YearMonth.from(date);
+        Budget budget = BudgetManager.getBudget(expenseMonth);
+        if (budget == null && ExpenseManager.getExpensesInMonth(expenseMonth).isEmpty()) {
+            LOGGER.warning("No budget found for " + expenseMonth + ".");
+            return "No budget found for " + expenseMonth + ".";
         }
 
-        // If no budget is found for the specified date
-        LOGGER.warning("No budget found for " + expenseMonth + ".");
-        return "No budget found for " + expenseMonth + ".";
+        long budgetCents = budget == null ? 0 : budget.getCategoryBudgetInCents(category);
+        double remainingAmount = Money.toAmount(Math.subtractExact(budgetCents,
+                ExpenseManager.getMonthlyExpenseInCents(expenseMonth, category)));
+        LOGGER.fine("Retrieved remaining budget for " + expenseMonth + " in category " + category
+                + ": " + remainingAmount);
+        String result = "The remaining budget for " + expenseMonth + " in the " + category
+                + " category is: " + remainingAmount;
+        if (remainingAmount < 0) {
+            result += "\nCaution! You have exceeded your budget!";
+        }
+        return result;
     }
 }
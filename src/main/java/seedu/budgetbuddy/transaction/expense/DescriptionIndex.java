@@ -0,0 +1,203 @@
+package seedu.budgetbuddy.transaction.expense;
+
+import seedu.budgetbuddy.transaction.TransactionColumns;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Indexes the expenses of the ExpenseManager by description, so that a search only visits the descriptions that
+ * can match and then the expenses that do.
+ *
+ * <p>Expenses with the same description share one entry, which holds them in list order. Every trigram of the
+ * lower case description points to its entry, so a keyword of at least three characters is only compared
+ * against the descriptions that contain its rarest trigram. Shorter keywords are compared against every
+ * distinct description, of which there are usually far fewer than expenses.</p>
+ *
+ * <p>The IDs of expenses increase in list order, so the expenses of several matching descriptions are merged
+ * back into list order by their IDs, and an expense is found in its entry by a binary search of its ID.</p>
+ */
+class DescriptionIndex {
+    private static final String OR = " OR ";
+    private static final String AND = " AND ";
+    private static final int GRAM_LENGTH = 3;
+
+    private final HashMap<String, Entry> entries = new HashMap<>();
+    private final HashMap<Long, ArrayList<Entry>> grams = new HashMap<>();
+
+    /**
+     * Discards the index.
+     */
+    void clear() {
+        entries.clear();
+        grams.clear();
+    }
+
+    /**
+     * Indexes an expense that follows every indexed expense in the list.
+     */
+    void add(Expense expense) {
+        Entry entry = entries.get(expense.getDescription());
+        if (entry == null) {
+            entry = new Entry(expense.getDescription());
+            entries.put(entry.description, entry);
+            for (long gram : getGrams(entry.lowerCaseDescription)) {
+                grams.computeIfAbsent(gram, key -> new ArrayList<>()).add(entry);
+            }
+        }
+        entry.expenses.add(expense);
+    }
+
+    /**
+     * Removes an expense that was removed from the list.
+     */
+    void remove(Expense expense) {
+        Entry entry = entries.get(expense.getDescription());
+        assert entry != null : "Indexed expense must have an entry";
+        int position = TransactionColumns.findById(entry.expenses, expense.getId());
+        assert position >= 0 && entry.expenses.get(position) == expense : "Indexed expense must be in its entry";
+        entry.expenses.remove(position);
+        if (!entry.expenses.isEmpty()) {
+            return;
+        }
+        entries.remove(entry.description);
+        for (long gram : getGrams(entry.lowerCaseDescription)) {
+            ArrayList<Entry> gramEntries = grams.get(gram);
+            gramEntries.remove(entry);
+            if (gramEntries.isEmpty()) {
+                grams.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Returns the expenses whose description matches the query, in list order.
+     * A query is a keyword, or keywords joined by {@code AND} and {@code OR} in upper case, where {@code AND}
+     * binds tighter. A description matches a keyword if it contains the keyword, ignoring case.
+     *
+     * @param query The query.
+     * @return The matching expenses.
+     */
+    List<Expense> search(String query) {
+        Set<Entry> matches = new HashSet<>();
+        for (String alternative : query.split(OR)) {
+            Set<Entry> alternativeMatches = null;
+            for (String keyword : alternative.split(AND)) {
+                alternativeMatches = getMatches(keyword.toLowerCase(), alternativeMatches);
+            }
+            if (alternativeMatches != null) {
+                matches.addAll(alternativeMatches);
+            }
+        }
+        return merge(matches);
+    }
+
+    /**
+     * Returns the entries that contain the keyword, out of the given candidates, or out of all entries if there
+     * are no candidates yet.
+     */
+    private Set<Entry> getMatches(String keyword, Set<Entry> candidates) {
+        Iterable<Entry> searchedEntries = candidates;
+        if (searchedEntries == null) {
+            searchedEntries = keyword.length() < GRAM_LENGTH ? entries.values() : getRarestGramEntries(keyword);
+        }
+        Set<Entry> matches = new HashSet<>();
+        for (Entry entry : searchedEntries) {
+            if (entry.lowerCaseDescription.contains(keyword)) {
+                matches.add(entry);
+            }
+        }
+        return matches;
+    }
+
+    private List<Entry> getRarestGramEntries(String keyword) {
+        List<Entry> rarest = null;
+        for (int i = 0; i + GRAM_LENGTH <= keyword.length(); i++) {
+            ArrayList<Entry> gramEntries = grams.get(toGram(keyword, i));
+            if (gramEntries == null) {
+                return List.of();
+            }
+            if (rarest == null || gramEntries.size() < rarest.size()) {
+                rarest = gramEntries;
+            }
+        }
+        return rarest;
+    }
+
+    /**
+     * Merges the expenses of the entries into list order.
+     */
+    private static List<Expense> merge(Set<Entry> matches) {
+        int total = 0;
+        for (Entry entry : matches) {
+            total += entry.expenses.size();
+        }
+        List<Expense> expenses = new ArrayList<>(total);
+        if (matches.size() == 1) {
+            Entry entry = matches.iterator().next();
+            expenses.addAll(entry.expenses);
+            return expenses;
+        }
+        PriorityQueue<Cursor> cursors = new PriorityQueue<>();
+        for (Entry entry : matches) {
+            cursors.add(new Cursor(entry));
+        }
+        while (!cursors.isEmpty()) {
+            Cursor cursor = cursors.poll();
+            expenses.add(cursor.entry.expenses.get(cursor.position));
+            cursor.position++;
+            if (cursor.position < cursor.entry.expenses.size()) {
+                cursors.add(cursor);
+            }
+        }
+        return expenses;
+    }
+
+    private static Set<Long> getGrams(String lowerCaseDescription) {
+        Set<Long> descriptionGrams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= lowerCaseDescription.length(); i++) {
+            descriptionGrams.add(toGram(lowerCaseDescription, i));
+        }
+        return descriptionGrams;
+    }
+
+    private static long toGram(String text, int start) {
+        return ((long) text.charAt(start) << 32) | ((long) text.charAt(start + 1) << 16) | text.charAt(start + 2);
+    }
+
+    /**
+     * The expenses that share a description, in list order.
+     */
+    private static class Entry {
+        private final String description;
+        private final String lowerCaseDescription;
+        private final ArrayList<Expense> expenses = new ArrayList<>();
+
+        private Entry(String description) {
+            this.description = description;
+            this.lowerCaseDescription = description.toLowerCase();
+        }
+    }
+
+    /**
+     * The position of the next expense of an entry to merge.
+     */
+    private static class Cursor implements Comparable<Cursor> {
+        private final Entry entry;
+        private int position;
+
+        private Cursor(Entry entry) {
+            this.entry = entry;
+        }
+
+        @Override
+        public int compareTo(Cursor other) {
+            return Long.compare(entry.expenses.get(position).getId(),
+                    other.entry.expenses.get(other.position).getId());
+        }
+    }
+}
@@ -2,6 +2,7 @@ package seedu.budgetbuddy.transaction.expense;
 
 import seedu.budgetbuddy.transaction.Category;
 import seedu.budgetbuddy.transaction.Transaction;
+import seedu.budgetbuddy.util.Money;
 
 import java.time.LocalDate;
 
@@ -34,7 +35,7 @@ public class Expense extends Transaction {
     public String toString() {
         String output = "";
         output += "Description: " + description;
-        output += "  Amount: " + amount;
+        output += "  Amount: " + Money.toAmount(amountInCents);
         output += "  Date: " + date;
         output += "  Category: " + category;
         return output;
@@ -55,7 +56,7 @@ public class Expense extends Transaction {
      * @return A double representing the amount of the transaction.
      */
     public double getAmount() {
-        return amount;
+        return Money.toAmount(amountInCents);
     }
 
     /**
@@ -0,0 +1,185 @@
+package seedu.budgetbuddy.transaction.expense;
+
+import seedu.budgetbuddy.transaction.Category;
+import seedu.budgetbuddy.transaction.TransactionColumns;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+
+/**
+ * Indexes the expenses of the ExpenseManager by month, by category and by description, so that filtered queries
+ * and searches only visit the matching expenses, and keeps their totals in an {@link ExpenseTotals}.
+ *
+ * <p>Each month and each category maps to the expenses it holds, in the order of the expense list, so that
+ * listings numbered from an index match listings numbered from a scan of the whole list. Months without
+ * expenses are removed from the index. As the IDs of expenses increase in list order, an expense is found in its
+ * buckets by a binary search of its ID. The ExpenseManager indexes its list again whenever it has to number it
+ * again, which is when the list was replaced or resized behind its back.</p>
+ *
+ * <p>The descriptions are only indexed by the first search after the index is built, so that loading expenses
+ * does not pay for searches that may never come, and are kept up to date from then on. The list must have no
+ * deleted expenses left in it when the descriptions are indexed.</p>
+ */
+class ExpenseIndex {
+    private final TreeMap<YearMonth, ArrayList<Expense>> byMonth = new TreeMap<>();
+    private final EnumMap<Category, ArrayList<Expense>> byCategory = new EnumMap<>(Category.class);
+    private final ExpenseTotals totals = new ExpenseTotals();
+    private final DescriptionIndex descriptions = new DescriptionIndex();
+    private boolean isDescriptionIndexed;
+    private List<Expense> indexedExpenses;
+
+    /**
+     * Discards the index and indexes every expense of the given list.
+     */
+    void rebuild(List<Expense> expenses) {
+        byMonth.clear();
+        byCategory.clear();
+        totals.clear();
+        descriptions.clear();
+        isDescriptionIndexed = false;
+        for (Expense expense : expenses) {
+            addToBuckets(expense);
+        }
+        indexedExpenses = expenses;
+    }
+
+    /**
+     * Indexes an expense that was appended to the end of the indexed list.
+     */
+    void add(Expense expense) {
+        addToBuckets(expense);
+    }
+
+    /**
+     * Removes an expense that was deleted from the indexed list.
+     */
+    void remove(Expense expense) {
+        YearMonth month = YearMonth.from(expense.getDate());
+        removeFromBucket(byMonth, month, expense);
+        removeFromBucket(byCategory, expense.getCategory(), expense);
+        totals.remove(month, expense.getCategory(), expense.getAmountInCents());
+        if (isDescriptionIndexed) {
+            descriptions.remove(expense);
+        }
+    }
+
+    /**
+     * Moves an edited expense to the buckets of its new month and category and updates the totals.
+     *
+     * @param expense The edited expense.
+     * @param oldMonth The month of the expense before the edit.
+     * @param oldCategory The category of the expense before the edit.
+     * @param oldAmount The amount of the expense before the edit, in cents.
+     */
+    void update(Expense expense, YearMonth oldMonth, Category oldCategory, long oldAmount) {
+        YearMonth newMonth = YearMonth.from(expense.getDate());
+        totals.remove(oldMonth, oldCategory, oldAmount);
+        totals.add(newMonth, expense.getCategory(), expense.getAmountInCents());
+        if (!newMonth.equals(oldMonth)) {
+            removeFromBucket(byMonth, oldMonth, expense);
+            insertIntoBucket(byMonth.computeIfAbsent(newMonth, month -> new ArrayList<>()), expense);
+        }
+        Category newCategory = expense.getCategory();
+        if (newCategory != oldCategory) {
+            removeFromBucket(byCategory, oldCategory, expense);
+            insertIntoBucket(byCategory.computeIfAbsent(newCategory, category -> new ArrayList<>()), expense);
+        }
+    }
+
+    /**
+     * Returns the totals of the indexed expenses.
+     */
+    ExpenseTotals getTotals() {
+        return totals;
+    }
+
+    /**
+     * Returns the index of the descriptions of the indexed expenses, indexing the descriptions first if this is
+     * the first search since the index was built.
+     */
+    DescriptionIndex getDescriptions() {
+        if (!isDescriptionIndexed) {
+            for (Expense expense : indexedExpenses) {
+                descriptions.add(expense);
+            }
+            isDescriptionIndexed = true;
+        }
+        return descriptions;
+    }
+
+    /**
+     * Returns the expenses of the month, in list order.
+     */
+    List<Expense> getMonth(YearMonth month) {
+        return unmodifiable(byMonth.get(month));
+    }
+
+    /**
+     * Returns the expenses of the category, in list order.
+     */
+    List<Expense> getCategory(Category category) {
+        return unmodifiable(byCategory.get(category));
+    }
+
+    /**
+     * Returns the expenses of each month from start to end inclusive that has expenses, in month order.
+     */
+    NavigableMap<YearMonth, List<Expense>> getMonths(YearMonth start, YearMonth end) {
+        return Collections.unmodifiableNavigableMap(byMonth.subMap(start, true, end, true));
+    }
+
+    /**
+     * Returns the months that have expenses, in ascending order.
+     */
+    NavigableSet<YearMonth> getMonths() {
+        return Collections.unmodifiableNavigableSet(byMonth.navigableKeySet());
+    }
+
+    /**
+     * Returns whether the expense falls in the month, without creating a YearMonth for its date.
+     */
+    static boolean isInMonth(Expense expense, YearMonth month) {
+        LocalDate date = expense.getDate();
+        return date.getMonthValue() == month.getMonthValue() && date.getYear() == month.getYear();
+    }
+
+    private void addToBuckets(Expense expense) {
+        assert expense.getCategory() != null : "Category of an expense cannot be null";
+        YearMonth month = YearMonth.from(expense.getDate());
+        byMonth.computeIfAbsent(month, key -> new ArrayList<>()).add(expense);
+        byCategory.computeIfAbsent(expense.getCategory(), key -> new ArrayList<>()).add(expense);
+        totals.add(month, expense.getCategory(), expense.getAmountInCents());
+        if (isDescriptionIndexed) {
+            descriptions.add(expense);
+        }
+    }
+
+    private static <K> void removeFromBucket(Map<K, ArrayList<Expense>> index, K key, Expense expense) {
+        ArrayList<Expense> bucket = index.get(key);
+        assert bucket != null : "Indexed expense must be in a bucket";
+        int bucketPosition = TransactionColumns.findById(bucket, expense.getId());
+        assert bucketPosition >= 0 && bucket.get(bucketPosition) == expense : "Indexed expense must be in its bucket";
+        bucket.remove(bucketPosition);
+        if (bucket.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private static void insertIntoBucket(ArrayList<Expense> bucket, Expense expense) {
+        int bucketPosition = TransactionColumns.findById(bucket, expense.getId());
+        assert bucketPosition < 0 : "Expense must not be in the bucket yet";
+        bucket.add(-bucketPosition - 1, expense);
+    }
+
+    private static List<Expense> unmodifiable(ArrayList<Expense> bucket) {
+        return bucket == null ? Collections.emptyList() : Collections.unmodifiableList(bucket);
+    }
+}
@@ -1,18 +1,29 @@
 package seedu.budgetbuddy.transaction.expense;
 
+import seedu.budgetbuddy.Journal;
 import seedu.budgetbuddy.Ui;
+import seedu.budgetbuddy.graphs.ChartExporter;
 import seedu.budgetbuddy.graphs.ExpensesCategoryPieChart;
 import seedu.budgetbuddy.transaction.Category;
+import seedu.budgetbuddy.transaction.HistoryManager;
+import seedu.budgetbuddy.transaction.TransactionColumns;
 import seedu.budgetbuddy.transaction.budget.RemainingBudgetManager;
 import seedu.budgetbuddy.util.LoggerSetup;
 import seedu.budgetbuddy.graphs.ExpensesOverMonthGraph;
+import seedu.budgetbuddy.util.DateCodec;
+import seedu.budgetbuddy.util.Money;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.time.YearMonth;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 
 import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -23,8 +34,11 @@ import java.util.logging.Logger;
  */
 public class ExpenseManager {
     private static final Logger LOGGER = LoggerSetup.getLogger();
+    private static final ExpenseIndex INDEX = new ExpenseIndex();
+    private static final TransactionColumns COLUMNS = new TransactionColumns();
     private static int numberOfExpenses = 0;
     private static ArrayList<Expense> expenses = new ArrayList<>();
+    private static int modificationCount = 0;
 
     /**
      * Construct a ExpenseManager of array content expenses
@@ -35,6 +49,7 @@ public class ExpenseManager {
         assert numberOfExpenses >= 0 : "numberOfExpenses should be greater than 0";
         ExpenseManager.expenses = expenses;
         ExpenseManager.numberOfExpenses = numberOfExpenses;
+        modificationCount++;
     }
 
     /**
@@ -50,13 +65,20 @@ public class ExpenseManager {
      * @param expense The expense to be added.
      */
     public static void addExpense(Expense expense) {
+        HistoryManager.requireMonth(YearMonth.from(expense.getDate()));
+        ExpenseIndex expenseIndex = getIndex();
+        TransactionColumns columns = getLoadedColumns();
         expenses.add(expense);
+        expenseIndex.add(expense);
+        columns.add(expense);
         numberOfExpenses++;
+        modificationCount++;
+        Journal.recordAddition(expense);
         String budgetRemaining = new RemainingBudgetManager().getRemainingBudgets(expense.getDate()
                 , expense.getCategory());
         String result = "The following expense transaction has been added:\n"
                 + expense + '\n'
-                + "You have " + numberOfExpenses + " expense transaction(s) in total.\n" + budgetRemaining;
+                + "You have " + getTotalNumberOfExpenses() + " expense transaction(s) in total.\n" + budgetRemaining;
         Ui.displayToUser(result);
     }
 
@@ -66,8 +88,13 @@ public class ExpenseManager {
      * @param expense The expense to be added.
      */
     public static void loadExpense(Expense expense) {
+        ExpenseIndex expenseIndex = getIndex();
+        TransactionColumns columns = getLoadedColumns();
         expenses.add(expense);
+        expenseIndex.add(expense);
+        columns.add(expense);
         numberOfExpenses++;
+        modificationCount++;
     }
 
     /**
@@ -76,27 +103,149 @@ public class ExpenseManager {
      * @param index The index of the expense to be deleted.
      */
     public static void deleteExpense(int index) {
-        numberOfExpenses--;
+        HistoryManager.requireAll();
+        Expense expense = getExpenseByIndex(index);
+        removeExpense(index);
+        displayDeletion(expense);
+    }
+
+    /**
+     * Deletes the expense with the specified ID from the manager.
+     *
+     * @param id The ID of the expense to be deleted.
+     * @throws IllegalArgumentException If no expense has the ID.
+     */
+    public static void deleteExpenseById(long id) {
+        HistoryManager.requireAll();
+        getIndex();
+        int position = COLUMNS.findPosition(id);
+        if (position == -1) {
+            throw new IllegalArgumentException("No expense has the ID " + id);
+        }
+        Expense expense = expenses.get(position);
+        removeExpenseAt(position, COLUMNS.getIndex(position));
+        displayDeletion(expense);
+    }
+
+    private static void displayDeletion(Expense expense) {
         String result = "The following expense transaction has been deleted:\n"
-                + expenses.get(index) + '\n'
-                + "You have " + numberOfExpenses + " expense transaction(s) in total.\n";
-        LocalDate date = expenses.get(index).getDate();
-        Category category = expenses.get(index).getCategory();
-        expenses.remove(index);
+                + expense + '\n'
+                + "You have " + getTotalNumberOfExpenses() + " expense transaction(s) in total.\n";
+        LocalDate date = expense.getDate();
+        Category category = expense.getCategory();
         String budgetRemaining = new RemainingBudgetManager().getRemainingBudgets(date, category);
         result += budgetRemaining;
         Ui.displayToUser(result);
     }
 
+    /**
+     * Removes the expense at the specified index without displaying anything to the user.
+     *
+     * @param index The index of the expense to be removed.
+     * @throws IndexOutOfBoundsException If there is no expense at the index.
+     */
+    public static void removeExpense(int index) {
+        getIndex();
+        removeExpenseAt(COLUMNS.getPosition(index), index);
+    }
+
+    /**
+     * Marks the expense at the given position of the list as deleted, compacting the list once deleted expenses
+     * make up half of it, so that a run of deletions does not move the later expenses on every deletion.
+     */
+    private static void removeExpenseAt(int position, int index) {
+        INDEX.remove(expenses.get(position));
+        COLUMNS.delete(position);
+        numberOfExpenses--;
+        modificationCount++;
+        Journal.recordExpenseDeletion(index);
+        if (COLUMNS.isWorthCompacting()) {
+            COLUMNS.compact(expenses);
+        }
+    }
+
+    /**
+     * Edits the fields of an expense managed by the manager.
+     * Fields given as {@code null}, or a negative amount, are left unchanged. An expense that is not in the
+     * list of the manager is edited without counting as a change or being recorded in the journal, as it is
+     * not part of the saved data.
+     *
+     * @param expense The expense to be edited.
+     * @param category The new category of the expense.
+     * @param date The new date of the expense.
+     * @param amount The new amount of the expense.
+     */
+    public static void editExpense(Expense expense, Category category, LocalDate date, double amount) {
+        assert expense != null : "Expense to be edited cannot be null";
+        if (date != null) {
+            HistoryManager.requireMonth(getYearMonthFromDate(date));
+        }
+        ExpenseIndex expenseIndex = getIndex();
+        int position = COLUMNS.findPosition(expense.getId());
+        if (position != -1 && expenses.get(position) != expense) {
+            position = -1;
+        }
+        YearMonth oldMonth = YearMonth.from(expense.getDate());
+        Category oldCategory = expense.getCategory();
+        long oldAmount = expense.getAmountInCents();
+        if (category != null) {
+            expense.editCategory(category);
+        }
+        if (date != null) {
+            expense.editDate(date);
+        }
+        if (amount >= 0) {
+            expense.editAmount(amount);
+        }
+        if (position != -1) {
+            modificationCount++;
+            expenseIndex.update(expense, oldMonth, oldCategory, oldAmount);
+            COLUMNS.update(position, expense);
+            Journal.recordEdit(expense, COLUMNS.getIndex(position));
+        }
+    }
+
+    /**
+     * Returns the number of changes made to the expenses so far.
+     * Storage compares it with the value seen at its last save to skip saving unchanged data.
+     *
+     * @return The modification count of the expenses.
+     */
+    public static int getModificationCount() {
+        return modificationCount;
+    }
+
     /**
      * Returns the current number of expenses.
      *
      * @return The total number of expenses.
      */
     public static int getNumberOfExpenses() {
+        HistoryManager.requireAll();
         return numberOfExpenses;
     }
 
+    /**
+     * Returns the number of expenses, including those of older months that are not in memory, without loading
+     * them.
+     */
+    private static int getTotalNumberOfExpenses() {
+        int numberOfUnloadedExpenses = HistoryManager.getNumberOfUnloadedExpenses();
+        return numberOfExpenses + numberOfUnloadedExpenses;
+    }
+
+    /**
+     * Returns the number of expenses of a category in a specified month.
+     *
+     * @param month The month of the expenses.
+     * @param category The category of the expenses.
+     * @return The number of expenses of the category in the month.
+     */
+    public static int getNumberOfExpenses(YearMonth month, Category category) {
+        HistoryManager.requireMonth(month);
+        return getIndex().getTotals().getCount(month, category);
+    }
+
     /**
      * Calculates the total expenses for a specified month.
      *
@@ -104,13 +253,93 @@ public class ExpenseManager {
      * @return The total expenses for the month; returns 0.0 if no expense is found.
      */
     public static double getMonthlyExpense(YearMonth month) {
-        double sum = 0;
-        for (Expense expense : expenses) {
-            if (month.equals(getYearMonthFromDate(expense.getDate()))) {
-                sum += expense.getAmount();
-            }
-        }
-        return sum;
+        return Money.toAmount(getMonthlyExpenseInCents(month));
+    }
+
+    /**
+     * Calculates the total expenses of a category for a specified month.
+     *
+     * @param month The month to calculate expenses for.
+     * @param category The category to calculate expenses for.
+     * @return The total expenses of the category for the month; returns 0.0 if no expense is found.
+     */
+    public static double getMonthlyExpense(YearMonth month, Category category) {
+        return Money.toAmount(getMonthlyExpenseInCents(month, category));
+    }
+
+    /**
+     * Returns the total expenses for a specified month in cents, read from the running totals of the month.
+     *
+     * @param month The month to get the expenses for.
+     * @return The exact total expenses for the month in cents; returns 0 if no expense is found.
+     */
+    public static long getMonthlyExpenseInCents(YearMonth month) {
+        HistoryManager.requireMonth(month);
+        return getIndex().getTotals().getSum(month);
+    }
+
+    /**
+     * Calculates the total expenses of a category for a specified month, in cents.
+     *
+     * @param month The month to calculate expenses for.
+     * @param category The category to calculate expenses for.
+     * @return The exact total expenses of the category for the month in cents; returns 0 if no expense is found.
+     */
+    public static long getMonthlyExpenseInCents(YearMonth month, Category category) {
+        HistoryManager.requireMonth(month);
+        return getIndex().getTotals().getSum(month, category);
+    }
+
+    /**
+     * Returns the total expenses of every category for a specified month, read from the running totals of the
+     * month in a single lookup.
+     *
+     * @param month The month to get the expenses for.
+     * @return A map of every category to its total expenses for the month in cents, 0 if it has none.
+     */
+    public static EnumMap<Category, Long> getMonthlyExpensesByCategoryInCents(YearMonth month) {
+        HistoryManager.requireMonth(month);
+        return getIndex().getTotals().getCategorySums(month);
+    }
+
+    /**
+     * Returns the total expenses of every category for each month in the given range that has expenses, read from
+     * the running totals of each month.
+     *
+     * @param start The first month of the range.
+     * @param end The last month of the range, inclusive.
+     * @return A map of the months with expenses, in ascending order, to the total expenses of every category in
+     *     cents.
+     */
+    public static NavigableMap<YearMonth, EnumMap<Category, Long>> getMonthlyExpensesByCategoryInCents(
+            YearMonth start, YearMonth end) {
+        assert !start.isAfter(end) : "Start of the range cannot be after its end";
+        HistoryManager.requireMonth(start);
+        return getIndex().getTotals().getCategorySums(start, end);
+    }
+
+    /**
+     * Returns the total expenses of every month that has expenses, read from the running totals of each month.
+     *
+     * @return A map of the months with expenses, in ascending order, to their total expenses in cents.
+     */
+    public static NavigableMap<YearMonth, Long> getMonthlyExpensesInCents() {
+        HistoryManager.requireAll();
+        return getIndex().getTotals().getMonthlySumsInCents();
+    }
+
+    /**
+     * Returns the total expenses of each month in the given range that has expenses, read from the running
+     * totals of each month.
+     *
+     * @param start The first month of the range.
+     * @param end The last month of the range, inclusive.
+     * @return A map of the months with expenses, in ascending order, to their total expenses in cents.
+     */
+    public static NavigableMap<YearMonth, Long> getMonthlyExpensesInCents(YearMonth start, YearMonth end) {
+        assert !start.isAfter(end) : "Start of the range cannot be after its end";
+        HistoryManager.requireMonth(start);
+        return getIndex().getTotals().getMonthlySumsInCents(start, end);
     }
 
     /**
@@ -118,22 +347,24 @@ public class ExpenseManager {
      * Displays each expense with its corresponding number.
      */
     public static void listExpenses() {
+        HistoryManager.requireAll();
         if (numberOfExpenses == 0) {
             Ui.displayToUser("There are currently no expense entries. Try again after adding an expense entry.");
             return;
         }
-        String result = "";
-        int counter = 0;
-        double sumOfExpenses = 0;
-        for (Expense expense : expenses) {
-            counter++;
-            result += counter + ". " + expense.toString() + "\n";
-            sumOfExpenses += expense.getAmount();
-        }
-        result += "There are " + counter + " expense(s) in total" +
-                ", with a sum of $" + sumOfExpenses + ".";
         LOGGER.log(Level.INFO, "Listing {0} expenses", numberOfExpenses);
-        Ui.displayToUser(result);
+        compact();
+        Ui.displayToUser(out -> {
+            int counter = 0;
+            long sumOfExpenses = 0;
+            for (Expense expense : expenses) {
+                counter++;
+                out.append(counter).append(". ").append(expense.toString()).append('\n');
+                sumOfExpenses = Math.addExact(sumOfExpenses, expense.getAmountInCents());
+            }
+            out.append("There are ").append(counter).append(" expense(s) in total")
+                    .append(", with a sum of $").append(Money.toAmount(sumOfExpenses)).append(".");
+        });
     }
 
     /**
@@ -144,26 +375,38 @@ public class ExpenseManager {
      * @return result String to be displayed to user
      */
     public static String listExpensesWithCategoryAndDate(Category category, YearMonth month) {
+        return Ui.render(out -> listExpensesWithCategoryAndDate(category, month, out));
+    }
+
+    /**
+     * Writes all expenses that match the month and category, each with its corresponding number.
+     *
+     * @param category The category of the expenses.
+     * @param month The month of the expenses.
+     * @param out The writer of the message to the user.
+     */
+    public static void listExpensesWithCategoryAndDate(Category category, YearMonth month, Ui.MessageWriter out) {
         assert category != null : "category cannot be null";
         assert month != null : "month cannot be null";
-        String result = "";
+        List<Expense> expensesInMonth = getExpensesInMonth(month);
+        List<Expense> expensesWithCategory = getIndex().getCategory(category);
+        List<Expense> candidates = expensesInMonth.size() <= expensesWithCategory.size()
+                ? expensesInMonth : expensesWithCategory;
         int counter = 0;
-        double amount = 0;
-        String monthInString = month.format(DateTimeFormatter.ofPattern("MMMM yyyy"));
-        for (Expense expense : expenses) {
-            if (category.equals(expense.getCategory()) && month.equals(getYearMonthFromDate(expense.getDate()))) {
+        long amount = 0;
+        for (Expense expense : candidates) {
+            if (expense.getCategory() == category && ExpenseIndex.isInMonth(expense, month)) {
                 counter++;
-                result += counter + ". " + expense.toString() + "\n";
-                amount += expense.getAmount();
+                out.append(counter).append(". ").append(expense.toString()).append('\n');
+                amount = Math.addExact(amount, expense.getAmountInCents());
             }
         }
-        if (result.equals("")) {
-            result = getEmptyDisplayMessage();
+        if (counter == 0) {
+            out.append(getEmptyDisplayMessage());
         } else {
-            result += "Your total expenses for " + category + " in "
-                    + monthInString + " is $" + amount;
+            out.append("Your total expenses for ").append(category).append(" in ")
+                    .append(DateCodec.formatDisplayMonth(month)).append(" is $").append(Money.toAmount(amount));
         }
-        return result;
     }
 
     /**
@@ -173,23 +416,29 @@ public class ExpenseManager {
      * @return result String to be displayed to user
      */
     public static String listExpensesWithCategory(Category category) {
+        return Ui.render(out -> listExpensesWithCategory(category, out));
+    }
+
+    /**
+     * Writes all expenses that match the category, each with its corresponding number.
+     *
+     * @param category The category of the expenses.
+     * @param out The writer of the message to the user.
+     */
+    public static void listExpensesWithCategory(Category category, Ui.MessageWriter out) {
         assert category != null : "category cannot be null";
-        String result = "";
         int counter = 0;
-        double amount = 0;
-        for (Expense expense : expenses) {
-            if (category.equals(expense.getCategory())) {
-                counter++;
-                result += counter + ". " + expense.toString() + "\n";
-                amount += expense.getAmount();
-            }
+        long amount = 0;
+        for (Expense expense : getExpensesWithCategory(category)) {
+            counter++;
+            out.append(counter).append(". ").append(expense.toString()).append('\n');
+            amount = Math.addExact(amount, expense.getAmountInCents());
         }
-        if (result.equals("")) {
-            result = getEmptyDisplayMessage();
+        if (counter == 0) {
+            out.append(getEmptyDisplayMessage());
         } else {
-            result += "Your expenses for " + category + " is $" + amount;
+            out.append("Your expenses for ").append(category).append(" is $").append(Money.toAmount(amount));
         }
-        return result;
     }
 
     /**
@@ -199,49 +448,64 @@ public class ExpenseManager {
      * @return result String to be displayed to user
      */
     public static String listExpensesWithDate(YearMonth month) {
+        return Ui.render(out -> listExpensesWithDate(month, out));
+    }
+
+    /**
+     * Writes all expenses of the month, each with its corresponding number.
+     *
+     * @param month The month of the expenses.
+     * @param out The writer of the message to the user.
+     */
+    public static void listExpensesWithDate(YearMonth month, Ui.MessageWriter out) {
         assert month != null : "month cannot be null";
-        String result = "";
         int counter = 0;
-        double amountInMonth = 0;
-        String monthInString = month.format(DateTimeFormatter.ofPattern("MMMM yyyy"));
-        for (Expense expense : expenses) {
-            if (month.equals(getYearMonthFromDate(expense.getDate()))) {
-                counter++;
-                result += counter + ". " + expense.toString() + "\n";
-                amountInMonth += expense.getAmount();
-            }
+        long amountInMonth = 0;
+        for (Expense expense : getExpensesInMonth(month)) {
+            counter++;
+            out.append(counter).append(". ").append(expense.toString()).append('\n');
+            amountInMonth = Math.addExact(amountInMonth, expense.getAmountInCents());
         }
-        if (result.equals("")) {
-            result = getEmptyDisplayMessage();
+        if (counter == 0) {
+            out.append(getEmptyDisplayMessage());
         } else {
-            result += "Your expenses for " + monthInString + " is $" + amountInMonth;
+            out.append("Your expenses for ").append(DateCodec.formatDisplayMonth(month))
+                    .append(" is $").append(Money.toAmount(amountInMonth));
         }
-        return result;
     }
 
     /**
      * Filters expenses with descriptions that contain the keyword(s) provided by user.
+     * Keywords can be combined with {@code AND} and {@code OR} in upper case, where {@code AND} binds tighter.
      * @param keyword
      * @return result String displayed to user
      */
     public static String searchExpenses(String keyword){
+        return Ui.render(out -> searchExpenses(keyword, out));
+    }
+
+    /**
+     * Writes the expenses with descriptions that contain the keyword, each with its corresponding number.
+     *
+     * @param keyword The keyword provided by the user.
+     * @param out The writer of the message to the user.
+     */
+    public static void searchExpenses(String keyword, Ui.MessageWriter out) {
         assert keyword != null: "Keyword should not be null";
-        String result = "";
+        HistoryManager.requireAll();
         if (keyword.equals("")) {
-            result = getEmptyDisplayMessage();
-            return result;
+            out.append(getEmptyDisplayMessage());
+            return;
         }
+        compact();
         int counter = 1;
-        for (Expense expense : expenses) {
-            if (expense.getDescription().toLowerCase().contains(keyword.toLowerCase())){
-                result += counter + ". " + expense.toString() + "\n";
-                counter++;
-            }
+        for (Expense expense : getIndex().getDescriptions().search(keyword)) {
+            out.append(counter).append(". ").append(expense.toString()).append('\n');
+            counter++;
         }
-        if (result.equals("")) {
-            result = getEmptyDisplayMessage();
+        if (counter == 1) {
+            out.append(getEmptyDisplayMessage());
         }
-        return result;
     }
 
     /**
@@ -250,8 +514,9 @@ public class ExpenseManager {
      * @param year The year for which the expenses graph is to be displayed.
      */
     public static void displayExpensesOverMonthGraph(int year) {
-        ArrayList<Expense> expensesOverMonthArray = getExpenses();
-        Map<YearMonth, Double> monthlyExpensesMap = ExpensesOverMonthGraph.monthMapBuilder(expensesOverMonthArray);
+        HistoryManager.requireMonth(YearMonth.of(year, 1));
+        Map<YearMonth, Double> monthlyExpensesMap = getIndex().getTotals()
+                .getMonthlySums(YearMonth.of(year, 1), YearMonth.of(year, 12));
         ExpensesOverMonthGraph.chartPrinter(monthlyExpensesMap, year);
     }
 
@@ -261,10 +526,7 @@ public class ExpenseManager {
      * @param yearMonth The YearMonth object representing the month for which the total expenses are to be displayed.
      */
     public static void listTotalExpensesForMonth(YearMonth yearMonth) {
-        ArrayList<Expense> expensesOverMonthArray = getExpenses();
-        Map<YearMonth, Double> monthlyExpensesMap = ExpensesOverMonthGraph.monthMapBuilder(expensesOverMonthArray);
-        Ui.displayToUser("Your expenses for " + yearMonth.toString() + " is " +
-                ExpensesOverMonthGraph.expensesForMonth(monthlyExpensesMap, yearMonth));
+        Ui.displayToUser("Your expenses for " + yearMonth.toString() + " is " + getMonthlyExpense(yearMonth));
     }
 
     /**
@@ -273,32 +535,26 @@ public class ExpenseManager {
      *     per category.
      */
     public static String breakdownExpensesByCategory() {
+        HistoryManager.requireAll();
         String result = "";
-        double totalExpensesFood = 0;
-        double totalExpensesOthers = 0;
-        double totalExpensesTransport = 0;
-        double totalExpensesEntertainment = 0;
-        double totalExpensesUtilities = 0;
-        double totalExpensesEducation = 0;
-        for (Expense expense : expenses) {
-            switch (expense.getCategory()) {
-            case FOOD -> totalExpensesFood += expense.getAmount();
-            case EDUCATION -> totalExpensesEducation += expense.getAmount();
-            case TRANSPORT -> totalExpensesTransport += expense.getAmount();
-            case UTILITIES -> totalExpensesUtilities += expense.getAmount();
-            case ENTERTAINMENT -> totalExpensesEntertainment += expense.getAmount();
-            case OTHERS -> totalExpensesOthers += expense.getAmount();
-            default -> LOGGER.warning("Invalid category type detected.");
-            }
-        }
+        ExpenseTotals totals = getIndex().getTotals();
+        double totalExpensesFood = Money.toAmount(totals.getSum(Category.FOOD));
+        double totalExpensesOthers = Money.toAmount(totals.getSum(Category.OTHERS));
+        double totalExpensesTransport = Money.toAmount(totals.getSum(Category.TRANSPORT));
+        double totalExpensesEntertainment = Money.toAmount(totals.getSum(Category.ENTERTAINMENT));
+        double totalExpensesUtilities = Money.toAmount(totals.getSum(Category.UTILITIES));
+        double totalExpensesEducation = Money.toAmount(totals.getSum(Category.EDUCATION));
         assert totalExpensesFood >= 0 : "Total expense for food cannot be negative";
         assert totalExpensesOthers >= 0 : "Total expense for others cannot be negative";
         assert totalExpensesTransport >= 0 : "Total expense for transport cannot be negative";
         assert totalExpensesEntertainment >= 0 : "Total expense for entertainment cannot be negative";
         assert totalExpensesUtilities >= 0 : "Total expense for utilities cannot be negative";
         assert totalExpensesEducation >= 0 : "Total expense for education cannot be negative";
-        double totalExpenses = totalExpensesEducation + totalExpensesFood + totalExpensesEntertainment +
-                totalExpensesTransport + totalExpensesUtilities + totalExpensesOthers;
+        long totalExpensesInCents = 0;
+        for (Category category : Category.values()) {
+            totalExpensesInCents = Math.addExact(totalExpensesInCents, totals.getSum(category));
+        }
+        double totalExpenses = Money.toAmount(totalExpensesInCents);
         if (totalExpenses == 0) {
             result += "Total expenses: 0. You have not indicated any expense yet.";
         } else {
@@ -327,6 +583,22 @@ public class ExpenseManager {
         ExpensesCategoryPieChart.displayExpenseByCategoryPieChart(yearMonth, expensesByCategoryMap);
     }
 
+    /**
+     * Writes a PieChart of the expenses divided by category for every month in the given range that has expenses
+     * to the directory, without displaying them.
+     *
+     * @param start The first month of the range.
+     * @param end The last month of the range, inclusive.
+     * @param directory The directory to write the charts to.
+     * @param format The format of the chart files.
+     * @return The paths of the written files, in month order.
+     * @throws IOException If a chart file cannot be written.
+     */
+    public static List<Path> exportExpensesForMonthsWithCategoriesGraphs(YearMonth start, YearMonth end,
+            Path directory, ChartExporter.Format format) throws IOException {
+        return ExpensesCategoryPieChart.exportPieCharts(start, end, directory, format);
+    }
+
     /**
      * Extract YearMonth value from date
      * @param date
@@ -351,14 +623,131 @@ public class ExpenseManager {
      * @return return the expense ArrayList
      */
     public static ArrayList<Expense> getExpenses() {
+        HistoryManager.requireAll();
+        compact();
         return expenses;
     }
 
+    /**
+     * Returns the expenses of the month, in the order of the expense list.
+     *
+     * @param month The month of the expenses.
+     * @return A read-only view of the expenses of the month.
+     */
+    public static List<Expense> getExpensesInMonth(YearMonth month) {
+        HistoryManager.requireMonth(month);
+        return getIndex().getMonth(month);
+    }
+
+    /**
+     * Returns the expenses of the category, in the order of the expense list.
+     *
+     * @param category The category of the expenses.
+     * @return A read-only view of the expenses of the category.
+     */
+    public static List<Expense> getExpensesWithCategory(Category category) {
+        HistoryManager.requireAll();
+        return getIndex().getCategory(category);
+    }
+
+    /**
+     * Returns the expenses of each month in the given range that has expenses.
+     *
+     * @param start The first month of the range.
+     * @param end The last month of the range, inclusive.
+     * @return A read-only map of months in ascending order to their expenses in the order of the expense list.
+     */
+    public static NavigableMap<YearMonth, List<Expense>> getExpensesBetween(YearMonth start, YearMonth end) {
+        assert !start.isAfter(end) : "Start of the range cannot be after its end";
+        HistoryManager.requireMonth(start);
+        return getIndex().getMonths(start, end);
+    }
+
+    /**
+     * Returns the months that have expenses.
+     *
+     * @return A read-only set of the months with expenses, in ascending order.
+     */
+    public static NavigableSet<YearMonth> getExpenseMonths() {
+        HistoryManager.requireAll();
+        return getIndex().getMonths();
+    }
+
+    /**
+     * Returns every expense mirrored in primitive columns, in list order, for scans over all expenses.
+     * The columns are kept up to date by the manager and must only be read. Deleted expenses may still be
+     * mirrored, with an amount of 0 and no month or category.
+     *
+     * @return The columns of the expenses.
+     */
+    public static TransactionColumns getColumns() {
+        HistoryManager.requireAll();
+        return getLoadedColumns();
+    }
+
+    /**
+     * Returns the columns of the expense list, mirroring the list again if it was changed without the manager.
+     */
+    private static TransactionColumns getLoadedColumns() {
+        getIndex();
+        return COLUMNS;
+    }
+
+    /**
+     * Returns the index of the expense list, numbering, mirroring and indexing the list again if it was changed
+     * without the manager.
+     */
+    private static ExpenseIndex getIndex() {
+        if (!COLUMNS.isMirroring(expenses)) {
+            COLUMNS.rebuild(expenses);
+            INDEX.rebuild(expenses);
+        }
+        return INDEX;
+    }
+
+    /**
+     * Removes the deleted expenses from the list before it is handed out or scanned as a whole.
+     */
+    private static void compact() {
+        getIndex();
+        COLUMNS.compact(expenses);
+    }
+
+    /**
+     * Returns the expenses currently in memory, without paging in older months.
+     * The list covers every month from the month last passed to {@link HistoryManager#requireMonth(YearMonth)}.
+     *
+     * @return The expenses in memory.
+     */
+    public static ArrayList<Expense> getLoadedExpenses() {
+        compact();
+        return expenses;
+    }
+
+    /**
+     * Replaces the expenses in memory with a list that additionally holds older months paged in from storage.
+     * This is not counted as a modification, as nothing changes on disk.
+     *
+     * @param pagedExpenses The expenses in memory together with the paged in ones, in list order.
+     */
+    public static void pageInExpenses(ArrayList<Expense> pagedExpenses) {
+        expenses = pagedExpenses;
+        numberOfExpenses = pagedExpenses.size();
+    }
+
+    /**
+     * Returns the expense at the specified index, as numbered in the list shown to the user counting from zero.
+     *
+     * @param index The index of the expense.
+     * @return The expense, or null if the index is negative or past the end of the list.
+     */
     public static Expense getExpenseByIndex(int index) {
-        if (index > numberOfExpenses) {
+        HistoryManager.requireAll();
+        if (index < 0 || index >= numberOfExpenses) {
             return null;
         }
-        return expenses.get(index);
+        getIndex();
+        return expenses.get(COLUMNS.getPosition(index));
     }
 
     /**
@@ -373,5 +762,6 @@ public class ExpenseManager {
     public static void reset() {
         numberOfExpenses = 0;
         expenses.clear();
+        modificationCount++;
     }
 }
@@ -0,0 +1,184 @@
+package seedu.budgetbuddy.transaction.expense;
+
+import seedu.budgetbuddy.transaction.Category;
+import seedu.budgetbuddy.util.Money;
+
+import java.time.YearMonth;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Keeps the sum and the number of expenses of every month and category, so that totals are read without
+ * visiting the expenses.
+ *
+ * <p>Every change adds or subtracts a single amount in constant time. Sums are kept in cents, so they stay
+ * exact however many changes are made, and fail rather than wrap around if they ever overflow.</p>
+ */
+class ExpenseTotals {
+    private static final int NUMBER_OF_CATEGORIES = Category.values().length;
+
+    private final TreeMap<YearMonth, MonthTotals> months = new TreeMap<>();
+    private final long[] categorySums = new long[NUMBER_OF_CATEGORIES];
+    private final int[] categoryCounts = new int[NUMBER_OF_CATEGORIES];
+
+    /**
+     * Discards all totals.
+     */
+    void clear() {
+        months.clear();
+        for (int i = 0; i < NUMBER_OF_CATEGORIES; i++) {
+            categorySums[i] = 0;
+            categoryCounts[i] = 0;
+        }
+    }
+
+    /**
+     * Adds an expense of the given month, category and amount in cents to the totals.
+     */
+    void add(YearMonth month, Category category, long amount) {
+        int ordinal = category.ordinal();
+        months.computeIfAbsent(month, key -> new MonthTotals()).add(ordinal, amount);
+        categorySums[ordinal] = Math.addExact(categorySums[ordinal], amount);
+        categoryCounts[ordinal]++;
+    }
+
+    /**
+     * Removes an expense of the given month, category and amount in cents from the totals.
+     */
+    void remove(YearMonth month, Category category, long amount) {
+        int ordinal = category.ordinal();
+        MonthTotals monthTotals = months.get(month);
+        assert monthTotals != null : "Removed expense must be counted in its month";
+        if (monthTotals.remove(ordinal, amount)) {
+            months.remove(month);
+        }
+        categoryCounts[ordinal]--;
+        categorySums[ordinal] = Math.subtractExact(categorySums[ordinal], amount);
+    }
+
+    /**
+     * Returns the sum of the expenses of the month, in cents.
+     */
+    long getSum(YearMonth month) {
+        MonthTotals monthTotals = months.get(month);
+        return monthTotals == null ? 0 : monthTotals.getSum();
+    }
+
+    /**
+     * Returns the sum of the expenses of the month and category, in cents.
+     */
+    long getSum(YearMonth month, Category category) {
+        MonthTotals monthTotals = months.get(month);
+        return monthTotals == null ? 0 : monthTotals.sums[category.ordinal()];
+    }
+
+    /**
+     * Returns the sum of the expenses of every category in the month, in cents, with 0 for categories without
+     * expenses.
+     */
+    EnumMap<Category, Long> getCategorySums(YearMonth month) {
+        return toCategorySums(months.get(month));
+    }
+
+    /**
+     * Returns the sum of the expenses of every category in each month from start to end inclusive that has
+     * expenses, in cents.
+     */
+    TreeMap<YearMonth, EnumMap<Category, Long>> getCategorySums(YearMonth start, YearMonth end) {
+        TreeMap<YearMonth, EnumMap<Category, Long>> categorySums = new TreeMap<>();
+        for (Map.Entry<YearMonth, MonthTotals> entry : months.subMap(start, true, end, true).entrySet()) {
+            categorySums.put(entry.getKey(), toCategorySums(entry.getValue()));
+        }
+        return categorySums;
+    }
+
+    /**
+     * Returns the sum of the expenses of the category over all months, in cents.
+     */
+    long getSum(Category category) {
+        return categorySums[category.ordinal()];
+    }
+
+    /**
+     * Returns the number of expenses of the month and category.
+     */
+    int getCount(YearMonth month, Category category) {
+        MonthTotals monthTotals = months.get(month);
+        return monthTotals == null ? 0 : monthTotals.counts[category.ordinal()];
+    }
+
+    /**
+     * Returns the sum of the expenses of each month from start to end inclusive that has expenses.
+     */
+    Map<YearMonth, Double> getMonthlySums(YearMonth start, YearMonth end) {
+        Map<YearMonth, Double> monthlySums = new TreeMap<>();
+        for (Map.Entry<YearMonth, MonthTotals> entry : months.subMap(start, true, end, true).entrySet()) {
+            monthlySums.put(entry.getKey(), Money.toAmount(entry.getValue().getSum()));
+        }
+        return monthlySums;
+    }
+
+    /**
+     * Returns the sum of the expenses of every month that has expenses, in cents.
+     */
+    TreeMap<YearMonth, Long> getMonthlySumsInCents() {
+        return toMonthlySums(months);
+    }
+
+    /**
+     * Returns the sum of the expenses of each month from start to end inclusive that has expenses, in cents.
+     */
+    TreeMap<YearMonth, Long> getMonthlySumsInCents(YearMonth start, YearMonth end) {
+        return toMonthlySums(months.subMap(start, true, end, true));
+    }
+
+    private static EnumMap<Category, Long> toCategorySums(MonthTotals monthTotals) {
+        EnumMap<Category, Long> categorySums = new EnumMap<>(Category.class);
+        for (Category category : Category.values()) {
+            categorySums.put(category, monthTotals == null ? 0 : monthTotals.sums[category.ordinal()]);
+        }
+        return categorySums;
+    }
+
+    private static TreeMap<YearMonth, Long> toMonthlySums(Map<YearMonth, MonthTotals> monthTotals) {
+        TreeMap<YearMonth, Long> monthlySums = new TreeMap<>();
+        for (Map.Entry<YearMonth, MonthTotals> entry : monthTotals.entrySet()) {
+            monthlySums.put(entry.getKey(), entry.getValue().getSum());
+        }
+        return monthlySums;
+    }
+
+    /**
+     * The sums and numbers of expenses of one month, indexed by category ordinal.
+     */
+    private static class MonthTotals {
+        private final long[] sums = new long[NUMBER_OF_CATEGORIES];
+        private final int[] counts = new int[NUMBER_OF_CATEGORIES];
+        private int count;
+
+        private void add(int ordinal, long amount) {
+            sums[ordinal] = Math.addExact(sums[ordinal], amount);
+            counts[ordinal]++;
+            count++;
+        }
+
+        /**
+         * Removes an expense and returns whether the month has no expenses left.
+         */
+        private boolean remove(int ordinal, long amount) {
+            counts[ordinal]--;
+            sums[ordinal] = Math.subtractExact(sums[ordinal], amount);
+            count--;
+            return count == 0;
+        }
+
+        private long getSum() {
+            long sum = 0;
+            for (long categorySum : sums) {
+                sum = Math.addExact(sum, categorySum);
+            }
+            return sum;
+        }
+    }
+}
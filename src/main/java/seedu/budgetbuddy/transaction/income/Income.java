@@ -1,6 +1,7 @@
 package seedu.budgetbuddy.transaction.income;
 
 import seedu.budgetbuddy.transaction.Transaction;
+import seedu.budgetbuddy.util.Money;
 
 import java.time.LocalDate;
 
@@ -35,7 +36,7 @@ public class Income extends Transaction {
      * @return A double representing the amount of the transaction.
      */
     public double getAmount() {
-        return amount;
+        return Money.toAmount(amountInCents);
     }
 
     /**
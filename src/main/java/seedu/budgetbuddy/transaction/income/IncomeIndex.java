@@ -0,0 +1,126 @@
+package seedu.budgetbuddy.transaction.income;
+
+import seedu.budgetbuddy.transaction.TransactionColumns;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Indexes the incomes of the IncomeManager by month and keeps the running total of each month, so that monthly
+ * listings only visit the incomes of the month and monthly totals are read without visiting any income.
+ *
+ * <p>Each month maps to its incomes in the order of the income list, found by a binary search of their IDs,
+ * together with their sum in cents. Months without incomes are removed from the index. The IncomeManager
+ * indexes its list again whenever it mirrors it again in its columns.</p>
+ */
+class IncomeIndex {
+    private final TreeMap<YearMonth, MonthIncomes> byMonth = new TreeMap<>();
+
+    /**
+     * Discards the index and indexes every income of the given list.
+     */
+    void rebuild(List<Income> incomes) {
+        byMonth.clear();
+        for (Income income : incomes) {
+            add(income);
+        }
+    }
+
+    /**
+     * Indexes an income that was appended to the end of the indexed list.
+     */
+    void add(Income income) {
+        byMonth.computeIfAbsent(YearMonth.from(income.getDate()), month -> new MonthIncomes()).add(income);
+    }
+
+    /**
+     * Removes an income that was deleted from the indexed list.
+     */
+    void remove(Income income) {
+        removeFromMonth(income, YearMonth.from(income.getDate()), income.getAmountInCents());
+    }
+
+    /**
+     * Moves an edited income to its new month and updates the totals.
+     *
+     * @param income The edited income.
+     * @param oldMonth The month of the income before the edit.
+     * @param oldAmount The amount of the income before the edit, in cents.
+     */
+    void update(Income income, YearMonth oldMonth, long oldAmount) {
+        removeFromMonth(income, oldMonth, oldAmount);
+        YearMonth newMonth = YearMonth.from(income.getDate());
+        MonthIncomes monthIncomes = byMonth.computeIfAbsent(newMonth, month -> new MonthIncomes());
+        int position = TransactionColumns.findById(monthIncomes.incomes, income.getId());
+        assert position < 0 : "Income must not be in its new month yet";
+        monthIncomes.incomes.add(-position - 1, income);
+        monthIncomes.sum = Math.addExact(monthIncomes.sum, income.getAmountInCents());
+    }
+
+    /**
+     * Returns the sum of the incomes of the month, in cents.
+     */
+    long getSum(YearMonth month) {
+        MonthIncomes monthIncomes = byMonth.get(month);
+        return monthIncomes == null ? 0 : monthIncomes.sum;
+    }
+
+    /**
+     * Returns the sum of the incomes of every month that has incomes, in cents.
+     */
+    TreeMap<YearMonth, Long> getMonthlySums() {
+        return toMonthlySums(byMonth);
+    }
+
+    /**
+     * Returns the sum of the incomes of each month from start to end inclusive that has incomes, in cents.
+     */
+    TreeMap<YearMonth, Long> getMonthlySums(YearMonth start, YearMonth end) {
+        return toMonthlySums(byMonth.subMap(start, true, end, true));
+    }
+
+    /**
+     * Returns the incomes of the month, in list order.
+     */
+    List<Income> getMonth(YearMonth month) {
+        MonthIncomes monthIncomes = byMonth.get(month);
+        return monthIncomes == null ? Collections.emptyList() : Collections.unmodifiableList(monthIncomes.incomes);
+    }
+
+    private static TreeMap<YearMonth, Long> toMonthlySums(Map<YearMonth, MonthIncomes> monthIncomes) {
+        TreeMap<YearMonth, Long> monthlySums = new TreeMap<>();
+        for (Map.Entry<YearMonth, MonthIncomes> entry : monthIncomes.entrySet()) {
+            monthlySums.put(entry.getKey(), entry.getValue().sum);
+        }
+        return monthlySums;
+    }
+
+    private void removeFromMonth(Income income, YearMonth month, long amount) {
+        MonthIncomes monthIncomes = byMonth.get(month);
+        assert monthIncomes != null : "Indexed income must be in its month";
+        int position = TransactionColumns.findById(monthIncomes.incomes, income.getId());
+        assert position >= 0 && monthIncomes.incomes.get(position) == income : "Indexed income must be in its month";
+        monthIncomes.incomes.remove(position);
+        monthIncomes.sum = Math.subtractExact(monthIncomes.sum, amount);
+        if (monthIncomes.incomes.isEmpty()) {
+            byMonth.remove(month);
+        }
+    }
+
+    /**
+     * The incomes of one month, in list order, and their sum in cents.
+     */
+    private static class MonthIncomes {
+        private final ArrayList<Income> incomes = new ArrayList<>();
+        private long sum;
+
+        private void add(Income income) {
+            incomes.add(income);
+            sum = Math.addExact(sum, income.getAmountInCents());
+        }
+    }
+}
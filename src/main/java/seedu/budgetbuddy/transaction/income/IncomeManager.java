@@ -1,12 +1,17 @@
 package seedu.budgetbuddy.transaction.income;
 
+import seedu.budgetbuddy.Journal;
 import seedu.budgetbuddy.Ui;
+import seedu.budgetbuddy.transaction.HistoryManager;
+import seedu.budgetbuddy.transaction.TransactionColumns;
 import seedu.budgetbuddy.util.LoggerSetup;
+import seedu.budgetbuddy.util.DateCodec;
+import seedu.budgetbuddy.util.Money;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.NavigableMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -16,8 +21,11 @@ import java.util.logging.Logger;
  */
 public class IncomeManager {
     private static final Logger LOGGER = LoggerSetup.getLogger();
+    private static final TransactionColumns COLUMNS = new TransactionColumns();
+    private static final IncomeIndex INDEX = new IncomeIndex();
     private static int numberOfIncomes = 0;
     private static ArrayList<Income> incomes = new ArrayList<>();
+    private static int modificationCount = 0;
 
     /**
      * Construct a IncomeManager of array content incomes
@@ -28,6 +36,7 @@ public class IncomeManager {
         assert numberOfIncomes >= 0 : "numberOfIncomes should be greater than 0";
         IncomeManager.incomes = incomes;
         IncomeManager.numberOfIncomes = numberOfIncomes;
+        modificationCount++;
     }
 
     /**
@@ -43,11 +52,17 @@ public class IncomeManager {
      * @param income The income to be added.
      */
     public static void addIncome(Income income) {
+        HistoryManager.requireMonth(getYearMonthFromDate(income.getDate()));
+        TransactionColumns columns = getLoadedColumns();
         incomes.add(income);
+        columns.add(income);
+        INDEX.add(income);
         numberOfIncomes++;
+        modificationCount++;
+        Journal.recordAddition(income);
         String result = "The following income transaction has been added:\n"
                 + income + '\n'
-                + "You have " + numberOfIncomes + " income transaction(s) in total.";
+                + "You have " + getTotalNumberOfIncomes() + " income transaction(s) in total.";
         Ui.displayToUser(result);
     }
 
@@ -57,8 +72,12 @@ public class IncomeManager {
      * @param income The income to be added.
      */
     public static void loadIncome(Income income) {
+        TransactionColumns columns = getLoadedColumns();
         incomes.add(income);
+        columns.add(income);
+        INDEX.add(income);
         numberOfIncomes++;
+        modificationCount++;
     }
 
     /**
@@ -67,23 +86,127 @@ public class IncomeManager {
      * @param index The index of the income to be deleted.
      */
     public static void deleteIncome(int index) {
-        numberOfIncomes--;
+        HistoryManager.requireAll();
+        Income income = getIncomeByIndex(index);
+        removeIncome(index);
+        displayDeletion(income);
+    }
+
+    /**
+     * Deletes the income with the specified ID from the manager.
+     *
+     * @param id The ID of the income to be deleted.
+     * @throws IllegalArgumentException If no income has the ID.
+     */
+    public static void deleteIncomeById(long id) {
+        HistoryManager.requireAll();
+        TransactionColumns columns = getLoadedColumns();
+        int position = columns.findPosition(id);
+        if (position == -1) {
+            throw new IllegalArgumentException("No income has the ID " + id);
+        }
+        Income income = incomes.get(position);
+        removeIncomeAt(position, columns.getIndex(position));
+        displayDeletion(income);
+    }
+
+    private static void displayDeletion(Income income) {
         String result = "The following income transaction has been deleted:\n"
-                + incomes.get(index) + '\n'
-                + "You have " + numberOfIncomes + " income transaction(s) in total.";
-        incomes.remove(index);
+                + income + '\n'
+                + "You have " + getTotalNumberOfIncomes() + " income transaction(s) in total.";
         Ui.displayToUser(result);
     }
 
+    /**
+     * Removes the income at the specified index without displaying anything to the user.
+     *
+     * @param index The index of the income to be removed.
+     * @throws IndexOutOfBoundsException If there is no income at the index.
+     */
+    public static void removeIncome(int index) {
+        removeIncomeAt(getLoadedColumns().getPosition(index), index);
+    }
+
+    /**
+     * Marks the income at the given position of the list as deleted, compacting the list once deleted incomes
+     * make up half of it.
+     */
+    private static void removeIncomeAt(int position, int index) {
+        INDEX.remove(incomes.get(position));
+        COLUMNS.delete(position);
+        numberOfIncomes--;
+        modificationCount++;
+        Journal.recordIncomeDeletion(index);
+        if (COLUMNS.isWorthCompacting()) {
+            COLUMNS.compact(incomes);
+        }
+    }
+
+    /**
+     * Edits the fields of an income managed by the manager.
+     * A {@code null} date, or a negative amount, is left unchanged. An income that is not in the list of the
+     * manager is edited without counting as a change or being recorded in the journal, as it is not part of
+     * the saved data.
+     *
+     * @param income The income to be edited.
+     * @param date The new date of the income.
+     * @param amount The new amount of the income.
+     */
+    public static void editIncome(Income income, LocalDate date, double amount) {
+        assert income != null : "Income to be edited cannot be null";
+        if (date != null) {
+            HistoryManager.requireMonth(getYearMonthFromDate(date));
+        }
+        TransactionColumns columns = getLoadedColumns();
+        int position = columns.findPosition(income.getId());
+        if (position != -1 && incomes.get(position) != income) {
+            position = -1;
+        }
+        YearMonth oldMonth = getYearMonthFromDate(income.getDate());
+        long oldAmount = income.getAmountInCents();
+        if (date != null) {
+            income.editDate(date);
+        }
+        if (amount >= 0) {
+            income.editAmount(amount);
+        }
+        if (position != -1) {
+            modificationCount++;
+            INDEX.update(income, oldMonth, oldAmount);
+            columns.update(position, income);
+            Journal.recordEdit(income, columns.getIndex(position));
+        }
+    }
+
+    /**
+     * Returns the number of changes made to the incomes so far.
+     * Storage compares it with the value seen at its last save to skip saving unchanged data.
+     *
+     * @return The modification count of the incomes.
+     */
+    public static int getModificationCount() {
+        return modificationCount;
+    }
+
     /**
      * Returns the current number of incomes.
      *
      * @return The total number of incomes.
      */
     public static int getNumberOfIncomes() {
+        HistoryManager.requireAll();
         return numberOfIncomes;
     }
 
+    /**
+     * Returns the number of incomes, including those of older months that are not in memory, without loading
+     * them.
+     */
+    private static int getTotalNumberOfIncomes() {
+        int numberOfUnloadedIncomes = HistoryManager.getNumberOfUnloadedIncomes();
+        return numberOfIncomes + numberOfUnloadedIncomes;
+    }
+
     /**
      * Calculates the total income for a specified month.
      *
@@ -91,13 +214,43 @@ public class IncomeManager {
      * @return The total income for the month; returns 0.0 if no income is found.
      */
     public static double getMonthlyIncome(YearMonth month) {
-        double sum = 0;
-        for (Income income : incomes) {
-            if(month.equals(getYearMonthFromDate(income.getDate()))) {
-                sum += income.getAmount();
-            }
-        }
-        return sum;
+        HistoryManager.requireMonth(month);
+        return Money.toAmount(getMonthlyIncomeInCents(month));
+    }
+
+    /**
+     * Returns the total income for a specified month in cents, read from the running total of the month.
+     *
+     * @param month The month to get the income for.
+     * @return The total income for the month in cents; 0 if no income is found.
+     */
+    public static long getMonthlyIncomeInCents(YearMonth month) {
+        HistoryManager.requireMonth(month);
+        return getIndex().getSum(month);
+    }
+
+    /**
+     * Returns the total income of every month that has incomes, read from the running totals of each month.
+     *
+     * @return A map of the months with incomes, in ascending order, to their total income in cents.
+     */
+    public static NavigableMap<YearMonth, Long> getMonthlyIncomesInCents() {
+        HistoryManager.requireAll();
+        return getIndex().getMonthlySums();
+    }
+
+    /**
+     * Returns the total income of each month in the given range that has incomes, read from the running totals
+     * of each month.
+     *
+     * @param start The first month of the range.
+     * @param end The last month of the range, inclusive.
+     * @return A map of the months with incomes, in ascending order, to their total income in cents.
+     */
+    public static NavigableMap<YearMonth, Long> getMonthlyIncomesInCents(YearMonth start, YearMonth end) {
+        assert !start.isAfter(end) : "Start of the range cannot be after its end";
+        HistoryManager.requireMonth(start);
+        return getIndex().getMonthlySums(start, end);
     }
 
     /**
@@ -105,22 +258,24 @@ public class IncomeManager {
      * Displays each income with its corresponding number.
      */
     public static void listIncomes() {
+        HistoryManager.requireAll();
         if (numberOfIncomes == 0) {
             Ui.displayToUser("There are currently no income entries. Try again after adding an income entry.");
             return;
         }
-        String result = "";
-        int counter = 0;
-        double sumOfIncome = 0;
-        for (Income income : incomes) {
-            counter++;
-            result += counter + ". " + income.toString() + "\n";
-            sumOfIncome += income.getAmount();
-        }
-        result += "There are " + counter + " income(s) in total" +
-                ", with a sum of $" + sumOfIncome + ".";
         LOGGER.log(Level.INFO, "Listing {0} incomes", numberOfIncomes);
-        Ui.displayToUser(result);
+        compact();
+        Ui.displayToUser(out -> {
+            int counter = 0;
+            long sumOfIncome = 0;
+            for (Income income : incomes) {
+                counter++;
+                out.append(counter).append(". ").append(income.toString()).append('\n');
+                sumOfIncome = Math.addExact(sumOfIncome, income.getAmountInCents());
+            }
+            out.append("There are ").append(counter).append(" income(s) in total")
+                    .append(", with a sum of $").append(Money.toAmount(sumOfIncome)).append(".");
+        });
     }
 
     /**
@@ -129,28 +284,24 @@ public class IncomeManager {
      * @param month
      */
     public static void listIncomeWithMonth(YearMonth month) {
-        String result = "";
-        int counter = 0;
-        double filteredIncomeSum = 0;
-        String monthInString;
-
-        for (Income income : incomes) {
-            if (month.equals(getYearMonthFromDate(income.getDate()))) {
+        HistoryManager.requireMonth(month);
+        LOGGER.log(Level.INFO, "Listing {0} incomes", numberOfIncomes);
+        IncomeIndex incomeIndex = getIndex();
+        Ui.displayToUser(out -> {
+            int counter = 0;
+            for (Income income : incomeIndex.getMonth(month)) {
                 counter++;
-                result += counter + ". " + income.toString() + "\n";
-                filteredIncomeSum += income.getAmount();
+                out.append(counter).append(". ").append(income.toString()).append('\n');
             }
-        }
-        if (result.equals("")) {
-            result = getEmptyDisplayMessage();
-            Ui.displayToUser(result);
-            return;
-        }
-        monthInString = month.format(DateTimeFormatter.ofPattern("MMMM yyyy"));
-        result += "There are " + counter + " income(s) in total for " + monthInString +
-                ", with a sum of $" + filteredIncomeSum + ".";
-        LOGGER.log(Level.INFO, "Listing {0} incomes", numberOfIncomes);
-        Ui.displayToUser(result);
+            long filteredIncomeSum = incomeIndex.getSum(month);
+            if (counter == 0) {
+                out.append(getEmptyDisplayMessage());
+                return;
+            }
+            out.append("There are ").append(counter).append(" income(s) in total for ")
+                    .append(DateCodec.formatDisplayMonth(month))
+                    .append(", with a sum of $").append(Money.toAmount(filteredIncomeSum)).append(".");
+        });
     }
 
     /**
@@ -158,13 +309,14 @@ public class IncomeManager {
      * Searches IncomeList for Income object with desired index and returns reference to object.
      *
      * @param index user input index to be extracted from IncomeList
-     * @return an income object for future reference
+     * @return an income object for future reference, or null if the index is negative or past the end of the list
      */
     public static Income getIncomeByIndex(int index) {
-        if (index > numberOfIncomes) {
+        HistoryManager.requireAll();
+        if (index < 0 || index >= numberOfIncomes) {
             return null;
         }
-        return incomes.get(index);
+        return incomes.get(getLoadedColumns().getPosition(index));
     }
 
     /**
@@ -190,6 +342,84 @@ public class IncomeManager {
      * @return return the income ArrayList
      */
     public static ArrayList<Income> getIncomes() {
+        HistoryManager.requireAll();
+        compact();
         return incomes;
     }
+
+    /**
+     * Returns every income mirrored in primitive columns, in list order, for scans over all incomes.
+     * The columns are kept up to date by the manager and must only be read. Deleted incomes may still be
+     * mirrored, with an amount of 0 and no month.
+     *
+     * @return The columns of the incomes.
+     */
+    public static TransactionColumns getColumns() {
+        HistoryManager.requireAll();
+        return getLoadedColumns();
+    }
+
+    /**
+     * Returns the columns of the income list, mirroring and indexing the list again if it was changed without
+     * the manager.
+     */
+    private static TransactionColumns getLoadedColumns() {
+        if (!COLUMNS.isMirroring(incomes)) {
+            COLUMNS.rebuild(incomes);
+            INDEX.rebuild(incomes);
+        }
+        return COLUMNS;
+    }
+
+    /**
+     * Returns the index of the income list, indexing the list again if it was changed without the manager.
+     */
+    private static IncomeIndex getIndex() {
+        getLoadedColumns();
+        return INDEX;
+    }
+
+    /**
+     * Removes the deleted incomes from the list before it is handed out or scanned as a whole.
+     */
+    private static void compact() {
+        getLoadedColumns().compact(incomes);
+    }
+
+    /**
+     * Returns the incomes currently in memory, without paging in older months.
+     * The list covers every month from the month last passed to {@link HistoryManager#requireMonth(YearMonth)}.
+     *
+     * @return The incomes in memory.
+     */
+    public static ArrayList<Income> getLoadedIncomes() {
+        compact();
+        return incomes;
+    }
+
+    /**
+     * Replaces the incomes in memory with a list that additionally holds older months paged in from storage.
+     * This is not counted as a modification, as nothing changes on disk.
+     *
+     * @param pagedIncomes The incomes in memory together with the paged in ones, in list order.
+     */
+    public static void pageInIncomes(ArrayList<Income> pagedIncomes) {
+        incomes = pagedIncomes;
+        numberOfIncomes = pagedIncomes.size();
+    }
+
+    /**
+     * Resets the state of the IncomeManager by clearing all incomes and
+     * setting the total number of incomes to zero.
+     * <p>
+     * This method is used for unit testing, ensuring that each test
+     * starts with a clean slate and does not retain any state from
+     * previous tests.
+     * </p>
+     */
+    public static void reset() {
+        numberOfIncomes = 0;
+        incomes.clear();
+        modificationCount++;
+    }
 }
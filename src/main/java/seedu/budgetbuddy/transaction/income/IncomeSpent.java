@@ -4,6 +4,8 @@ import seedu.budgetbuddy.Ui;
 import seedu.budgetbuddy.transaction.expense.ExpenseManager;
 
 import java.time.YearMonth;
+import java.util.NavigableMap;
+import java.util.TreeSet;
 
 /**
  * The IncomeSpent class provides functionality to calculate and display
@@ -13,14 +15,15 @@ public class IncomeSpent {
 
     /**
      * Calculates the percentage of income spent for a specified month.
+     * Both totals are read from the running monthly totals of the managers, without visiting any transaction.
      *
      * @param month The month for which the spending percentage is calculated.
      * @return The percentage of income spent for the month.
      */
     public static double calculateSpentPercentage(YearMonth month) {
-        double monthlyIncome = IncomeManager.getMonthlyIncome(month);
-        double monthlyExpense = ExpenseManager.getMonthlyExpense(month);
-        return (monthlyExpense / monthlyIncome) * 100;
+        long monthlyIncome = IncomeManager.getMonthlyIncomeInCents(month);
+        long monthlyExpense = ExpenseManager.getMonthlyExpenseInCents(month);
+        return ((double) monthlyExpense / monthlyIncome) * 100;
     }
 
     /**
@@ -35,6 +38,36 @@ public class IncomeSpent {
         return String.format("Percentage of income spent for %s: %s%%", month, formattedPercentage);
     }
 
+    /**
+     * Returns the percentage of income spent for every month in a range that has incomes or expenses, one month
+     * per line in chronological order. The monthly totals of the range are read once from the running monthly
+     * totals of both managers and merged, instead of looking up each month of the range in both.
+     *
+     * @param start The first month of the range.
+     * @param end The last month of the range, inclusive.
+     * @return A string displaying the percentage of income spent for each month of the range.
+     */
+    public static String toString(YearMonth start, YearMonth end) {
+        NavigableMap<YearMonth, Long> monthlyIncomes = IncomeManager.getMonthlyIncomesInCents(start, end);
+        NavigableMap<YearMonth, Long> monthlyExpenses = ExpenseManager.getMonthlyExpensesInCents(start, end);
+        TreeSet<YearMonth> months = new TreeSet<>(monthlyIncomes.keySet());
+        months.addAll(monthlyExpenses.keySet());
+        StringBuilder result = new StringBuilder();
+        for (YearMonth month : months) {
+            long monthlyIncome = monthlyIncomes.getOrDefault(month, 0L);
+            if (result.length() > 0) {
+                result.append('\n');
+            }
+            if (monthlyIncome <= 0) {
+                result.append("No income recorded for the month: ").append(month);
+                continue;
+            }
+            double percentage = ((double) monthlyExpenses.getOrDefault(month, 0L) / monthlyIncome) * 100;
+            result.append(String.format("Percentage of income spent for %s: %.1f%%", month, percentage));
+        }
+        return result.toString();
+    }
+
     /**
      * Displays the percentage of income spent for a specified month to the user.
      *
@@ -43,4 +76,14 @@ public class IncomeSpent {
     public static void displaySpentPercentage(YearMonth month) {
         Ui.displayToUser(toString(month));
     }
+
+    /**
+     * Displays the percentage of income spent for every month in a range to the user.
+     *
+     * @param start The first month of the range.
+     * @param end The last month of the range, inclusive.
+     */
+    public static void displaySpentPercentage(YearMonth start, YearMonth end) {
+        Ui.displayToUser(toString(start, end));
+    }
 }
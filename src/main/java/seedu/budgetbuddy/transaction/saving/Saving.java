@@ -1,14 +1,16 @@
 package seedu.budgetbuddy.transaction.saving;
 
+import seedu.budgetbuddy.util.Money;
+
 import java.time.YearMonth;
 
 /**
  * Represents a monthly saving with an amount and a YearMonth attribute.
- * Monthly savings is calculated based on income - expense.
+ * Monthly savings is calculated based on income - expense, in cents so that it stays exact.
  */
 public class Saving {
     private YearMonth yearMonth;
-    private double savings;
+    private long savingsInCents;
 
     /**
      * Creates a Saving object with the specified YearMonth and savings.
@@ -17,7 +19,7 @@ public class Saving {
      */
     public Saving(YearMonth yearMonth, double savings){
         this.yearMonth = yearMonth;
-        this.savings = savings;
+        this.savingsInCents = Money.toCents(savings);
     }
 
     /**
@@ -33,7 +35,15 @@ public class Saving {
      * @return A double representing the amount saved that month
      */
     public double getSavings() {
-        return savings;
+        return Money.toAmount(savingsInCents);
+    }
+
+    /**
+     * Retrieves the amount of savings for the month in cents.
+     * @return A long representing the amount saved that month in cents
+     */
+    public long getSavingsInCents() {
+        return savingsInCents;
     }
 
     /**
@@ -41,7 +51,15 @@ public class Saving {
      * @param income Earned income to be added.
      */
     public void addIncome(double income){
-        savings += income;
+        savingsInCents = Math.addExact(savingsInCents, Money.toCents(income));
+    }
+
+    /**
+     * Adds an earned income in cents to the savings of that month.
+     * @param income Earned income to be added, in cents.
+     */
+    public void addIncomeInCents(long income) {
+        savingsInCents = Math.addExact(savingsInCents, income);
     }
 
     /**
@@ -49,6 +67,14 @@ public class Saving {
      * @param expense Expense to be deducted from savings.
      */
     public void deductExpense(double expense){
-        savings -= expense;
+        savingsInCents = Math.subtractExact(savingsInCents, Money.toCents(expense));
+    }
+
+    /**
+     * Deducts an expense in cents from the savings of that month.
+     * @param expense Expense to be deducted from savings, in cents.
+     */
+    public void deductExpenseInCents(long expense) {
+        savingsInCents = Math.subtractExact(savingsInCents, expense);
     }
 }
@@ -1,14 +1,14 @@
 package seedu.budgetbuddy.transaction.saving;
 
-import seedu.budgetbuddy.transaction.expense.Expense;
+import seedu.budgetbuddy.Ui;
 import seedu.budgetbuddy.transaction.expense.ExpenseManager;
-import seedu.budgetbuddy.transaction.income.Income;
 import seedu.budgetbuddy.transaction.income.IncomeManager;
 import seedu.budgetbuddy.util.LoggerSetup;
+import seedu.budgetbuddy.util.Money;
 
 import java.time.YearMonth;
-import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.logging.Logger;
 
 /**
@@ -23,27 +23,14 @@ public class SavingsManager {
      * Total Savings = Total Income - Total Expenses
      */
     public static String displayTotalSavings(){
-        double savings = 0;
-        double totalIncome = 0;
-        double totalExpense = 0;
-
         String result = "";
-        if (IncomeManager.getIncomes().size() > 0){
-            for (Income income: IncomeManager.getIncomes()){
-                totalIncome += income.getAmount();
-            }
-        }
-
-        if (ExpenseManager.getExpenses().size() > 0){
-            for (Expense expense: ExpenseManager.getExpenses()){
-                totalExpense += expense.getAmount();
-            }
-        }
-        savings = totalIncome - totalExpense;
+        long totalIncome = IncomeManager.getColumns().sumCents();
+        long totalExpense = ExpenseManager.getColumns().sumCents();
+        long savings = Math.subtractExact(totalIncome, totalExpense);
 
-        result += "Total Savings: " + String.format("%.2f", savings);
-        result += "\n" + "Total Income: " + String.format("%.2f", totalIncome);
-        result += "\n" + "Total Expense: " + String.format("%.2f", totalExpense);
+        result += "Total Savings: " + Money.format(savings);
+        result += "\n" + "Total Income: " + Money.format(totalIncome);
+        result += "\n" + "Total Expense: " + Money.format(totalExpense);
 
         LOGGER.info("Listing total savings");
         return result;
@@ -54,60 +41,43 @@ public class SavingsManager {
      * Monthly savings = Monthly Income - Monthly Expense
      */
     public static String displayTotalSavingsByMonth(){
-        String result = "";
-        ArrayList<YearMonth> listYearMonths = new ArrayList<>();
-        ArrayList<Saving> savings = new ArrayList<>();
-        if (IncomeManager.getIncomes().size() <= 0 && ExpenseManager.getExpenses().size() <= 0){
-            result = "Total savings: 0.00";
-            return result;
-        }
+        return Ui.render(out -> displayTotalSavingsByMonth(out));
+    }
 
-        for (Income income: IncomeManager.getIncomes()){
-            YearMonth incomeYearMonth = IncomeManager.getYearMonthFromDate(income.getDate());
-            int indexOfSaving = findYearMonthFromArray(listYearMonths, incomeYearMonth);
-            if (indexOfSaving == -1){
-                listYearMonths.add(incomeYearMonth);
-                savings.add(new Saving(incomeYearMonth, income.getAmount()));
-            } else{
-                savings.get(indexOfSaving).addIncome(income.getAmount());
-            }
+    /**
+     * Writes the savings by month in chronological order based on their monthly expenses and incomes.
+     * The monthly totals are merged into a map sorted by month, so every income and expense is visited at most
+     * once, and the expenses not at all, as their monthly totals are kept up to date as they change.
+     *
+     * @param out The writer of the message to the user.
+     */
+    public static void displayTotalSavingsByMonth(Ui.MessageWriter out) {
+        TreeMap<YearMonth, Saving> savings = new TreeMap<>();
+        for (Map.Entry<YearMonth, Long> income : IncomeManager.getMonthlyIncomesInCents().entrySet()) {
+            getSaving(savings, income.getKey()).addIncomeInCents(income.getValue());
         }
-
-
-        for (Expense expense : ExpenseManager.getExpenses()) {
-            YearMonth expenseYearMonth = ExpenseManager.getYearMonthFromDate(expense.getDate());
-            int indexOfSaving = findYearMonthFromArray(listYearMonths, expenseYearMonth);
-            if (indexOfSaving == -1) {
-                listYearMonths.add(expenseYearMonth);
-                savings.add(new Saving(expenseYearMonth, -expense.getAmount()));
-            } else {
-                savings.get(indexOfSaving).deductExpense(expense.getAmount());
-            }
+        for (Map.Entry<YearMonth, Long> expense : ExpenseManager.getMonthlyExpensesInCents().entrySet()) {
+            getSaving(savings, expense.getKey()).deductExpenseInCents(expense.getValue());
+        }
+        if (savings.isEmpty()) {
+            out.append("Total savings: 0.00");
+            return;
         }
 
-
-        savings.sort(Comparator.comparing(Saving::getYearMonth));
-        for (Saving saving: savings){
-            result += "Savings in " + saving.getYearMonth() +": " + String.format("%.2f", saving.getSavings());
-            if (saving != savings.get(savings.size()-1)){
-                result += "\n";
+        for (Saving saving : savings.values()) {
+            out.append("Savings in ").append(saving.getYearMonth()).append(": ")
+                    .append(Money.format(saving.getSavingsInCents()));
+            if (!saving.getYearMonth().equals(savings.lastKey())) {
+                out.append('\n');
             }
         }
         LOGGER.info("Displaying savings by month");
-        return result;
     }
 
     /**
-     * Helper method to get the index of a specified YearMonth in the ArrayList to update savings.
-     * @param listYearMonth ArrayList containing all YearMonths of Saving objects.
-     * @param yearMonth Specific YearMonth to find in the ArrayList
-     * @return index of the YearMonth in the ArrayList, otherwise -1.
+     * Returns the saving of the month in the map, adding an empty saving for the month if it has none yet.
      */
-    private static int findYearMonthFromArray(ArrayList<YearMonth> listYearMonth, YearMonth yearMonth){
-        if (!listYearMonth.contains(yearMonth)){
-            return -1;
-        } else{
-            return listYearMonth.indexOf(yearMonth);
-        }
+    private static Saving getSaving(TreeMap<YearMonth, Saving> savings, YearMonth yearMonth) {
+        return savings.computeIfAbsent(yearMonth, month -> new Saving(month, 0));
     }
 }
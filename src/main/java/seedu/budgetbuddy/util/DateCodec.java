@@ -0,0 +1,182 @@
+package seedu.budgetbuddy.util;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.ResolverStyle;
+
+/**
+ * Parses and formats the dates and months used in the data file, in user input and in messages.
+ *
+ * <p>The formatters are built once and shared, as they are immutable and thread-safe. Dates and months in
+ * the common form of one or two digit days and months and four digit years are parsed and formatted by
+ * hand, which gives the same result as the formatters; anything else is passed on to the formatters,
+ * which also report invalid input with a {@link java.time.format.DateTimeParseException}.</p>
+ */
+public class DateCodec {
+    /** The format of dates in the data file, such as 5/10/2024. */
+    public static final DateTimeFormatter STORAGE_DATE = DateTimeFormatter.ofPattern("d/M/yyyy");
+    /** The format of budget months in the data file, such as 2024-10. */
+    public static final DateTimeFormatter STORAGE_MONTH = DateTimeFormatter.ofPattern("yyyy-MM");
+    /** The format of dates given by the user, which must exist in the calendar. */
+    public static final DateTimeFormatter INPUT_DATE = DateTimeFormatter.ofPattern("d/M/uuuu")
+            .withResolverStyle(ResolverStyle.STRICT);
+    /** The format of months given by the user, such as 10/2024. */
+    public static final DateTimeFormatter INPUT_MONTH = DateTimeFormatter.ofPattern("MM/yyyy");
+    /** The format of months shown to the user, such as October 2024. */
+    public static final DateTimeFormatter DISPLAY_MONTH = DateTimeFormatter.ofPattern("MMMM yyyy");
+
+    private static final int MIN_FAST_YEAR = 1000;
+    private static final int MAX_FAST_YEAR = 9999;
+
+    /**
+     * Parses a date of the data file.
+     *
+     * @param text The date in the d/M/yyyy format.
+     * @return The parsed date.
+     * @throws java.time.format.DateTimeParseException If the text is not a date.
+     */
+    public static LocalDate parseStorageDate(String text) {
+        LocalDate date = parseDayMonthYear(text);
+        return date != null ? date : LocalDate.parse(text, STORAGE_DATE);
+    }
+
+    /**
+     * Parses a date given by the user.
+     *
+     * @param text The date in the d/M/yyyy format.
+     * @return The parsed date.
+     * @throws java.time.format.DateTimeParseException If the text is not a date that exists in the calendar.
+     */
+    public static LocalDate parseInputDate(String text) {
+        LocalDate date = parseDayMonthYear(text);
+        return date != null ? date : LocalDate.parse(text, INPUT_DATE);
+    }
+
+    /**
+     * Parses a budget month of the data file.
+     *
+     * @param text The month in the yyyy-MM format.
+     * @return The parsed month.
+     * @throws java.time.format.DateTimeParseException If the text is not a month.
+     */
+    public static YearMonth parseStorageMonth(String text) {
+        if (text.length() == 7 && text.charAt(4) == '-') {
+            YearMonth month = toYearMonth(parseDigits(text, 0, 4), parseDigits(text, 5, 7));
+            if (month != null) {
+                return month;
+            }
+        }
+        return YearMonth.parse(text, STORAGE_MONTH);
+    }
+
+    /**
+     * Parses a month given by the user.
+     *
+     * @param text The month in the MM/yyyy format.
+     * @return The parsed month.
+     * @throws java.time.format.DateTimeParseException If the text is not a month.
+     */
+    public static YearMonth parseInputMonth(String text) {
+        if (text.length() == 7 && text.charAt(2) == '/') {
+            YearMonth month = toYearMonth(parseDigits(text, 3, 7), parseDigits(text, 0, 2));
+            if (month != null) {
+                return month;
+            }
+        }
+        return YearMonth.parse(text, INPUT_MONTH);
+    }
+
+    /**
+     * Appends a date in the format of the data file.
+     *
+     * @param builder The builder to append to.
+     * @param date The date to append.
+     * @return The builder.
+     */
+    public static StringBuilder appendStorageDate(StringBuilder builder, LocalDate date) {
+        int year = date.getYear();
+        if (year < MIN_FAST_YEAR || year > MAX_FAST_YEAR) {
+            return builder.append(date.format(STORAGE_DATE));
+        }
+        return builder.append(date.getDayOfMonth()).append('/').append(date.getMonthValue()).append('/').append(year);
+    }
+
+    /**
+     * Formats a date in the format of the data file.
+     *
+     * @param date The date to format.
+     * @return The date in the d/M/yyyy format.
+     */
+    public static String formatStorageDate(LocalDate date) {
+        return appendStorageDate(new StringBuilder(10), date).toString();
+    }
+
+    /**
+     * Formats a budget month in the format of the data file.
+     *
+     * @param month The month to format.
+     * @return The month in the yyyy-MM format.
+     */
+    public static String formatStorageMonth(YearMonth month) {
+        int year = month.getYear();
+        if (year < MIN_FAST_YEAR || year > MAX_FAST_YEAR) {
+            return month.format(STORAGE_MONTH);
+        }
+        int monthValue = month.getMonthValue();
+        return year + (monthValue < 10 ? "-0" : "-") + monthValue;
+    }
+
+    /**
+     * Formats a month for display to the user.
+     *
+     * @param month The month to format.
+     * @return The month as its full name followed by the year.
+     */
+    public static String formatDisplayMonth(YearMonth month) {
+        return month.format(DISPLAY_MONTH);
+    }
+
+    /**
+     * Parses a date with a day and month of one or two digits and a year of four digits.
+     *
+     * @return The date, or null if the text is of another form or not a date in the calendar.
+     */
+    private static LocalDate parseDayMonthYear(String text) {
+        int firstSlash = text.indexOf('/');
+        int secondSlash = text.indexOf('/', firstSlash + 1);
+        if (firstSlash < 1 || firstSlash > 2 || secondSlash - firstSlash < 2 || secondSlash - firstSlash > 3
+                || text.length() - secondSlash != 5) {
+            return null;
+        }
+        int day = parseDigits(text, 0, firstSlash);
+        YearMonth month = toYearMonth(parseDigits(text, secondSlash + 1, text.length()),
+                parseDigits(text, firstSlash + 1, secondSlash));
+        if (month == null || day < 1 || day > month.lengthOfMonth()) {
+            return null;
+        }
+        return month.atDay(day);
+    }
+
+    private static YearMonth toYearMonth(int year, int month) {
+        if (year < 1 || month < 1 || month > 12) {
+            return null;
+        }
+        return YearMonth.of(year, month);
+    }
+
+    /**
+     * Returns the value of the digits between the given indices, or -1 if any character is not a digit.
+     */
+    private static int parseDigits(String text, int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+}
@@ -0,0 +1,118 @@
+package seedu.budgetbuddy.util;
+
+/**
+ * Converts amounts of money to and from a whole number of cents.
+ *
+ * <p>Amounts are kept as {@code long} cents, so that sums of any number of amounts are exact and can be
+ * accumulated without boxing. They are converted to {@code double} only to be shown to the user, which prints
+ * amounts in the same form as before, such as 12.5 or 1450.0.</p>
+ *
+ * <p>Amounts are limited to {@link #MAX_CENTS} either way, so that sums of them stay far from the range of
+ * {@code long}. Code that sums amounts still adds them with {@link Math#addExact}, so that a sum that
+ * overflows fails instead of wrapping around to a wrong total.</p>
+ */
+public class Money {
+    /** The largest amount accepted, in cents, which is one billion dollars. */
+    public static final long MAX_CENTS = 100_000_000_000L;
+
+    private static final int MAX_FAST_DIGITS = 15;
+
+    /**
+     * Converts an amount to cents, rounding to the nearest cent.
+     *
+     * @param amount The amount.
+     * @return The amount in cents.
+     * @throws IllegalArgumentException If the amount is above {@link #MAX_CENTS} either way.
+     */
+    public static long toCents(double amount) {
+        long cents = Math.round(amount * 100);
+        if (!isInRange(cents)) {
+            throw new IllegalArgumentException("Amount is too large: " + amount);
+        }
+        return cents;
+    }
+
+    /**
+     * Converts cents to an amount.
+     *
+     * @param cents The amount in cents.
+     * @return The amount, which is the double closest to the exact value.
+     */
+    public static double toAmount(long cents) {
+        return cents / 100.0;
+    }
+
+    /**
+     * Parses an amount such as 12, 12.5 or 12.34 into cents, rounding any further decimal places to the nearest
+     * cent.
+     *
+     * @param text The amount.
+     * @return The amount in cents.
+     * @throws NumberFormatException If the text is not a finite number or is above {@link #MAX_CENTS} either way.
+     */
+    public static long parseCents(String text) {
+        long cents = parsePlainCents(text);
+        if (cents < 0) {
+            double amount = Double.parseDouble(text);
+            if (Double.isNaN(amount) || Double.isInfinite(amount)) {
+                throw new NumberFormatException("Amount is not a finite number: " + text);
+            }
+            cents = Math.round(amount * 100);
+        }
+        if (!isInRange(cents)) {
+            throw new NumberFormatException("Amount is too large: " + text);
+        }
+        return cents;
+    }
+
+    /**
+     * Returns whether the cents are within {@link #MAX_CENTS} either way.
+     *
+     * @param cents The amount in cents.
+     * @return true if the amount is accepted, false otherwise.
+     */
+    public static boolean isInRange(long cents) {
+        return cents >= -MAX_CENTS && cents <= MAX_CENTS;
+    }
+
+    /**
+     * Formats cents with exactly two decimal places, such as 1450.00 or -3.05.
+     *
+     * @param cents The amount in cents.
+     * @return The formatted amount.
+     */
+    public static String format(long cents) {
+        long absoluteCents = Math.abs(cents);
+        long fraction = absoluteCents % 100;
+        return (cents < 0 ? "-" : "") + absoluteCents / 100 + (fraction < 10 ? ".0" : ".") + fraction;
+    }
+
+    /**
+     * Parses digits with at most two decimal places exactly.
+     *
+     * @return The cents, or -1 if the text is of another form.
+     */
+    private static long parsePlainCents(String text) {
+        int point = text.indexOf('.');
+        int integerEnd = point < 0 ? text.length() : point;
+        int fractionDigits = point < 0 ? 0 : text.length() - point - 1;
+        if (integerEnd == 0 || integerEnd > MAX_FAST_DIGITS || fractionDigits > 2 || point == text.length() - 1) {
+            return -1;
+        }
+        long cents = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (i == point) {
+                continue;
+            }
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            cents = cents * 10 + (c - '0');
+        }
+        for (int i = fractionDigits; i < 2; i++) {
+            cents *= 10;
+        }
+        return cents;
+    }
+}
@@ -1,18 +1,21 @@
 package seedu.budgetbuddy.validators;
 
+import seedu.budgetbuddy.util.Money;
+
 /**
  * Validates and converts amount from String to double.
+ * The amount is parsed to a whole number of cents, so that it is stored and summed exactly.
  */
 public class AmountValidator {
     /**
      * Converts amount from String to double.
      *
      * @param part The String containing the amount.
-     * @return The parsed amount or -1 if invalid.
+     * @return The parsed amount, rounded to the nearest cent, or -1 if invalid or above {@link Money#MAX_CENTS}.
      */
     public static double validateAmount(String part) {
         try {
-            return Double.parseDouble(part.substring(2));
+            return Money.toAmount(Money.parseCents(part.substring(2)));
         } catch (NumberFormatException e) {
             return -1;  // Indicates invalid amount
         }
@@ -1,10 +1,10 @@
 package seedu.budgetbuddy.validators;
 
+import seedu.budgetbuddy.util.DateCodec;
+
 import java.time.LocalDate;
 import java.time.YearMonth;
-import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
-import java.time.format.ResolverStyle;
 
 /**
  * Validates and converts the date given.
@@ -18,8 +18,7 @@ public class DateValidator {
      */
     public static LocalDate validateDate(String part) {
         try {
-            return LocalDate.parse(part.substring(2),
-                    DateTimeFormatter.ofPattern("d/M/uuuu").withResolverStyle(ResolverStyle.STRICT));
+            return DateCodec.parseInputDate(part.substring(2));
         } catch (DateTimeParseException e) {
             return null;  // Indicates invalid date
         }
@@ -32,8 +31,19 @@ public class DateValidator {
      * @return The parsed YearMonth or null if invalid.
      */
     public static YearMonth validateYearMonth(String part) {
+        return validateYearMonth(part, "m/");
+    }
+
+    /**
+     * Parses the month from a command part that starts with the given prefix, such as {@code from/}.
+     *
+     * @param part The command part containing the month.
+     * @param prefix The prefix of the command part.
+     * @return The parsed YearMonth or null if invalid.
+     */
+    public static YearMonth validateYearMonth(String part, String prefix) {
         try {
-            return YearMonth.parse(part.substring(2), DateTimeFormatter.ofPattern("MM/yyyy"));
+            return DateCodec.parseInputMonth(part.substring(prefix.length()));
         } catch (DateTimeParseException e) {
             return null;  // Indicates invalid date
         }
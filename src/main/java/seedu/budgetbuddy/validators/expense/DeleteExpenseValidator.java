@@ -3,6 +3,7 @@ package seedu.budgetbuddy.validators.expense;
 import seedu.budgetbuddy.commands.Command;
 import seedu.budgetbuddy.commands.expense.DeleteExpenseCommand;
 import seedu.budgetbuddy.commands.IncorrectCommand;
+import seedu.budgetbuddy.transaction.expense.ExpenseManager;
 import seedu.budgetbuddy.validators.IndexValidator;
 
 /**
@@ -28,6 +29,6 @@ public class DeleteExpenseValidator {
             return new IncorrectCommand("Invalid Index");
         }
 
-        return new DeleteExpenseCommand(index - 1);
+        return new DeleteExpenseCommand(ExpenseManager.getExpenseByIndex(index - 1));
     }
 }
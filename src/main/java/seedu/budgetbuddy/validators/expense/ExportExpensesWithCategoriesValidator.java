@@ -0,0 +1,73 @@
+package seedu.budgetbuddy.validators.expense;
+
+import seedu.budgetbuddy.commands.Command;
+import seedu.budgetbuddy.commands.IncorrectCommand;
+import seedu.budgetbuddy.commands.expense.ExportExpensesWithCategoriesGraphCommand;
+import seedu.budgetbuddy.graphs.ChartExporter;
+
+import java.time.YearMonth;
+
+import static seedu.budgetbuddy.validators.DateValidator.validateYearMonth;
+
+/**
+ * Validates and processes the command to export the pie charts of expenses by category of every month in a range
+ * given by {@code from/MM/yyyy to/MM/yyyy}, as PNG files or as SVG files with {@code f/svg}.
+ */
+public class ExportExpensesWithCategoriesValidator {
+
+    /**
+     * Processes the given command to create a command object for exporting the pie charts of a range of months.
+     *
+     * @param command The command string input by the user.
+     * @return A Command object corresponding to the user's input, or an IncorrectCommand if the input is invalid.
+     */
+    public static Command processCommand(String command) {
+        YearMonth startMonth = null;
+        YearMonth endMonth = null;
+        ChartExporter.Format format = ChartExporter.Format.PNG;
+
+        String trimmedCommand = command.substring(ExportExpensesWithCategoriesGraphCommand.COMMAND_WORD.length())
+                .trim();
+        if (trimmedCommand.isEmpty()) {
+            return new IncorrectCommand("Please provide a range of months: from/MM/yyyy to/MM/yyyy");
+        }
+
+        for (String part : trimmedCommand.split(" ")) {
+            if (part.startsWith("from/")) {
+                startMonth = validateYearMonth(part, "from/");
+                if (startMonth == null) {
+                    return new IncorrectCommand("Invalid month format. Use from/MM/yyyy.");
+                }
+            } else if (part.startsWith("to/")) {
+                endMonth = validateYearMonth(part, "to/");
+                if (endMonth == null) {
+                    return new IncorrectCommand("Invalid month format. Use to/MM/yyyy.");
+                }
+            } else if (part.startsWith("f/")) {
+                format = validateFormat(part.substring("f/".length()));
+                if (format == null) {
+                    return new IncorrectCommand("Invalid format. Use f/png or f/svg.");
+                }
+            } else if (!part.isEmpty()) {
+                return new IncorrectCommand("Unknown command: " + part + " Please use from/MM/yyyy to/MM/yyyy");
+            }
+        }
+
+        if (startMonth == null || endMonth == null) {
+            return new IncorrectCommand("Give both months of the range: from/MM/yyyy to/MM/yyyy.");
+        }
+        if (startMonth.isAfter(endMonth)) {
+            return new IncorrectCommand("The start month cannot be after the end month.");
+        }
+        return new ExportExpensesWithCategoriesGraphCommand(startMonth, endMonth, format);
+    }
+
+    private static ChartExporter.Format validateFormat(String format) {
+        for (ChartExporter.Format candidate : ChartExporter.Format.values()) {
+            if (candidate.name().equalsIgnoreCase(format)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+}
@@ -3,6 +3,7 @@ package seedu.budgetbuddy.validators.income;
 import seedu.budgetbuddy.commands.Command;
 import seedu.budgetbuddy.commands.income.DeleteIncomeCommand;
 import seedu.budgetbuddy.commands.IncorrectCommand;
+import seedu.budgetbuddy.transaction.income.IncomeManager;
 import seedu.budgetbuddy.validators.IndexValidator;
 
 /**
@@ -28,6 +29,6 @@ public class DeleteIncomeValidator {
             return new IncorrectCommand("Invalid Index");
         }
 
-        return new DeleteIncomeCommand(index - 1);
+        return new DeleteIncomeCommand(IncomeManager.getIncomeByIndex(index - 1));
     }
 }
@@ -7,11 +7,13 @@ import seedu.budgetbuddy.transaction.income.IncomeManager;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
+import java.util.Collection;
 
 import static seedu.budgetbuddy.validators.DateValidator.validateYearMonth;
 
 /**
- * Validates and processes the command to display the percentage of income spent for a specified month.
+ * Validates and processes the command to display the percentage of income spent for a specified month, or for
+ * every month in a range given by {@code from/MM/yyyy to/MM/yyyy}.
  */
 public class DisplayIncomeSpentValidator {
 
@@ -19,11 +21,13 @@ public class DisplayIncomeSpentValidator {
      * Processes the given command and returns a corresponding Command object.
      *
      * @param command The command string to process.
-     * @return Command representing the display income spent command for the specified month.
-     * @throws BudgetBuddyException If no income is recorded for the specified month.
+     * @return Command representing the display income spent command for the specified month or range.
+     * @throws BudgetBuddyException If no income is recorded for the specified month or range.
      */
     public static Command processCommand(String command) throws BudgetBuddyException {
         YearMonth month = null;
+        YearMonth startMonth = null;
+        YearMonth endMonth = null;
 
         if (command.equals("display income spent")) {
             month = YearMonth.from(LocalDate.now());
@@ -38,14 +42,42 @@ public class DisplayIncomeSpentValidator {
                     if (month == null) {
                         throw new BudgetBuddyException("Invalid month format. Use m/MM/yyyy.");
                     }
+                } else if (part.startsWith("from/")) {
+                    startMonth = validateYearMonth(part, "from/");
+                    if (startMonth == null) {
+                        throw new BudgetBuddyException("Invalid month format. Use from/MM/yyyy.");
+                    }
+                } else if (part.startsWith("to/")) {
+                    endMonth = validateYearMonth(part, "to/");
+                    if (endMonth == null) {
+                        throw new BudgetBuddyException("Invalid month format. Use to/MM/yyyy.");
+                    }
                 }
             }
         }
 
+        if (startMonth != null || endMonth != null) {
+            return processRange(startMonth, endMonth);
+        }
+
         if (IncomeManager.getMonthlyIncome(month) <= 0) {
             throw new BudgetBuddyException("No income recorded for the month: " + month);
         }
 
         return new DisplayIncomeSpentCommand(month);
     }
+
+    private static Command processRange(YearMonth startMonth, YearMonth endMonth) throws BudgetBuddyException {
+        if (startMonth == null || endMonth == null) {
+            throw new BudgetBuddyException("Give both months of the range: from/MM/yyyy to/MM/yyyy.");
+        }
+        if (startMonth.isAfter(endMonth)) {
+            throw new BudgetBuddyException("The start month cannot be after the end month.");
+        }
+        Collection<Long> monthlyIncomes = IncomeManager.getMonthlyIncomesInCents(startMonth, endMonth).values();
+        if (monthlyIncomes.stream().noneMatch(sum -> sum > 0)) {
+            throw new BudgetBuddyException("No income recorded from " + startMonth + " to " + endMonth);
+        }
+        return new DisplayIncomeSpentCommand(startMonth, endMonth);
+    }
 }
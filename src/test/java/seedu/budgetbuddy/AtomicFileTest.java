@@ -0,0 +1,73 @@
+package seedu.budgetbuddy;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class AtomicFileTest {
+
+    private File directory;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("testAtomicFile").toFile();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        directory.delete();
+    }
+
+    @Test
+    public void write_existingFile_replacesContentsWithoutLeavingTempFiles() throws IOException {
+        File file = new File(directory, "data.txt");
+        Files.write(file.toPath(), "old contents".getBytes());
+
+        AtomicFile.write(file.toPath(), "new contents".getBytes());
+
+        assertArrayEquals("new contents".getBytes(), Files.readAllBytes(file.toPath()));
+        assertEquals(List.of(file), List.of(directory.listFiles()));
+    }
+
+    @Test
+    public void write_missingDirectory_throwsAndKeepsNothing() {
+        File file = new File(new File(directory, "missing"), "data.txt");
+
+        assertThrows(IOException.class, () -> AtomicFile.write(file.toPath(), "contents".getBytes()));
+        assertEquals(0, directory.listFiles().length);
+    }
+
+    @Test
+    public void write_existingFile_keepsPermissions() throws IOException {
+        File file = new File(directory, "data.txt");
+        Files.write(file.toPath(), "old contents".getBytes());
+        if (Files.getFileAttributeView(file.toPath(), PosixFileAttributeView.class) == null) {
+            return;
+        }
+        Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-r--r--");
+        Files.setPosixFilePermissions(file.toPath(), permissions);
+
+        AtomicFile.write(file.toPath(), "new contents".getBytes());
+
+        assertEquals(permissions, Files.getPosixFilePermissions(file.toPath()));
+    }
+}
@@ -0,0 +1,118 @@
+package seedu.budgetbuddy;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.budgetbuddy.transaction.Category;
+import seedu.budgetbuddy.transaction.budget.Budget;
+import seedu.budgetbuddy.transaction.budget.BudgetManager;
+import seedu.budgetbuddy.transaction.expense.Expense;
+import seedu.budgetbuddy.transaction.expense.ExpenseManager;
+import seedu.budgetbuddy.transaction.income.Income;
+import seedu.budgetbuddy.transaction.income.IncomeManager;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BinarySnapshotTest {
+
+    private File binaryFile;
+    private File textFile;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        ExpenseManager.reset();
+        IncomeManager.reset();
+        BudgetManager.reset();
+        binaryFile = File.createTempFile("testBinarySnapshot", ".bin");
+        textFile = File.createTempFile("testBinarySnapshot", ".txt");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ExpenseManager.reset();
+        IncomeManager.reset();
+        BudgetManager.reset();
+        binaryFile.delete();
+        textFile.delete();
+    }
+
+    @Test
+    public void encode_thenLoad_restoresAllRecords() throws IOException {
+        ExpenseManager.loadExpense(new Expense("Caf\u00e9 latte", 4.5, LocalDate.of(2024, 10, 1), Category.FOOD));
+        ExpenseManager.loadExpense(new Expense("Bus", 1.2, LocalDate.of(2024, 9, 30), Category.TRANSPORT));
+        IncomeManager.loadIncome(new Income("Salary", 2000.0, LocalDate.of(2024, 10, 1)));
+        Budget budget = new Budget(YearMonth.of(2024, 10));
+        budget.addAmount(Category.FOOD, 500.0);
+        budget.addAmount(Category.OTHERS, 12.5);
+        BudgetManager.addBudget(budget);
+
+        Files.write(binaryFile.toPath(), BinarySnapshot.encode());
+        ExpenseManager.reset();
+        IncomeManager.reset();
+        BudgetManager.reset();
+        assertTrue(BinarySnapshot.isBinary(binaryFile));
+        BinarySnapshot.load(binaryFile);
+
+        assertEquals(2, ExpenseManager.getNumberOfExpenses());
+        assertEquals("1. Description: Caf\u00e9 latte  Amount: 4.5  Date: 2024-10-01  Category: FOOD",
+                "1. " + ExpenseManager.getExpenseByIndex(0));
+        assertEquals(Category.TRANSPORT, ExpenseManager.getExpenseByIndex(1).getCategory());
+        assertEquals(1.2, ExpenseManager.getExpenseByIndex(1).getAmount());
+        assertEquals(2000.0, IncomeManager.getIncomeByIndex(0).getAmount());
+        Budget loaded = BudgetManager.getBudget(YearMonth.of(2024, 10));
+        assertEquals(512.5, loaded.getTotalMonthlyBudget());
+        assertEquals(12.5, loaded.getCategoryBudgetAmount(Category.OTHERS));
+    }
+
+    @Test
+    public void load_unsupportedVersion_throwsIOException() throws IOException {
+        byte[] contents = BinarySnapshot.encode();
+        contents[5] = 99;
+        Files.write(binaryFile.toPath(), contents);
+
+        assertThrows(IOException.class, () -> BinarySnapshot.load(binaryFile));
+    }
+
+    @Test
+    public void load_corruptedRecord_throwsIOException() throws IOException {
+        ExpenseManager.loadExpense(new Expense("Lunch", 10.0, LocalDate.of(2024, 10, 1), Category.FOOD));
+        byte[] contents = BinarySnapshot.encode();
+        contents[14] ^= 1;
+        Files.write(binaryFile.toPath(), contents);
+
+        assertThrows(IOException.class, () -> BinarySnapshot.load(binaryFile));
+    }
+
+    @Test
+    public void isBinary_textFile_returnsFalse() throws IOException {
+        Files.write(textFile.toPath(), List.of("expense | Lunch | 10.0 | 10/10/2024 | FOOD"));
+
+        assertFalse(BinarySnapshot.isBinary(textFile));
+    }
+
+    @Test
+    public void convert_textToBinaryAndBack_keepsTextIdentical() throws IOException {
+        List<String> lines = List.of("expense | Lunch | 10.0 | 10/10/2024 | FOOD",
+                "income | Salary | 2000.0 | 1/10/2024",
+                "budget | 500.0 | 2024-10 | {FOOD=500.0}");
+        Files.write(textFile.toPath(), lines);
+        File convertedFile = File.createTempFile("testBinarySnapshot", ".txt");
+
+        SnapshotConverter.convert(textFile.getAbsolutePath(), binaryFile.getAbsolutePath(), true);
+        SnapshotConverter.convert(binaryFile.getAbsolutePath(), convertedFile.getAbsolutePath(), false);
+
+        assertTrue(BinarySnapshot.isBinary(binaryFile));
+        assertEquals(lines, Files.readAllLines(convertedFile.toPath()));
+        convertedFile.delete();
+    }
+}
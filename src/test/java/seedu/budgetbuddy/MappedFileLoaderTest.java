@@ -0,0 +1,102 @@
+package seedu.budgetbuddy;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.budgetbuddy.transaction.budget.BudgetManager;
+import seedu.budgetbuddy.transaction.expense.ExpenseManager;
+import seedu.budgetbuddy.transaction.income.IncomeManager;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.YearMonth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class MappedFileLoaderTest {
+
+    private static final String CONTENTS = "expense | Lunch | 10.0 | 10/10/2024 | FOOD\r\n"
+            + "expense | Bus | 1.25 | 01/9/2024 | transport\n"
+            + "EXPENSE | Movie | 12 | 5/9/2024 | ENTERTAINMENT\n"
+            + "expense | Rent | 1.0E7 | 31/4/2024 | UTILITIES\n"
+            + "expense | Broken | abc | 1/1/2024 | FOOD\n"
+            + "expense | Unknown | 5.0 | 1/1/2024 | SHOPPING\n"
+            + "\n"
+            + "income | Salary | 2000.0 | 1/10/2024\r"
+            + "income | Gift | 0.1 | 29/2/2024\n"
+            + "budget | 500.0 | 2024-10 | {FOOD=500.0}\n"
+            + "expense | No newline | 3.5 | 2/2/2024 | OTHERS";
+
+    private File file;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        ExpenseManager.reset();
+        IncomeManager.reset();
+        BudgetManager.reset();
+        file = File.createTempFile("testMappedFileLoader", ".txt");
+        Files.write(file.toPath(), CONTENTS.getBytes());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ExpenseManager.reset();
+        IncomeManager.reset();
+        BudgetManager.reset();
+        file.delete();
+    }
+
+    @Test
+    public void load_mixedRecords_sameResultAsLineByLineParsing() throws IOException {
+        for (String line : CONTENTS.split("\r\n|\r|\n")) {
+            Parser.parseFile(line);
+        }
+        String expected = ExpenseManager.getExpenses().toString() + IncomeManager.getIncomes()
+                + BudgetManager.getBudgets();
+        ExpenseManager.reset();
+        IncomeManager.reset();
+        BudgetManager.reset();
+
+        long numberOfLines = MappedFileLoader.load(file);
+
+        assertEquals(11, numberOfLines);
+        assertEquals(expected, ExpenseManager.getExpenses().toString() + IncomeManager.getIncomes()
+                + BudgetManager.getBudgets());
+        assertEquals(5, ExpenseManager.getNumberOfExpenses());
+        assertEquals(2, IncomeManager.getNumberOfIncomes());
+        assertEquals(500.0, BudgetManager.getBudget(YearMonth.of(2024, 10)).getTotalMonthlyBudget());
+    }
+
+    @Test
+    public void load_parallel_sameOrderAsSequential() throws IOException {
+        StringBuilder contents = new StringBuilder();
+        for (int i = 0; i < 60_000; i++) {
+            contents.append("expense | item ").append(i).append(" | ").append(i % 500).append(".25 | ")
+                    .append(i % 28 + 1).append("/").append(i % 12 + 1).append("/2024 | FOOD\n");
+            if (i % 1000 == 0) {
+                contents.append("budget | 100.0 | 2024-").append(String.format("%02d", i / 1000 % 12 + 1))
+                        .append(" | {FOOD=").append(i).append(".0}\n");
+            }
+        }
+        Files.write(file.toPath(), contents.toString().getBytes());
+        MappedFileLoader.load(file, false);
+        String expected = ExpenseManager.getExpenses().toString() + BudgetManager.getBudgets();
+        ExpenseManager.reset();
+        BudgetManager.reset();
+
+        long numberOfLines = MappedFileLoader.load(file, true);
+
+        assertEquals(60_060, numberOfLines);
+        assertEquals(expected, ExpenseManager.getExpenses().toString() + BudgetManager.getBudgets());
+        assertEquals(12, BudgetManager.getNumberOfBudgets());
+    }
+
+    @Test
+    public void load_emptyFile_loadsNothing() throws IOException {
+        Files.write(file.toPath(), new byte[0]);
+
+        assertEquals(0, MappedFileLoader.load(file));
+        assertEquals(0, ExpenseManager.getNumberOfExpenses());
+    }
+}
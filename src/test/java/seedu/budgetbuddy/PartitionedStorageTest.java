@@ -0,0 +1,186 @@
+package seedu.budgetbuddy;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.budgetbuddy.transaction.Category;
+import seedu.budgetbuddy.transaction.HistoryManager;
+import seedu.budgetbuddy.transaction.budget.BudgetManager;
+import seedu.budgetbuddy.transaction.expense.Expense;
+import seedu.budgetbuddy.transaction.expense.ExpenseManager;
+import seedu.budgetbuddy.transaction.income.Income;
+import seedu.budgetbuddy.transaction.income.IncomeManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PartitionedStorageTest {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("d/M/yyyy");
+    private static final LocalDate RECENT = LocalDate.now().withDayOfMonth(1);
+    private static final LocalDate OLD = RECENT.minusYears(1);
+
+    private File tempFile;
+    private Storage storage;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        ExpenseManager.reset();
+        IncomeManager.reset();
+        BudgetManager.reset();
+        tempFile = File.createTempFile("testPartitionedStorage", ".txt");
+        Files.write(tempFile.toPath(), List.of(
+                "expense | Old lunch | 10.0 | " + OLD.format(DATE_FORMAT) + " | FOOD",
+                "expense | New lunch | 12.0 | " + RECENT.format(DATE_FORMAT) + " | FOOD",
+                "expense | Old bus | 2.0 | " + OLD.plusDays(1).format(DATE_FORMAT) + " | TRANSPORT",
+                "income | Salary | 2000.0 | " + RECENT.format(DATE_FORMAT),
+                "budget | 500.0 | " + YearMonth.from(OLD) + " | {FOOD=500.0}"));
+        storage = newPartitionedStorage();
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        HistoryManager.setLoader(null);
+        ExpenseManager.reset();
+        IncomeManager.reset();
+        BudgetManager.reset();
+        File directory = new File(storage.getPartitionPath());
+        File[] segments = directory.listFiles();
+        if (segments != null) {
+            for (File segment : segments) {
+                segment.delete();
+            }
+        }
+        directory.delete();
+        tempFile.delete();
+        new File(storage.getJournalPath()).delete();
+    }
+
+    private Storage newPartitionedStorage() {
+        Storage partitionedStorage = new Storage(tempFile.getAbsolutePath(), true);
+        partitionedStorage.setPartitioned(true);
+        return partitionedStorage;
+    }
+
+    private void reload() throws IOException {
+        HistoryManager.setLoader(null);
+        ExpenseManager.reset();
+        IncomeManager.reset();
+        BudgetManager.reset();
+        storage = newPartitionedStorage();
+        storage.load();
+    }
+
+    @Test
+    public void load_singleFile_migratesIntoMonthlySegments() throws IOException {
+        storage.load();
+
+        File directory = new File(storage.getPartitionPath());
+        assertTrue(new File(directory, "manifest.txt").exists());
+        assertTrue(new File(directory, YearMonth.from(OLD) + ".txt").exists());
+        assertTrue(new File(directory, YearMonth.from(RECENT) + ".txt").exists());
+        assertEquals(List.of("budget | 500.0 | " + YearMonth.from(OLD) + " | {FOOD=500.0}"),
+                Files.readAllLines(new File(directory, "budgets.txt").toPath()));
+        assertFalse(storage.isDirty());
+    }
+
+    @Test
+    public void load_journalLeftBySingleFileSession_compactedBeforeMigration() throws IOException {
+        Storage singleFileStorage = new Storage(tempFile.getAbsolutePath(), true);
+        singleFileStorage.load();
+        ExpenseManager.addExpense(new Expense("Dinner", 20.0, RECENT, Category.FOOD));
+        Journal.close();
+        reload();
+
+        assertEquals(4, ExpenseManager.getNumberOfExpenses());
+        assertFalse(new File(storage.getJournalPath()).exists());
+        assertTrue(Files.readAllLines(tempFile.toPath()).get(3).startsWith("expense | Dinner | 20.0"));
+
+        reload();
+        assertEquals("Dinner", ExpenseManager.getExpenseByIndex(3).getDescription());
+        assertEquals(4, ExpenseManager.getNumberOfExpenses());
+    }
+
+    @Test
+    public void load_partitions_pagesInOlderMonthsInOriginalOrder() throws IOException {
+        storage.load();
+        reload();
+
+        assertEquals(1, ExpenseManager.getLoadedExpenses().size());
+        assertEquals(1, IncomeManager.getLoadedIncomes().size());
+        assertEquals(1, BudgetManager.getNumberOfBudgets());
+
+        assertEquals(3, ExpenseManager.getNumberOfExpenses());
+        assertEquals("Old lunch", ExpenseManager.getExpenseByIndex(0).getDescription());
+        assertEquals("New lunch", ExpenseManager.getExpenseByIndex(1).getDescription());
+        assertEquals("Old bus", ExpenseManager.getExpenseByIndex(2).getDescription());
+        assertFalse(storage.isDirty());
+    }
+
+    @Test
+    public void save_changedMonth_rewritesOnlyThatSegment() throws IOException {
+        storage.load();
+        reload();
+        File directory = new File(storage.getPartitionPath());
+        File oldSegment = new File(directory, YearMonth.from(OLD) + ".txt");
+        File recentSegment = new File(directory, YearMonth.from(RECENT) + ".txt");
+        List<String> oldLines = Files.readAllLines(oldSegment.toPath());
+        Files.write(oldSegment.toPath(), List.of("marker"));
+
+        ExpenseManager.addExpense(new Expense("Dinner", 20.0, RECENT, Category.FOOD));
+        storage.save(new ExpenseManager(), new IncomeManager(), new BudgetManager());
+
+        assertEquals(List.of("marker"), Files.readAllLines(oldSegment.toPath()));
+        assertEquals(3, Files.readAllLines(recentSegment.toPath()).size());
+        Files.write(oldSegment.toPath(), oldLines);
+        reload();
+        assertEquals(4, ExpenseManager.getNumberOfExpenses());
+        assertEquals("Dinner", ExpenseManager.getExpenseByIndex(3).getDescription());
+    }
+
+    @Test
+    public void save_addToOlderMonth_mergesWithRecordsOnDisk() throws IOException {
+        storage.load();
+        reload();
+
+        ExpenseManager.addExpense(new Expense("Old dinner", 30.0, OLD, Category.FOOD));
+        storage.save(new ExpenseManager(), new IncomeManager(), new BudgetManager());
+        reload();
+
+        assertEquals(4, ExpenseManager.getNumberOfExpenses());
+        assertEquals("Old bus", ExpenseManager.getExpenseByIndex(2).getDescription());
+        assertEquals("Old dinner", ExpenseManager.getExpenseByIndex(3).getDescription());
+    }
+
+    @Test
+    public void addExpense_olderMonthsOnDisk_reportsTotalWithoutPagingIn() throws IOException {
+        storage.load();
+        reload();
+        PrintStream originalOut = System.out;
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(output));
+        try {
+            ExpenseManager.addExpense(new Expense("Dinner", 20.0, RECENT, Category.FOOD));
+            IncomeManager.addIncome(new Income("Bonus", 100.0, RECENT));
+        } finally {
+            System.setOut(originalOut);
+        }
+
+        assertTrue(output.toString().contains("You have 4 expense transaction(s) in total."));
+        assertTrue(output.toString().contains("You have 2 income transaction(s) in total."));
+        assertEquals(2, ExpenseManager.getLoadedExpenses().size());
+        assertEquals(2, HistoryManager.getNumberOfUnloadedExpenses());
+        assertEquals(0, HistoryManager.getNumberOfUnloadedIncomes());
+    }
+}
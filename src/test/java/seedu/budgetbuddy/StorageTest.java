@@ -11,7 +11,9 @@ import seedu.budgetbuddy.transaction.expense.ExpenseManager;
 import seedu.budgetbuddy.transaction.income.Income;
 import seedu.budgetbuddy.transaction.income.IncomeManager;
 
+import java.io.DataOutputStream;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.time.LocalDate;
@@ -21,6 +23,7 @@ import java.util.Map;
 import java.util.Scanner;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -49,9 +52,11 @@ public class StorageTest {
     }
 
     @AfterEach
-    public void tearDown() {
+    public void tearDown() throws IOException {
         // Cleanup any resources after each test
+        Journal.close();
         tempFile.delete();
+        new File(tempFile.getAbsolutePath() + ".journal").delete();
     }
 
     @Test
@@ -97,6 +102,23 @@ public class StorageTest {
         assertDoesNotThrow(() -> storage.load());
     }
 
+    @Test
+    public void testLoad_amountAboveMaximum_skipsRecord() throws IOException {
+        ExpenseManager.reset();
+        IncomeManager.reset();
+        try (FileWriter writer = new FileWriter(tempFile)) {
+            writer.write("expense | big | 5000000000 | 1/1/2024 | FOOD\n");
+            writer.write("expense | Lunch | 10.0 | 10/10/2024 | Food\n");
+            writer.write("income | big | 5000000000 | 1/1/2024\n");
+        }
+
+        assertDoesNotThrow(() -> storage.load());
+
+        assertEquals(1, ExpenseManager.getNumberOfExpenses());
+        assertEquals("Lunch", ExpenseManager.getExpenseByIndex(0).getDescription());
+        assertEquals(0, IncomeManager.getNumberOfIncomes());
+    }
+
     @Test
     public void testSave_savesCorrectly() throws IOException {
         // Create some sample data
@@ -143,4 +165,145 @@ public class StorageTest {
         assertTrue(incomeSaved);
         assertTrue(budgetSaved);
     }
+
+    @Test
+    public void testJournal_changesReplayedOnLoad() throws IOException {
+        ExpenseManager.reset();
+        IncomeManager.reset();
+        Storage journalStorage = new Storage(tempFile.getAbsolutePath(), true);
+        journalStorage.load();
+
+        ExpenseManager.addExpense(new Expense("Lunch", 10.0, LocalDate.of(2024, 7, 10), Category.FOOD));
+        ExpenseManager.addExpense(new Expense("Bus", 2.0, LocalDate.of(2024, 7, 11), Category.TRANSPORT));
+        IncomeManager.addIncome(new Income("Salary", 2000.0, LocalDate.of(2024, 7, 10)));
+        ExpenseManager.editExpense(ExpenseManager.getExpenseByIndex(1), null, null, 3.0);
+        ExpenseManager.removeExpense(0);
+        journalStorage.save(expenseManager, incomeManager, budgetManager);
+        Journal.close();
+
+        ExpenseManager.reset();
+        IncomeManager.reset();
+        journalStorage.load();
+
+        assertEquals(1, ExpenseManager.getNumberOfExpenses());
+        assertEquals("Bus", ExpenseManager.getExpenseByIndex(0).getDescription());
+        assertEquals(3.0, ExpenseManager.getExpenseByIndex(0).getAmount());
+        assertEquals(1, IncomeManager.getNumberOfIncomes());
+        assertEquals(5, Journal.getNumberOfEntries());
+    }
+
+    @Test
+    public void testJournal_compact_emptiesJournal() throws IOException {
+        ExpenseManager.reset();
+        IncomeManager.reset();
+        Storage journalStorage = new Storage(tempFile.getAbsolutePath(), true);
+        journalStorage.load();
+
+        ExpenseManager.addExpense(new Expense("Lunch", 10.0, LocalDate.of(2024, 7, 10), Category.FOOD));
+        journalStorage.compact(expenseManager, incomeManager, budgetManager);
+        Journal.close();
+
+        assertEquals(0, new File(journalStorage.getJournalPath()).length());
+        ExpenseManager.reset();
+        journalStorage.load();
+        assertEquals(1, ExpenseManager.getNumberOfExpenses());
+    }
+
+    @Test
+    public void testJournal_tornLastEntry_droppedOnLoad() throws IOException {
+        ExpenseManager.reset();
+        IncomeManager.reset();
+        Storage journalStorage = new Storage(tempFile.getAbsolutePath(), true);
+        journalStorage.load();
+
+        ExpenseManager.addExpense(new Expense("Lunch", 10.0, LocalDate.of(2024, 7, 10), Category.FOOD));
+        ExpenseManager.addExpense(new Expense("Bus", 2.0, LocalDate.of(2024, 7, 11), Category.TRANSPORT));
+        Journal.close();
+        File journal = new File(journalStorage.getJournalPath());
+        try (FileWriter fw = new FileWriter(journal, true)) {
+            fw.write("+ expense | Dinner | 2");
+        }
+
+        ExpenseManager.reset();
+        journalStorage.load();
+        assertEquals(2, ExpenseManager.getNumberOfExpenses());
+        assertEquals(2, Journal.getNumberOfEntries());
+
+        ExpenseManager.addExpense(new Expense("Taxi", 15.0, LocalDate.of(2024, 7, 12), Category.TRANSPORT));
+        Journal.close();
+        ExpenseManager.reset();
+        journalStorage.load();
+        assertEquals(3, ExpenseManager.getNumberOfExpenses());
+        assertEquals("Taxi", ExpenseManager.getExpenseByIndex(2).getDescription());
+    }
+
+    @Test
+    public void testJournal_crashBeforeJournalEmptied_entriesNotReplayedTwice() throws IOException {
+        ExpenseManager.reset();
+        IncomeManager.reset();
+        Storage journalStorage = new Storage(tempFile.getAbsolutePath(), true);
+        journalStorage.load();
+        Journal.open(new StorageWriter(tempFile.getAbsolutePath(), journalStorage.getJournalPath(), 0) {
+            @Override
+            void emptyJournal() throws IOException {
+                throw new IOException("Crashed after the snapshot replaced the data file");
+            }
+        });
+
+        ExpenseManager.addExpense(new Expense("Lunch", 10.0, LocalDate.of(2024, 7, 10), Category.FOOD));
+        ExpenseManager.addExpense(new Expense("Bus", 2.0, LocalDate.of(2024, 7, 11), Category.TRANSPORT));
+        ExpenseManager.removeExpense(0);
+        Journal.flush();
+        journalStorage.compact(expenseManager, incomeManager, budgetManager);
+        assertThrows(IOException.class, Journal::flush);
+        Journal.close();
+        assertTrue(new File(journalStorage.getJournalPath()).length() > 0);
+
+        ExpenseManager.reset();
+        journalStorage.load();
+        assertEquals(1, ExpenseManager.getNumberOfExpenses());
+        assertEquals("Bus", ExpenseManager.getExpenseByIndex(0).getDescription());
+        assertEquals(0, Journal.getNumberOfEntries());
+
+        Journal.close();
+        ExpenseManager.reset();
+        journalStorage.load();
+        assertEquals(1, ExpenseManager.getNumberOfExpenses());
+        assertEquals("Bus", ExpenseManager.getExpenseByIndex(0).getDescription());
+    }
+
+    @Test
+    public void testJournal_loadFails_changesStillRecorded() throws IOException {
+        ExpenseManager.reset();
+        IncomeManager.reset();
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream(tempFile))) {
+            out.writeInt(BinarySnapshot.MAGIC);
+            out.writeShort(Short.MAX_VALUE);
+        }
+        Storage journalStorage = new Storage(tempFile.getAbsolutePath(), true);
+
+        assertThrows(IOException.class, journalStorage::load);
+
+        assertTrue(Journal.isOpen());
+        ExpenseManager.addExpense(new Expense("Lunch", 10.0, LocalDate.of(2024, 7, 10), Category.FOOD));
+        journalStorage.save(expenseManager, incomeManager, budgetManager);
+        Journal.close();
+        assertTrue(new File(journalStorage.getJournalPath()).length() > 0);
+    }
+
+    @Test
+    public void testSave_unchangedData_skipsWrite() throws IOException {
+        ExpenseManager.addExpense(new Expense("Lunch", 10.0, LocalDate.of(2024, 7, 10), Category.FOOD));
+        storage.save(expenseManager, incomeManager, budgetManager);
+        assertFalse(storage.isDirty());
+
+        tempFile.delete();
+        storage.save(expenseManager, incomeManager, budgetManager);
+        assertFalse(tempFile.exists());
+
+        ExpenseManager.removeExpense(ExpenseManager.getNumberOfExpenses() - 1);
+        assertTrue(storage.isDirty());
+        storage.save(expenseManager, incomeManager, budgetManager);
+        assertTrue(tempFile.exists());
+    }
 }
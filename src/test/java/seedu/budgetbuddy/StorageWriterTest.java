@@ -0,0 +1,75 @@
+package seedu.budgetbuddy;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StorageWriterTest {
+
+    private File dataFile;
+    private File journalFile;
+    private StorageWriter writer;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        dataFile = File.createTempFile("testStorageWriter", ".txt");
+        journalFile = new File(dataFile.getAbsolutePath() + ".journal");
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        writer.close();
+        dataFile.delete();
+        journalFile.delete();
+    }
+
+    @Test
+    public void flush_burstOfEntries_writtenInOneBatch() throws IOException {
+        writer = new StorageWriter(dataFile.getAbsolutePath(), journalFile.getAbsolutePath(), 10_000);
+        writer.append("+ first");
+        writer.append("+ second");
+        writer.append("+ third");
+        assertEquals(3, writer.getQueueDepth());
+
+        writer.flush();
+
+        assertEquals(List.of("+ first", "+ second", "+ third"), Files.readAllLines(journalFile.toPath()));
+        assertEquals(0, writer.getQueueDepth());
+        assertEquals(3, writer.getMaxQueueDepth());
+        assertEquals(1, writer.getNumberOfWrites());
+    }
+
+    @Test
+    public void flush_snapshotQueued_replacesEarlierEntries() throws IOException {
+        writer = new StorageWriter(dataFile.getAbsolutePath(), journalFile.getAbsolutePath(), 10_000);
+        writer.append("+ first");
+        writer.writeSnapshot("old snapshot\n".getBytes());
+        writer.append("+ second");
+        writer.writeSnapshot("new snapshot\n".getBytes());
+        writer.append("+ third");
+
+        writer.flush();
+
+        assertEquals(List.of("new snapshot"), Files.readAllLines(dataFile.toPath()));
+        assertEquals(List.of("+ third"), Files.readAllLines(journalFile.toPath()));
+    }
+
+    @Test
+    public void close_pendingEntries_writtenBeforeClosing() throws IOException {
+        writer = new StorageWriter(dataFile.getAbsolutePath(), journalFile.getAbsolutePath(), 10_000);
+        writer.append("+ first");
+
+        writer.close();
+
+        assertEquals(List.of("+ first"), Files.readAllLines(journalFile.toPath()));
+        assertTrue(writer.getMaxWriteLatencyMillis() >= writer.getAverageWriteLatencyMillis());
+    }
+}
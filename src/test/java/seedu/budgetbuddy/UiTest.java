@@ -0,0 +1,53 @@
+package seedu.budgetbuddy;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class UiTest {
+    private final PrintStream originalOut = System.out;
+    private ByteArrayOutputStream output;
+
+    @BeforeEach
+    public void setUp() {
+        output = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(output));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    @Test
+    public void displayToUser_longWrittenMessage_sameOutputAsString() {
+        StringBuilder expected = new StringBuilder();
+        for (int i = 1; i <= 5000; i++) {
+            expected.append(i).append(". Description: item ").append(i).append('\n');
+        }
+        expected.append("There are 5000 items, with a sum of $").append(0.1 + 0.2).append(".");
+        Ui.displayToUser(expected.toString());
+        String expectedOutput = output.toString();
+        output.reset();
+
+        Ui.displayToUser(out -> {
+            for (int i = 1; i <= 5000; i++) {
+                out.append(i).append(". Description: item ").append((Object) i).append('\n');
+            }
+            out.append("There are 5000 items, with a sum of $").append(0.1 + 0.2).append(".");
+        });
+
+        assertEquals(expectedOutput, output.toString());
+    }
+
+    @Test
+    public void render_writtenMessage_returnsWholeMessage() {
+        assertEquals("1. a\n2. b", Ui.render(out -> out.append(1).append(". a\n").append(2).append(". b")));
+        assertEquals("", output.toString());
+    }
+}
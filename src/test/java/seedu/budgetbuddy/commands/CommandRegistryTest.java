@@ -0,0 +1,65 @@
+package seedu.budgetbuddy.commands;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.budgetbuddy.exceptions.BudgetBuddyException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CommandRegistryTest {
+    private CommandRegistry registry;
+    private CommandRegistry.Factory listExpenses;
+    private CommandRegistry.Factory listRemaining;
+    private CommandRegistry.Factory list;
+
+    @BeforeEach
+    public void setUp() {
+        registry = new CommandRegistry();
+        listExpenses = command -> new IncorrectCommand("list expenses");
+        listRemaining = command -> new IncorrectCommand("list remaining budget");
+        list = command -> new IncorrectCommand("list");
+        registry.registerPrefix("list expenses", listExpenses);
+        registry.registerExact("list remaining budget", listRemaining);
+    }
+
+    @Test
+    public void find_inputStartingWithPrefixWord_returnsFactory() {
+        assertSame(listExpenses, registry.find("list expenses"));
+        assertSame(listExpenses, registry.find("list expenses c/FOOD m/10/2024"));
+    }
+
+    @Test
+    public void find_exactWordWithTrailingText_returnsNull() {
+        assertSame(listRemaining, registry.find("list remaining budget"));
+        assertNull(registry.find("list remaining budgets"));
+        assertNull(registry.find("list remaining"));
+        assertNull(registry.find(""));
+    }
+
+    @Test
+    public void find_overlappingWords_returnsLongestMatch() {
+        registry.registerPrefix("list", list);
+
+        assertSame(list, registry.find("list incomes"));
+        assertSame(listExpenses, registry.find("list expenses"));
+        assertSame(listRemaining, registry.find("list remaining budget"));
+        assertSame(list, registry.find("list remaining budget now"));
+    }
+
+    @Test
+    public void registerPrefix_duplicateWord_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> registry.registerPrefix("list expenses", list));
+    }
+
+    @Test
+    public void parse_unknownInput_returnsIncorrectCommand() throws BudgetBuddyException {
+        Command command = registry.parse("show expenses");
+
+        assertInstanceOf(IncorrectCommand.class, command);
+        assertEquals("Invalid input", ((IncorrectCommand) command).getFeedbackToUser());
+    }
+}
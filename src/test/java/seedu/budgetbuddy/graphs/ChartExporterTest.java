@@ -0,0 +1,103 @@
+package seedu.budgetbuddy.graphs;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.knowm.xchart.PieChart;
+import seedu.budgetbuddy.transaction.Category;
+import seedu.budgetbuddy.transaction.expense.Expense;
+import seedu.budgetbuddy.transaction.expense.ExpenseManager;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ChartExporterTest {
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G'};
+
+    private Path directory;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("testChartExporter");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        File[] files = directory.toFile().listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        directory.toFile().delete();
+    }
+
+    @Test
+    public void export_monthlyExpensesChart_writesPngFile() throws IOException {
+        Map<YearMonth, Double> monthlyExpenses = Map.of(YearMonth.of(2024, 3), 120.5);
+
+        Path file = ChartExporter.export(ExpensesOverMonthGraph.chartBuilder(monthlyExpenses, 2024),
+                directory.resolve("reports"), "expenses-2024", ChartExporter.Format.PNG);
+
+        assertEquals(directory.resolve("reports").resolve("expenses-2024.png"), file);
+        assertPng(file);
+    }
+
+    @Test
+    public void exportAll_manyPieCharts_writesEveryFileInOrder() throws IOException {
+        Map<String, PieChart> pieCharts = new LinkedHashMap<>();
+        for (int month = 1; month <= 12; month++) {
+            YearMonth yearMonth = YearMonth.of(2024, month);
+            pieCharts.put("chart-" + yearMonth, ExpensesCategoryPieChart.pieChartBuilder(yearMonth,
+                    Map.of(Category.FOOD, 10.0 * month, Category.TRANSPORT, 5.0)));
+        }
+
+        List<Path> files = ChartExporter.exportAll(pieCharts, directory, ChartExporter.Format.PNG);
+
+        assertEquals(12, files.size());
+        for (int month = 1; month <= 12; month++) {
+            Path file = files.get(month - 1);
+            assertEquals(directory.resolve("chart-" + YearMonth.of(2024, month) + ".png"), file);
+            assertPng(file);
+        }
+    }
+
+    @Test
+    public void exportPieCharts_rangeWithExpenses_writesChartOfEachMonthWithExpenses() throws IOException {
+        Expense january = new Expense("Lunch", 12.5, LocalDate.parse("2031-01-15"), Category.FOOD);
+        Expense march = new Expense("Bus", 2, LocalDate.parse("2031-03-02"), Category.TRANSPORT);
+        ExpenseManager.addExpense(january);
+        ExpenseManager.addExpense(march);
+        try {
+            List<Path> files = ExpensesCategoryPieChart.exportPieCharts(YearMonth.of(2031, 1),
+                    YearMonth.of(2031, 4), directory, ChartExporter.Format.PNG);
+
+            assertEquals(List.of(directory.resolve("expenses-by-category-2031-01.png"),
+                    directory.resolve("expenses-by-category-2031-03.png")), files);
+            for (Path file : files) {
+                assertPng(file);
+            }
+        } finally {
+            ExpenseManager.deleteExpenseById(march.getId());
+            ExpenseManager.deleteExpenseById(january.getId());
+        }
+    }
+
+    private static void assertPng(Path file) throws IOException {
+        byte[] bytes = Files.readAllBytes(file);
+        assertTrue(bytes.length > PNG_SIGNATURE.length);
+        for (int i = 0; i < PNG_SIGNATURE.length; i++) {
+            assertEquals(PNG_SIGNATURE[i], bytes[i]);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package seedu.budgetbuddy.transaction;
+
+import org.junit.jupiter.api.Test;
+import seedu.budgetbuddy.transaction.expense.Expense;
+import seedu.budgetbuddy.transaction.income.Income;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TransactionColumnsTest {
+
+    @Test
+    public void rebuild_mixedTransactions_mirrorsEveryField() {
+        ArrayList<Transaction> transactions = new ArrayList<>();
+        transactions.add(new Expense("Lunch", 12.5, LocalDate.of(2024, 1, 31), Category.FOOD));
+        transactions.add(new Income("Salary", 3000, LocalDate.of(2024, 2, 1)));
+        TransactionColumns columns = new TransactionColumns();
+
+        columns.rebuild(transactions);
+
+        assertTrue(columns.isMirroring(transactions));
+        assertEquals(2, columns.size());
+        assertEquals(1250, columns.getCents(0));
+        assertEquals(LocalDate.of(2024, 1, 31).toEpochDay(), columns.getEpochDay(0));
+        assertEquals(TransactionColumns.toMonth(YearMonth.of(2024, 1)), columns.getMonth(0));
+        assertEquals(Category.FOOD.ordinal(), columns.getCategoryOrdinal(0));
+        assertEquals(TransactionColumns.NO_CATEGORY, columns.getCategoryOrdinal(1));
+        assertEquals(301250, columns.sumCents());
+        assertEquals(300000, columns.sumCents(YearMonth.of(2024, 2)));
+    }
+
+    @Test
+    public void addDeleteAndUpdate_manyTransactions_sameAsRebuildAfterCompacting() {
+        ArrayList<Expense> expenses = new ArrayList<>();
+        TransactionColumns columns = new TransactionColumns();
+        columns.rebuild(expenses);
+        for (int i = 0; i < 100; i++) {
+            Expense expense = new Expense("Bus", i, LocalDate.of(2024, 1, 1).plusDays(i), Category.TRANSPORT);
+            expenses.add(expense);
+            columns.add(expense);
+        }
+        columns.delete(0);
+        columns.delete(51);
+        assertEquals(2, columns.getNumberOfDeleted());
+        columns.compact(expenses);
+        assertEquals(98, expenses.size());
+        for (int i = 0; i < expenses.size(); i++) {
+            assertEquals(expenses.get(i).getId(), columns.getId(i));
+        }
+        expenses.get(10).editDate(LocalDate.of(2023, 12, 31));
+        columns.update(10, expenses.get(10));
+
+        TransactionColumns rebuiltColumns = new TransactionColumns();
+        rebuiltColumns.rebuild(expenses);
+        assertTrue(columns.isMirroring(expenses));
+        assertEquals(rebuiltColumns.size(), columns.size());
+        for (int i = 0; i < columns.size(); i++) {
+            assertEquals(rebuiltColumns.getCents(i), columns.getCents(i));
+            assertEquals(rebuiltColumns.getEpochDay(i), columns.getEpochDay(i));
+            assertEquals(rebuiltColumns.getMonth(i), columns.getMonth(i));
+        }
+        assertEquals(1100, columns.sumCents(YearMonth.of(2023, 12)));
+    }
+
+    @Test
+    public void delete_everyThirdTransaction_indexesSkipDeletedTransactions() {
+        ArrayList<Income> incomes = new ArrayList<>();
+        TransactionColumns columns = new TransactionColumns();
+        columns.rebuild(incomes);
+        for (int i = 0; i < 300; i++) {
+            Income income = new Income("Salary", 1, LocalDate.of(2024, 1, 1));
+            incomes.add(income);
+            columns.add(income);
+        }
+        ArrayList<Integer> livePositions = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            if (i % 3 == 0) {
+                columns.delete(i);
+            } else {
+                livePositions.add(i);
+            }
+        }
+        Income appended = new Income("Salary", 1, LocalDate.of(2024, 1, 1));
+        incomes.add(appended);
+        columns.add(appended);
+        livePositions.add(300);
+
+        assertEquals(100, columns.getNumberOfDeleted());
+        assertEquals(livePositions.size() * 100L, columns.sumCents());
+        for (int index = 0; index < livePositions.size(); index++) {
+            int position = livePositions.get(index);
+            assertEquals(position, columns.getPosition(index));
+            assertEquals(index, columns.getIndex(position));
+            assertEquals(position, columns.findPosition(incomes.get(position).getId()));
+        }
+        assertEquals(-1, columns.findPosition(incomes.get(3).getId()));
+        assertThrows(IndexOutOfBoundsException.class, () -> columns.getPosition(livePositions.size()));
+        assertFalse(columns.isWorthCompacting());
+    }
+
+    @Test
+    public void compact_halfDeleted_keepsIdsAndOrderOfRemainingTransactions() {
+        ArrayList<Income> incomes = new ArrayList<>();
+        TransactionColumns columns = new TransactionColumns();
+        columns.rebuild(incomes);
+        for (int i = 0; i < 200; i++) {
+            Income income = new Income("Salary", i, LocalDate.of(2024, 1, 1));
+            incomes.add(income);
+            columns.add(income);
+        }
+        for (int i = 0; i < 200; i += 2) {
+            columns.delete(i);
+        }
+        assertTrue(columns.isWorthCompacting());
+        Income remaining = incomes.get(199);
+
+        columns.compact(incomes);
+
+        assertTrue(columns.isMirroring(incomes));
+        assertEquals(0, columns.getNumberOfDeleted());
+        assertEquals(100, incomes.size());
+        assertSame(remaining, incomes.get(99));
+        assertEquals(99, columns.findPosition(remaining.getId()));
+        assertEquals(19900, columns.getCents(99));
+    }
+
+    @Test
+    public void isMirroring_resizedOrReplacedList_returnsFalse() {
+        ArrayList<Income> incomes = new ArrayList<>();
+        TransactionColumns columns = new TransactionColumns();
+        columns.rebuild(incomes);
+
+        incomes.add(new Income("Salary", 3000, LocalDate.of(2024, 2, 1)));
+
+        assertFalse(columns.isMirroring(incomes));
+        assertFalse(columns.isMirroring(new ArrayList<Income>()));
+    }
+
+    @Test
+    public void toYearMonth_monthNumber_returnsSameMonth() {
+        YearMonth month = YearMonth.of(2024, 12);
+        assertEquals(month, TransactionColumns.toYearMonth(TransactionColumns.toMonth(month)));
+        assertEquals(YearMonth.of(2025, 1), TransactionColumns.toYearMonth(TransactionColumns.toMonth(month) + 1));
+    }
+
+    @Test
+    public void newTransaction_repeatedDescription_sharesString() {
+        Income first = new Income(new String("Allowance"), 100, LocalDate.of(2024, 2, 1));
+        Income second = new Income(new String("Allowance"), 100, LocalDate.of(2024, 3, 1));
+        assertSame(first.getDescription(), second.getDescription());
+    }
+}
@@ -4,6 +4,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.time.YearMonth;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -96,4 +97,29 @@ public class BudgetManagerTest {
         assertEquals(0, BudgetManager.getNumberOfBudgets());
         assertTrue(BudgetManager.getBudgets().isEmpty());
     }
+
+    @Test
+    public void getLatestBudgets_budgetsAddedOutOfOrder_returnsLatestFirst() {
+        Budget march = new Budget(YearMonth.of(2024, 3));
+        Budget january = new Budget(YearMonth.of(2024, 1));
+        Budget february = new Budget(YearMonth.of(2024, 2));
+        BudgetManager.addBudget(march);
+        BudgetManager.addBudget(january);
+        BudgetManager.addBudget(february);
+
+        assertEquals(List.of(march, february), BudgetManager.getLatestBudgets(2));
+        assertEquals(List.of(march, february, january), BudgetManager.getBudgets());
+        assertEquals(List.of(january, february),
+                List.copyOf(BudgetManager.getBudgetsBetween(YearMonth.of(2023, 12), YearMonth.of(2024, 2))));
+    }
+
+    @Test
+    public void addBudget_monthWithBudget_replacesBudget() {
+        BudgetManager.addBudget(new Budget(YearMonth.of(2024, 4)));
+        Budget replacement = new Budget(YearMonth.of(2024, 4));
+        BudgetManager.addBudget(replacement);
+
+        assertEquals(1, BudgetManager.getNumberOfBudgets());
+        assertEquals(replacement, BudgetManager.getBudget(YearMonth.of(2024, 4)));
+    }
 }
@@ -6,6 +6,7 @@ import seedu.budgetbuddy.transaction.Category;
 import java.time.YearMonth;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class BudgetTest {
@@ -140,4 +141,27 @@ public class BudgetTest {
         budget.addAmount(Category.FOOD, 50); // Adding to existing category
         assertEquals(150.0, budget.getTotalMonthlyBudget());
     }
+
+    @Test
+    public void deductExpense_onCopy_leavesOriginalUnchanged() {
+        Budget original = new Budget(YearMonth.of(2024, 10));
+        original.addAmount(Category.FOOD, 100);
+        Budget copy = new Budget(original);
+        copy.deductExpense(Category.FOOD, 30);
+        copy.deductExpense(Category.TRANSPORT, 20);
+
+        assertEquals("Total Monthly Budget: 100.0  Date: 2024-10  Category: {FOOD=100.0}", original.toString());
+        assertEquals("Total Monthly Budget: 50.0  Date: 2024-10  Category: {FOOD=70.0, TRANSPORT=-20.0}",
+                copy.toString());
+    }
+
+    @Test
+    public void getCategoryBudgets_categoriesAddedOutOfOrder_returnsDeclarationOrder() {
+        Budget budget = new Budget(YearMonth.of(2024, 10));
+        budget.addAmount(Category.OTHERS, 10);
+        budget.addAmount(Category.FOOD, 20);
+
+        assertEquals("{FOOD=20.0, OTHERS=10.0}", budget.getCategoryBudgets().toString());
+        assertThrows(UnsupportedOperationException.class, () -> budget.getCategoryBudgets().clear());
+    }
 }
@@ -59,4 +59,18 @@ public class RemainingBudgetManagerTest {
         assertEquals("The remaining budget for 2024-10 in the EDUCATION category is: 480.0", result);
     }
 
+    @Test
+    public void getRemainingBudgets_changesAfterConstruction_reflectsCurrentState() {
+        ExpenseManager.removeExpense(1);
+        BudgetManager.getBudget(YearMonth.of(2024, 9)).addAmount(Category.OTHERS, 100);
+
+        String result = remainingBudgetManager.getRemainingBudgets(LocalDate.of(2024, 9, 25), Category.OTHERS);
+        assertEquals("The remaining budget for 2024-09 in the OTHERS category is: 400.0", result);
+    }
+
+    @Test
+    public void getRemainingBudgets_noBudgetOrExpense_noBudgetFound() {
+        String result = remainingBudgetManager.getRemainingBudgets(LocalDate.of(2024, 12, 1), Category.FOOD);
+        assertEquals("No budget found for 2024-12.", result);
+    }
 }
@@ -6,8 +6,13 @@ import seedu.budgetbuddy.transaction.Category;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.NavigableMap;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class ExpenseManagerTest {
 
@@ -50,6 +55,14 @@ class ExpenseManagerTest {
                 ExpenseManager.listExpensesWithCategoryAndDate(category, yearMonth));
     }
 
+    @Test
+    void getExpenseByIndex_indexOutsideList_returnsNull() {
+        initializeTestContent();
+
+        assertNull(ExpenseManager.getExpenseByIndex(ExpenseManager.getNumberOfExpenses()));
+        assertNull(ExpenseManager.getExpenseByIndex(-1));
+    }
+
     @Test
     void displayExpensesWithCategoryAndDate_incorrectCategory_expectEmptyDisplayString() {
         Category category = Category.TRANSPORT;
@@ -171,4 +184,218 @@ class ExpenseManagerTest {
         YearMonth yearMonth = YearMonth.of(2024, 2);
         assertEquals(0.0, ExpenseManager.getMonthlyExpense(yearMonth));
     }
+
+    @Test
+    void editExpense_changedMonthAndCategory_movesExpenseInListOrder(){
+        initializeTestContent();
+        Expense bus = new Expense("Bus", 2, LocalDate.parse("2024-03-01"), Category.TRANSPORT);
+        Expense lunch = new Expense("Lunch", 5, LocalDate.parse("2024-03-02"), Category.FOOD);
+        ExpenseManager.addExpense(bus);
+        ExpenseManager.addExpense(lunch);
+
+        ExpenseManager.editExpense(ExpenseManager.getExpenseByIndex(0), Category.TRANSPORT,
+                LocalDate.parse("2024-03-05"), -1);
+
+        assertEquals(0.0, ExpenseManager.getMonthlyExpense(YearMonth.of(2024, 2)));
+        assertEquals(19.0, ExpenseManager.getMonthlyExpense(YearMonth.of(2024, 3)));
+        assertEquals("New Food", ExpenseManager.getExpensesInMonth(YearMonth.of(2024, 3)).get(0).getDescription());
+        assertEquals(List.of(ExpenseManager.getExpenseByIndex(0), bus),
+                ExpenseManager.getExpensesWithCategory(Category.TRANSPORT));
+        assertEquals(List.of(lunch), ExpenseManager.getExpensesWithCategory(Category.FOOD));
+    }
+
+    @Test
+    void removeExpense_lastExpenseOfMonth_removesMonthFromRange(){
+        initializeTestContent();
+        ExpenseManager.addExpense(new Expense("Bus", 2, LocalDate.parse("2024-04-01"), Category.TRANSPORT));
+
+        assertEquals(List.of(YearMonth.of(2024, 2), YearMonth.of(2024, 4)), List.copyOf(
+                ExpenseManager.getExpensesBetween(YearMonth.of(2024, 1), YearMonth.of(2024, 12)).keySet()));
+        ExpenseManager.removeExpense(0);
+        assertEquals(List.of(YearMonth.of(2024, 4)), List.copyOf(
+                ExpenseManager.getExpensesBetween(YearMonth.of(2024, 1), YearMonth.of(2024, 12)).keySet()));
+        assertEquals(EMPTY_DISPLAY_STRING, ExpenseManager.listExpensesWithCategory(Category.FOOD));
+    }
+
+    @Test
+    void listExpensesWithDate_listChangedWithoutManager_expectCurrentExpenses(){
+        initializeTestContent();
+        ExpenseManager.getExpenses().clear();
+        assertEquals(EMPTY_DISPLAY_STRING, ExpenseManager.listExpensesWithDate(YearMonth.of(2024, 2)));
+    }
+
+    @Test
+    void editExpense_expenseNotInManager_notCountedAsChange(){
+        initializeTestContent();
+        Expense unmanaged = new Expense("Bus", 2, LocalDate.parse("2024-02-01"), Category.TRANSPORT);
+        int modificationCount = ExpenseManager.getModificationCount();
+
+        ExpenseManager.editExpense(unmanaged, null, null, 3);
+
+        assertEquals(3.0, unmanaged.getAmount());
+        assertEquals(modificationCount, ExpenseManager.getModificationCount());
+        ExpenseManager.editExpense(ExpenseManager.getExpenseByIndex(0), null, null, 3);
+        assertEquals(modificationCount + 1, ExpenseManager.getModificationCount());
+    }
+
+    @Test
+    void editExpense_changedAmount_updatesTotals(){
+        initializeTestContent();
+        ExpenseManager.addExpense(new Expense("Bus", 2, LocalDate.parse("2024-02-01"), Category.TRANSPORT));
+
+        ExpenseManager.editExpense(ExpenseManager.getExpenseByIndex(1), null, null, 3);
+
+        assertEquals(15.0, ExpenseManager.getMonthlyExpense(YearMonth.of(2024, 2)));
+        assertEquals(3.0, ExpenseManager.getMonthlyExpense(YearMonth.of(2024, 2), Category.TRANSPORT));
+        assertEquals(1, ExpenseManager.getNumberOfExpenses(YearMonth.of(2024, 2), Category.TRANSPORT));
+        assertEquals("Total expenses: 15.0\nFood: 12.0(80.00%)\nTransport: 3.0(20.00%)\nUtilities:" +
+                " 0.0(0.00%)\nEntertainment: 0.0(0.00%)\nEducation: 0.0(0.00%)\nOthers: 0.0(0.00%)\n",
+                ExpenseManager.breakdownExpensesByCategory());
+    }
+
+    @Test
+    void removeExpense_lastExpenseOfCategory_resetsTotalToZero(){
+        initializeTestContent();
+        ExpenseManager.addExpense(new Expense("Bus", 0.1, LocalDate.parse("2024-02-01"), Category.TRANSPORT));
+        ExpenseManager.addExpense(new Expense("Train", 0.2, LocalDate.parse("2024-02-02"), Category.TRANSPORT));
+
+        ExpenseManager.removeExpense(2);
+        ExpenseManager.removeExpense(1);
+
+        assertEquals(0.0, ExpenseManager.getMonthlyExpense(YearMonth.of(2024, 2), Category.TRANSPORT));
+        assertEquals(0, ExpenseManager.getNumberOfExpenses(YearMonth.of(2024, 2), Category.TRANSPORT));
+        assertEquals(12.0, ExpenseManager.getMonthlyExpense(YearMonth.of(2024, 2)));
+    }
+
+    @Test
+    void getMonthlyExpense_manySmallAmounts_sumIsExact(){
+        initializeTestContent();
+        ExpenseManager.getExpenses().clear();
+        for (int i = 0; i < 1000; i++) {
+            ExpenseManager.addExpense(new Expense("Sweet", 0.1, LocalDate.parse("2024-03-01"), Category.FOOD));
+        }
+
+        assertEquals(100.0, ExpenseManager.getMonthlyExpense(YearMonth.of(2024, 3)));
+        assertEquals(10000, ExpenseManager.getMonthlyExpenseInCents(YearMonth.of(2024, 3), Category.FOOD));
+        assertEquals("Total expenses: 100.0\nFood: 100.0(100.00%)\nTransport: 0.0(0.00%)\nUtilities:" +
+                " 0.0(0.00%)\nEntertainment: 0.0(0.00%)\nEducation: 0.0(0.00%)\nOthers: 0.0(0.00%)\n",
+                ExpenseManager.breakdownExpensesByCategory());
+    }
+
+    @Test
+    void searchExpense_andOrKeywords_expectMatchesInListOrder(){
+        initializeTestContent();
+        ExpenseManager.getExpenses().clear();
+        ExpenseManager.addExpense(new Expense("Japan train", 30, LocalDate.parse("2024-02-01"), Category.TRANSPORT));
+        ExpenseManager.addExpense(new Expense("Taxi", 15, LocalDate.parse("2024-02-02"), Category.TRANSPORT));
+        ExpenseManager.addExpense(new Expense("Japan food", 20, LocalDate.parse("2024-02-03"), Category.FOOD));
+        ExpenseManager.addExpense(new Expense("japan TRAIN", 40, LocalDate.parse("2024-02-04"), Category.TRANSPORT));
+        ExpenseManager.removeExpense(0);
+
+        assertEquals("1. Description: Taxi  Amount: 15.0  Date: 2024-02-02  Category: TRANSPORT\n"
+                + "2. Description: japan TRAIN  Amount: 40.0  Date: 2024-02-04  Category: TRANSPORT\n",
+                ExpenseManager.searchExpenses("japan AND train OR taxi"));
+        assertEquals(EMPTY_DISPLAY_STRING, ExpenseManager.searchExpenses("japan AND taxi"));
+        assertEquals("1. Description: Japan food  Amount: 20.0  Date: 2024-02-03  Category: FOOD\n",
+                ExpenseManager.searchExpenses("n f"));
+    }
+
+    @Test
+    void searchExpense_manyExpenses_sameAsScan(){
+        initializeTestContent();
+        ExpenseManager.getExpenses().clear();
+        String[] descriptions = {"Lunch", "lunch box", "Dinner", "Bus to NUS", "Chicken rice", "Nasi lemak"};
+        for (int i = 0; i < 60; i++) {
+            ExpenseManager.loadExpense(new Expense(descriptions[i * 7 % descriptions.length], i,
+                    LocalDate.parse("2024-02-01"), Category.FOOD));
+        }
+        for (int i = 0; i < 10; i++) {
+            ExpenseManager.removeExpense(i * 3);
+        }
+        for (String keyword : new String[] {"lunch", "N", "us", "ice", "e r", "xyz", "Lunch OR rice"}) {
+            StringBuilder expected = new StringBuilder();
+            int counter = 1;
+            for (Expense expense : ExpenseManager.getExpenses()) {
+                String description = expense.getDescription().toLowerCase();
+                boolean isOrMatch = keyword.contains(" OR ")
+                        && (description.contains("lunch") || description.contains("rice"));
+                if (description.contains(keyword.toLowerCase()) || isOrMatch) {
+                    expected.append(counter++).append(". ").append(expense).append('\n');
+                }
+            }
+            String expectedString = counter == 1 ? EMPTY_DISPLAY_STRING : expected.toString();
+            assertEquals(expectedString, ExpenseManager.searchExpenses(keyword), keyword);
+        }
+    }
+
+    @Test
+    void removeExpense_manyExpensesAtSameIndex_laterExpensesKeepTheirOrder(){
+        initializeTestContent();
+        ExpenseManager.reset();
+        for (int i = 0; i < 300; i++) {
+            ExpenseManager.loadExpense(new Expense("Bus " + i, i, LocalDate.parse("2024-05-01"),
+                    Category.TRANSPORT));
+        }
+        for (int i = 0; i < 200; i++) {
+            ExpenseManager.removeExpense(50);
+        }
+
+        assertEquals(100, ExpenseManager.getNumberOfExpenses());
+        assertEquals("Bus 49", ExpenseManager.getExpenseByIndex(49).getDescription());
+        assertEquals("Bus 250", ExpenseManager.getExpenseByIndex(50).getDescription());
+        assertEquals(100, ExpenseManager.getExpensesInMonth(YearMonth.of(2024, 5)).size());
+        assertEquals(100, ExpenseManager.getExpenses().size());
+        assertEquals("Bus 299", ExpenseManager.getExpenses().get(99).getDescription());
+    }
+
+    @Test
+    void deleteExpenseById_earlierExpenseDeleted_deletesSameExpense(){
+        initializeTestContent();
+        ExpenseManager.reset();
+        Expense bus = new Expense("Bus", 2, LocalDate.parse("2024-05-01"), Category.TRANSPORT);
+        ExpenseManager.addExpense(new Expense("Lunch", 5, LocalDate.parse("2024-05-01"), Category.FOOD));
+        ExpenseManager.addExpense(bus);
+        ExpenseManager.addExpense(new Expense("Train", 3, LocalDate.parse("2024-05-02"), Category.TRANSPORT));
+        long busId = bus.getId();
+
+        ExpenseManager.removeExpense(0);
+        ExpenseManager.deleteExpenseById(busId);
+
+        assertEquals(1, ExpenseManager.getNumberOfExpenses());
+        assertEquals("Train", ExpenseManager.getExpenseByIndex(0).getDescription());
+        assertEquals(3.0, ExpenseManager.getMonthlyExpense(YearMonth.of(2024, 5)));
+        assertThrows(IllegalArgumentException.class, () -> ExpenseManager.deleteExpenseById(busId));
+    }
+
+    @Test
+    void getMonthlyExpensesByCategoryInCents_range_everyCategoryOfEachMonthWithExpenses(){
+        initializeTestContent();
+        ExpenseManager.reset();
+        ExpenseManager.addExpense(new Expense("Lunch", 4.5, LocalDate.parse("2023-03-01"), Category.FOOD));
+        ExpenseManager.addExpense(new Expense("Dinner", 5.5, LocalDate.parse("2023-03-09"), Category.FOOD));
+        ExpenseManager.addExpense(new Expense("Bus", 2, LocalDate.parse("2023-05-01"), Category.TRANSPORT));
+        ExpenseManager.addExpense(new Expense("Movie", 12, LocalDate.parse("2023-08-01"), Category.ENTERTAINMENT));
+
+        NavigableMap<YearMonth, EnumMap<Category, Long>> sums =
+                ExpenseManager.getMonthlyExpensesByCategoryInCents(YearMonth.of(2023, 1), YearMonth.of(2023, 6));
+
+        assertEquals(List.of(YearMonth.of(2023, 3), YearMonth.of(2023, 5)), List.copyOf(sums.keySet()));
+        assertEquals(1000L, (long) sums.get(YearMonth.of(2023, 3)).get(Category.FOOD));
+        assertEquals(0L, (long) sums.get(YearMonth.of(2023, 3)).get(Category.TRANSPORT));
+        assertEquals(200L, (long) sums.get(YearMonth.of(2023, 5)).get(Category.TRANSPORT));
+        assertEquals(Category.values().length, sums.get(YearMonth.of(2023, 5)).size());
+        assertEquals(sums.get(YearMonth.of(2023, 3)),
+                ExpenseManager.getMonthlyExpensesByCategoryInCents(YearMonth.of(2023, 3)));
+        EnumMap<Category, Long> emptyMonth = ExpenseManager.getMonthlyExpensesByCategoryInCents(YearMonth.of(2023, 4));
+        assertEquals(0L, (long) emptyMonth.get(Category.FOOD));
+    }
+
+    @Test
+    public void expenseTotals_sumOverflows_throwsInsteadOfWrapping() {
+        ExpenseTotals totals = new ExpenseTotals();
+        YearMonth month = YearMonth.of(2031, 6);
+        totals.add(month, Category.FOOD, Long.MAX_VALUE - 1);
+
+        assertThrows(ArithmeticException.class, () -> totals.add(month, Category.FOOD, 2));
+    }
 }
@@ -2,12 +2,17 @@ package seedu.budgetbuddy.transaction.income;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import seedu.budgetbuddy.transaction.Category;
+import seedu.budgetbuddy.transaction.expense.Expense;
+import seedu.budgetbuddy.transaction.expense.ExpenseManager;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class IncomeManagerTest {
@@ -44,6 +49,29 @@ class IncomeManagerTest {
         assertTrue(incomeManager.getIncomes().isEmpty());
     }
 
+    @Test
+    void deleteIncomeById_earlierIncomeDeleted_deletesSameIncome() {
+        Income bonus = new Income("Bonus", 1000, LocalDate.of(2024, 10, 15));
+        incomeManager.addIncome(new Income("Salary", 5000, LocalDate.of(2024, 10, 1)));
+        incomeManager.addIncome(bonus);
+        incomeManager.addIncome(new Income("Allowance", 200, LocalDate.of(2024, 10, 20)));
+
+        incomeManager.removeIncome(0);
+        incomeManager.deleteIncomeById(bonus.getId());
+
+        assertEquals(1, incomeManager.getNumberOfIncomes());
+        assertEquals("Allowance", incomeManager.getIncomeByIndex(0).getDescription());
+        assertEquals(200.0, incomeManager.getMonthlyIncome(YearMonth.of(2024, 10)));
+    }
+
+    @Test
+    void getIncomeByIndex_indexOutsideList_returnsNull() {
+        incomeManager.addIncome(new Income("Salary", 5000, LocalDate.of(2024, 10, 1)));
+
+        assertNull(incomeManager.getIncomeByIndex(1));
+        assertNull(incomeManager.getIncomeByIndex(-1));
+    }
+
     @Test
     void listIncomes_withIncomes_displaysIncomes() {
         Income income1 = new Income("Salary", 5000, LocalDate.of(2024, 10, 1));
@@ -64,6 +92,56 @@ class IncomeManagerTest {
         // assert the UI displays the empty message
     }
 
+    @Test
+    void editIncome_changedMonthAndAmount_movesIncomeToNewMonthTotal() {
+        Income salary = new Income("Salary", 5000, LocalDate.of(2024, 10, 1));
+        incomeManager.addIncome(salary);
+        incomeManager.addIncome(new Income("Bonus", 1000, LocalDate.of(2024, 10, 15)));
+        incomeManager.addIncome(new Income("Allowance", 0.1, LocalDate.of(2024, 11, 3)));
+
+        IncomeManager.editIncome(salary, LocalDate.of(2024, 11, 30), 4000.2);
+
+        assertEquals(1000.0, IncomeManager.getMonthlyIncome(YearMonth.of(2024, 10)));
+        assertEquals(400030, IncomeManager.getMonthlyIncomeInCents(YearMonth.of(2024, 11)));
+        assertEquals(List.of(YearMonth.of(2024, 10), YearMonth.of(2024, 11)),
+                List.copyOf(IncomeManager.getMonthlyIncomesInCents().keySet()));
+
+        IncomeManager.removeIncome(1);
+
+        assertEquals(0, IncomeManager.getMonthlyIncomeInCents(YearMonth.of(2024, 10)));
+        assertEquals(List.of(YearMonth.of(2024, 11)), List.copyOf(IncomeManager.getMonthlyIncomesInCents().keySet()));
+    }
+
+    @Test
+    void calculateSpentPercentage_incomeAndExpenseInMonth_returnsRatioOfMonthlyTotals() {
+        ExpenseManager.reset();
+        incomeManager.addIncome(new Income("Salary", 300, LocalDate.of(2024, 7, 1)));
+        incomeManager.addIncome(new Income("Salary", 999, LocalDate.of(2024, 8, 1)));
+        ExpenseManager.addExpense(new Expense("Lunch", 60.3, LocalDate.of(2024, 7, 2), Category.FOOD));
+        ExpenseManager.addExpense(new Expense("Dinner", 14.7, LocalDate.of(2024, 7, 2), Category.FOOD));
+
+        assertEquals(25.0, IncomeSpent.calculateSpentPercentage(YearMonth.of(2024, 7)));
+        assertEquals("Percentage of income spent for 2024-08: 0.0%", IncomeSpent.toString(YearMonth.of(2024, 8)));
+        ExpenseManager.reset();
+    }
+
+    @Test
+    void toString_rangeOfMonths_returnsPercentageOfEachMonthWithTransactions() {
+        ExpenseManager.reset();
+        incomeManager.addIncome(new Income("Salary", 200, LocalDate.of(2024, 1, 1)));
+        incomeManager.addIncome(new Income("Salary", 400, LocalDate.of(2024, 3, 1)));
+        incomeManager.addIncome(new Income("Salary", 999, LocalDate.of(2024, 5, 1)));
+        ExpenseManager.addExpense(new Expense("Lunch", 50, LocalDate.of(2024, 1, 2), Category.FOOD));
+        ExpenseManager.addExpense(new Expense("Bus", 5, LocalDate.of(2024, 2, 2), Category.TRANSPORT));
+        ExpenseManager.addExpense(new Expense("Lunch", 100, LocalDate.of(2024, 3, 2), Category.FOOD));
+
+        assertEquals("Percentage of income spent for 2024-01: 25.0%\n"
+                + "No income recorded for the month: 2024-02\n"
+                + "Percentage of income spent for 2024-03: 25.0%",
+                IncomeSpent.toString(YearMonth.of(2024, 1), YearMonth.of(2024, 4)));
+        ExpenseManager.reset();
+    }
+
     @Test
     void getYearMonthFromDate_validDate_returnsCorrectYearMonth() {
         LocalDate date = LocalDate.of(2024, 10, 1);
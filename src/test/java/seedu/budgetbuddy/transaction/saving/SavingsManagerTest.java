@@ -70,4 +70,17 @@ public class SavingsManagerTest {
         initializeTestContent(false, false);
         assertEquals("Savings in 2024-10: 900.00", SavingsManager.displayTotalSavingsByMonth());
     }
+
+    @Test
+    void displayTotalSavingsByMonth_monthsOutOfOrder_expectSavingsInChronologicalOrder(){
+        initializeTestContent(false, false);
+        incomeManager.addIncome(new Income("allowance", 50, LocalDate.parse("2023-12-01")));
+        expenseManager.addExpense(new Expense("Bus", 20.5, LocalDate.parse("2025-01-02"), Category.TRANSPORT));
+        incomeManager.addIncome(new Income("allowance", 0.1, LocalDate.parse("2025-01-03")));
+        expenseManager.addExpense(new Expense("Lunch", 10, LocalDate.parse("2023-12-05"), Category.FOOD));
+        IncomeManager.removeIncome(0);
+
+        assertEquals("Savings in 2023-12: 40.00\nSavings in 2024-10: -100.00\nSavings in 2025-01: -20.40",
+                SavingsManager.displayTotalSavingsByMonth());
+    }
 }
@@ -0,0 +1,74 @@
+package seedu.budgetbuddy.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class DateCodecTest {
+
+    private static Object parseOrError(String text, boolean isInput) {
+        try {
+            return isInput ? DateCodec.parseInputDate(text) : DateCodec.parseStorageDate(text);
+        } catch (DateTimeException e) {
+            return "error";
+        }
+    }
+
+    private static Object parseWithFormatter(String text, boolean isInput) {
+        try {
+            return LocalDate.parse(text, isInput ? DateCodec.INPUT_DATE : DateCodec.STORAGE_DATE);
+        } catch (DateTimeException e) {
+            return "error";
+        }
+    }
+
+    @Test
+    public void parseDates_sameResultAsFormatters() {
+        String[] years = {"2024", "2023", "0999", "0000", "999", "12024", "+2024", "20a4"};
+        for (String year : years) {
+            for (int month = 0; month <= 13; month++) {
+                for (int day = 0; day <= 32; day++) {
+                    for (String text : new String[] {day + "/" + month + "/" + year,
+                        String.format("%02d/%02d/%s", day, month, year), String.format("%03d/%d/%s", day, month, year)}) {
+                        assertEquals(parseWithFormatter(text, false), parseOrError(text, false), text);
+                        assertEquals(parseWithFormatter(text, true), parseOrError(text, true), text);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void parseStorageDate_dayPastEndOfMonth_adjustedLikeFormatter() {
+        assertEquals(LocalDate.of(2024, 4, 30), DateCodec.parseStorageDate("31/4/2024"));
+        assertThrows(DateTimeParseException.class, () -> DateCodec.parseInputDate("31/4/2024"));
+        assertThrows(DateTimeParseException.class, () -> DateCodec.parseStorageDate("1/1/2024 "));
+    }
+
+    @Test
+    public void parseMonths_sameResultAsFormatters() {
+        assertEquals(YearMonth.of(2024, 10), DateCodec.parseStorageMonth("2024-10"));
+        assertEquals(YearMonth.of(2024, 1), DateCodec.parseInputMonth("01/2024"));
+        assertThrows(DateTimeParseException.class, () -> DateCodec.parseStorageMonth("2024-13"));
+        assertThrows(DateTimeParseException.class, () -> DateCodec.parseInputMonth("1/2024"));
+        assertThrows(DateTimeParseException.class, () -> DateCodec.parseInputMonth("00/2024"));
+    }
+
+    @Test
+    public void formatDates_sameResultAsFormatters() {
+        LocalDate[] dates = {LocalDate.of(2024, 1, 5), LocalDate.of(1999, 12, 31), LocalDate.of(999, 3, 4),
+            LocalDate.of(12024, 6, 7)};
+        for (LocalDate date : dates) {
+            assertEquals(date.format(DateCodec.STORAGE_DATE), DateCodec.formatStorageDate(date));
+            YearMonth month = YearMonth.from(date);
+            assertEquals(month.format(DateCodec.STORAGE_MONTH), DateCodec.formatStorageMonth(month));
+        }
+        assertEquals("October 2024", DateCodec.formatDisplayMonth(YearMonth.of(2024, 10)));
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.budgetbuddy.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MoneyTest {
+
+    @Test
+    public void parseCents_plainAmounts_parsedExactly() {
+        assertEquals(1200, Money.parseCents("12"));
+        assertEquals(1250, Money.parseCents("12.5"));
+        assertEquals(1234, Money.parseCents("12.34"));
+        assertEquals(5, Money.parseCents("0.05"));
+        assertEquals(0, Money.parseCents("0"));
+    }
+
+    @Test
+    public void parseCents_otherForms_sameAsParseDouble() {
+        String[] texts = {"-5", "-0.5", "1.005", "12.345", ".5", "5.", "1e3", "+7", "00012.30", "0.1"};
+        for (String text : texts) {
+            assertEquals(Math.round(Double.parseDouble(text) * 100), Money.parseCents(text), text);
+        }
+    }
+
+    @Test
+    public void parseCents_invalidAmounts_throwsNumberFormatException() {
+        for (String text : new String[] {"", "abc", "1.2.3", "NaN", "Infinity", "12a"}) {
+            assertThrows(NumberFormatException.class, () -> Money.parseCents(text));
+        }
+    }
+
+    @Test
+    public void toAmount_cents_sameAsParsedDouble() {
+        for (long cents = -1000; cents <= 100000; cents++) {
+            assertEquals(Double.parseDouble(String.format("%.2f", cents / 100.0)), Money.toAmount(cents));
+            assertEquals(cents, Money.toCents(Money.toAmount(cents)));
+        }
+    }
+
+    @Test
+    public void format_cents_sameAsStringFormat() {
+        for (long cents = -1000; cents <= 100000; cents++) {
+            assertEquals(String.format("%.2f", cents / 100.0), Money.format(cents), String.valueOf(cents));
+        }
+    }
+
+    @Test
+    public void parseCents_amountsAboveMaximum_throwsNumberFormatException() {
+        assertEquals(Money.MAX_CENTS, Money.parseCents("1000000000"));
+        assertEquals(-Money.MAX_CENTS, Money.parseCents("-1000000000.00"));
+        for (String text : new String[] {"1000000000.01", "99999999999999999", "1e17", "-1e12"}) {
+            assertThrows(NumberFormatException.class, () -> Money.parseCents(text));
+        }
+        assertThrows(IllegalArgumentException.class, () -> Money.toCents(9e16));
+    }
+}
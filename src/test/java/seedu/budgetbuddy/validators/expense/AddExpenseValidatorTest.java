@@ -78,5 +78,13 @@ class AddExpenseValidatorTest {
         assertEquals(LocalDate.of(2024, 10, 12), command.getDate());
         assertEquals(Category.FOOD, command.getCategory());
     }
-}
 
+    @Test
+    void processCommand_amountAboveMaximum_returnsIncorrectCommand() {
+        Command result = AddExpenseValidator.processCommand("add expense Lunch a/99999999999999999 c/FOOD");
+
+        assertTrue(result instanceof IncorrectCommand);
+        String message = ((IncorrectCommand) result).getFeedbackToUser();
+        assertEquals("Invalid amount format. Amount should be a positive number.", message);
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.budgetbuddy.validators.expense;
+
+import org.junit.jupiter.api.Test;
+import seedu.budgetbuddy.commands.Command;
+import seedu.budgetbuddy.commands.IncorrectCommand;
+import seedu.budgetbuddy.commands.expense.ExportExpensesWithCategoriesGraphCommand;
+import seedu.budgetbuddy.graphs.ChartExporter;
+
+import java.time.YearMonth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+public class ExportExpensesWithCategoriesValidatorTest {
+
+    @Test
+    public void processCommand_validRange_returnsPngExportCommand() {
+        Command result = ExportExpensesWithCategoriesValidator.processCommand(
+                "export expenses with categories from/01/2024 to/12/2024");
+
+        assertInstanceOf(ExportExpensesWithCategoriesGraphCommand.class, result);
+        ExportExpensesWithCategoriesGraphCommand exportCommand = (ExportExpensesWithCategoriesGraphCommand) result;
+        assertEquals(YearMonth.of(2024, 1), exportCommand.getStartMonth());
+        assertEquals(YearMonth.of(2024, 12), exportCommand.getEndMonth());
+        assertEquals(ChartExporter.Format.PNG, exportCommand.getFormat());
+    }
+
+    @Test
+    public void processCommand_svgFormat_returnsSvgExportCommand() {
+        Command result = ExportExpensesWithCategoriesValidator.processCommand(
+                "export expenses with categories from/09/2024 to/10/2024 f/SVG");
+
+        assertInstanceOf(ExportExpensesWithCategoriesGraphCommand.class, result);
+        assertEquals(ChartExporter.Format.SVG, ((ExportExpensesWithCategoriesGraphCommand) result).getFormat());
+    }
+
+    @Test
+    public void processCommand_missingEndMonth_returnsIncorrectCommand() {
+        Command result = ExportExpensesWithCategoriesValidator.processCommand(
+                "export expenses with categories from/01/2024");
+
+        assertInstanceOf(IncorrectCommand.class, result);
+        assertEquals("Give both months of the range: from/MM/yyyy to/MM/yyyy.",
+                ((IncorrectCommand) result).getFeedbackToUser());
+    }
+
+    @Test
+    public void processCommand_startAfterEnd_returnsIncorrectCommand() {
+        Command result = ExportExpensesWithCategoriesValidator.processCommand(
+                "export expenses with categories from/12/2024 to/01/2024");
+
+        assertInstanceOf(IncorrectCommand.class, result);
+        assertEquals("The start month cannot be after the end month.",
+                ((IncorrectCommand) result).getFeedbackToUser());
+    }
+
+    @Test
+    public void processCommand_unknownFormat_returnsIncorrectCommand() {
+        Command result = ExportExpensesWithCategoriesValidator.processCommand(
+                "export expenses with categories from/01/2024 to/02/2024 f/pdf");
+
+        assertInstanceOf(IncorrectCommand.class, result);
+        assertEquals("Invalid format. Use f/png or f/svg.", ((IncorrectCommand) result).getFeedbackToUser());
+    }
+}
@@ -88,5 +88,43 @@ public class DisplayIncomeSpentValidatorTest {
         });
         assertTrue(thrown.getMessage().contains("No income recorded for the month: 2024-11"));
     }
+
+    @Test
+    public void processCommand_validRange_returnsCommandForRange() throws BudgetBuddyException {
+        IncomeManager.addIncome(new Income("Salary", 2000.0, LocalDate.of(2024, 11, 5)));
+
+        Command command = DisplayIncomeSpentValidator.processCommand("display income spent from/01/2024 to/12/2024");
+
+        assertTrue(command instanceof DisplayIncomeSpentCommand);
+        DisplayIncomeSpentCommand displayCommand = (DisplayIncomeSpentCommand) command;
+        assertEquals(YearMonth.of(2024, 1), displayCommand.getMonth());
+        assertEquals(YearMonth.of(2024, 12), displayCommand.getEndMonth());
+    }
+
+    @Test
+    public void processCommand_startAfterEnd_throwsBudgetBuddyException() {
+        BudgetBuddyException thrown = assertThrows(BudgetBuddyException.class, () -> {
+            DisplayIncomeSpentValidator.processCommand("display income spent from/12/2024 to/01/2024");
+        });
+        assertTrue(thrown.getMessage().contains("The start month cannot be after the end month."));
+    }
+
+    @Test
+    public void processCommand_rangeWithoutEnd_throwsBudgetBuddyException() {
+        BudgetBuddyException thrown = assertThrows(BudgetBuddyException.class, () -> {
+            DisplayIncomeSpentValidator.processCommand("display income spent from/01/2024");
+        });
+        assertTrue(thrown.getMessage().contains("from/MM/yyyy to/MM/yyyy"));
+    }
+
+    @Test
+    public void processCommand_noIncomeInRange_throwsBudgetBuddyException() {
+        IncomeManager.addIncome(new Income("Salary", 2000.0, LocalDate.of(2024, 11, 5)));
+
+        BudgetBuddyException thrown = assertThrows(BudgetBuddyException.class, () -> {
+            DisplayIncomeSpentValidator.processCommand("display income spent from/01/2023 to/12/2023");
+        });
+        assertTrue(thrown.getMessage().contains("No income recorded from 2023-01 to 2023-12"));
+    }
 }
 